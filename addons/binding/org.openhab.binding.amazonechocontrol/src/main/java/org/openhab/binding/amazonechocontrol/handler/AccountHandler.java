@@ -58,6 +58,11 @@ import com.google.gson.JsonSyntaxException;
 @NonNullByDefault
 public class AccountHandler extends BaseBridgeHandler {
 
+    // Polling interval for echo devices which are currently playing
+    private static final int PLAYING_POLLING_INTERVAL_SECONDS = 10;
+    // Maximum delay between the player state requests of two echo devices
+    private static final long MAX_STAGGER_DELAY_MILLIS = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(AccountHandler.class);
     private Storage<String> stateStorage;
     private @Nullable Connection connection;
@@ -67,6 +72,8 @@ public class AccountHandler extends BaseBridgeHandler {
     private Map<String, Device> jsonSerialNumberDeviceMapping = new HashMap<>();
     private @Nullable ScheduledFuture<?> refreshJob;
     private @Nullable ScheduledFuture<?> refreshLogin;
+    private @Nullable ScheduledFuture<?> refreshPlayingJob;
+    private int pollingIntervalInSeconds = 30;
     private String currentFlashBriefingJson = "";
     private final HttpService httpService;
     private @Nullable AccountServlet accountServlet;
@@ -108,6 +115,7 @@ public class AccountHandler extends BaseBridgeHandler {
                     "Polling interval less than 10 seconds not allowed");
             return;
         }
+        this.pollingIntervalInSeconds = pollingIntervalInSeconds;
         synchronized (synchronizeConnection) {
             Connection connection = this.connection;
             if (connection == null || !connection.getEmail().equals(email) || !connection.getPassword().equals(password)
@@ -123,6 +131,8 @@ public class AccountHandler extends BaseBridgeHandler {
 
         refreshLogin = scheduler.scheduleWithFixedDelay(this::checkLogin, 0, 60, TimeUnit.SECONDS);
         refreshJob = scheduler.scheduleWithFixedDelay(this::refreshData, 4, pollingIntervalInSeconds, TimeUnit.SECONDS);
+        refreshPlayingJob = scheduler.scheduleWithFixedDelay(this::refreshPlayingEchoHandlers,
+                PLAYING_POLLING_INTERVAL_SECONDS, PLAYING_POLLING_INTERVAL_SECONDS, TimeUnit.SECONDS);
 
         logger.debug("amazon account bridge handler started.");
     }
@@ -250,6 +260,12 @@ public class AccountHandler extends BaseBridgeHandler {
             refreshLogin.cancel(true);
             this.refreshLogin = null;
         }
+        @Nullable
+        ScheduledFuture<?> refreshPlayingJob = this.refreshPlayingJob;
+        if (refreshPlayingJob != null) {
+            refreshPlayingJob.cancel(true);
+            this.refreshPlayingJob = null;
+        }
         Connection connection = this.connection;
         if (connection != null) {
             connection.logout();
@@ -356,6 +372,10 @@ public class AccountHandler extends BaseBridgeHandler {
         updateDeviceList();
         updateFlashBriefingHandlers();
         updateStatus(ThingStatus.ONLINE);
+        Connection connection = this.connection;
+        if (connection != null) {
+            refreshEchoHandlers(connection);
+        }
     }
 
     // used to set a valid connection from the web proxy login
@@ -388,26 +408,14 @@ public class AccountHandler extends BaseBridgeHandler {
             updateDeviceList();
             updateFlashBriefingHandlers();
 
-            // update bluetooth states
-            JsonBluetoothStates states = null;
-            if (currentConnection.getIsLoggedIn()) {
-                states = currentConnection.getBluetoothConnectionStates();
-            }
-
-            // forward device information to echo handler
-            for (EchoHandler child : echoHandlers) {
-                Device device = findDeviceJson(child);
-                BluetoothState state = null;
-                if (states != null) {
-                    state = states.findStateByDevice(device);
-                }
-                child.updateState(device, state);
-            }
+            // update the state of the echo devices
+            refreshEchoHandlers(currentConnection);
 
             // update account state
             updateStatus(ThingStatus.ONLINE);
 
-            logger.debug("refresh data {} finished", getThing().getUID().getAsString());
+            logger.debug("refresh data {} finished, {}", getThing().getUID().getAsString(),
+                    currentConnection.getRequestStatistics());
         } catch (HttpException | JsonSyntaxException | ConnectionException e) {
             logger.debug("refresh data fails {}", e);
         } catch (Exception e) { // this handler can be removed later, if we know that nothing else can fail.
@@ -415,6 +423,75 @@ public class AccountHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Fetches the bluetooth states of all devices with one request and forwards them to the echo handlers. The
+     * player states requested by the echo handlers are staggered over the polling interval, so the amazon server does
+     * not receive a burst of requests.
+     */
+    private void refreshEchoHandlers(Connection currentConnection) {
+        JsonBluetoothStates states = null;
+        if (currentConnection.getIsLoggedIn()) {
+            states = currentConnection.getBluetoothConnectionStates();
+        }
+
+        List<EchoHandler> children;
+        synchronized (echoHandlers) {
+            children = new ArrayList<>(echoHandlers);
+        }
+        if (children.isEmpty()) {
+            return;
+        }
+        long staggerDelay = Math.min(MAX_STAGGER_DELAY_MILLIS,
+                TimeUnit.SECONDS.toMillis(pollingIntervalInSeconds) / children.size());
+        for (int i = 0; i < children.size(); i++) {
+            EchoHandler child = children.get(i);
+            Device device = findDeviceJson(child);
+            BluetoothState state = null;
+            if (states != null) {
+                state = states.findStateByDevice(device);
+            }
+            final BluetoothState childState = state;
+            if (i == 0) {
+                child.updateState(device, childState);
+            } else {
+                scheduler.schedule(() -> {
+                    if (this.connection == currentConnection) {
+                        child.updateState(device, childState);
+                    }
+                }, i * staggerDelay, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Refreshes the player state of the echo devices which are currently playing more often than the other devices,
+     * so title and progress stay up to date.
+     */
+    private void refreshPlayingEchoHandlers() {
+        try {
+            Connection currentConnection = this.connection;
+            if (currentConnection == null || !currentConnection.getIsLoggedIn()) {
+                return;
+            }
+            List<EchoHandler> children;
+            synchronized (echoHandlers) {
+                children = new ArrayList<>(echoHandlers);
+            }
+            long minimumAge = TimeUnit.SECONDS.toMillis(PLAYING_POLLING_INTERVAL_SECONDS) / 2;
+            long now = System.currentTimeMillis();
+            for (EchoHandler child : children) {
+                // skip the devices which were just updated by the regular refresh
+                if (child.getIsPlaying() && now - child.getLastUpdateTime() >= minimumAge) {
+                    child.updateState(findDeviceJson(child), null);
+                }
+            }
+        } catch (HttpException | JsonSyntaxException | ConnectionException e) {
+            logger.debug("refresh playing devices fails {}", e);
+        } catch (Exception e) { // this handler can be removed later, if we know that nothing else can fail.
+            logger.error("refresh playing devices fails with unexpected error {}", e);
+        }
+    }
+
     public @Nullable Device findDeviceJson(EchoHandler echoHandler) {
         String serialNumber = echoHandler.findSerialNumber();
         return findDeviceJson(serialNumber);
@@ -471,9 +548,10 @@ public class AccountHandler extends BaseBridgeHandler {
             }
             jsonSerialNumberDeviceMapping = newJsonSerialDeviceMapping;
         }
+        // the player states are refreshed by the polling, only forward the device information
         synchronized (echoHandlers) {
             for (EchoHandler child : echoHandlers) {
-                initializeEchoHandler(child, currentConnection);
+                intializeChildDevice(currentConnection, child);
             }
         }
         if (devices != null) {
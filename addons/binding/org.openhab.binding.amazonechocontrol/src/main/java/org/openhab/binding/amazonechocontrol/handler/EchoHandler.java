@@ -84,6 +84,7 @@ public class EchoHandler extends BaseThingHandler {
     private boolean updateStartCommand = true;
     private @Nullable JsonNotificationResponse currentNotification;
     private @Nullable ScheduledFuture<?> currentNotifcationUpdateTimer;
+    private volatile long lastUpdateTime;
 
     public EchoHandler(Thing thing) {
         super(thing);
@@ -154,6 +155,17 @@ public class EchoHandler extends BaseThingHandler {
         return this.device;
     }
 
+    public boolean getIsPlaying() {
+        return this.isPlaying;
+    }
+
+    /**
+     * Returns the time of the last player state update in milliseconds.
+     */
+    public long getLastUpdateTime() {
+        return this.lastUpdateTime;
+    }
+
     public String findSerialNumber() {
         String id = (String) getConfig().get(DEVICE_PROPERTY_SERIAL_NUMBER);
         if (id == null) {
@@ -561,6 +573,7 @@ public class EchoHandler extends BaseThingHandler {
         if (connection == null) {
             return;
         }
+        this.lastUpdateTime = System.currentTimeMillis();
 
         PlayerInfo playerInfo = null;
         Provider provider = null;
@@ -30,6 +30,7 @@ import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -76,6 +77,9 @@ import com.google.gson.JsonSyntaxException;
  */
 @NonNullByDefault
 public class Connection {
+    private static final int CONNECT_TIMEOUT_MILLIS = 10000;
+    private static final int READ_TIMEOUT_MILLIS = 30000;
+
     private final Logger logger = LoggerFactory.getLogger(Connection.class);
 
     private final CookieManager cookieManager = new CookieManager();
@@ -92,6 +96,11 @@ public class Connection {
     private final Gson gson = new Gson();
     private final Gson gsonWithNullSerialization;
 
+    // request statistics
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong requestTimeMillis = new AtomicLong();
+    private final AtomicLong responseTimeMillis = new AtomicLong();
+
     public Connection(@Nullable String email, @Nullable String password, @Nullable String amazonSite,
             @Nullable String accountThingId) {
         this.accountThingId = accountThingId != null ? accountThingId : "";
@@ -277,6 +286,38 @@ public class Connection {
         return result;
     }
 
+    /**
+     * Reads and closes the remaining response, so the underlying socket can be reused for the next request
+     * by the keep alive cache of the {@link HttpsURLConnection}.
+     */
+    private void consumeResponse(HttpsURLConnection connection) {
+        try {
+            InputStream input = connection.getResponseCode() < 400 ? connection.getInputStream()
+                    : connection.getErrorStream();
+            if (input != null) {
+                byte[] buffer = new byte[1024];
+                while (input.read(buffer) >= 0) {
+                    // discard
+                }
+                input.close();
+            }
+        } catch (IOException e) {
+            logger.trace("Consuming response failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns a summary of the requests made by this connection, used for logging.
+     */
+    public String getRequestStatistics() {
+        long count = requestCount.get();
+        if (count == 0) {
+            return "no requests";
+        }
+        return String.format("%d requests, average %d ms until response, average %d ms reading response", count,
+                requestTimeMillis.get() / count, responseTimeMillis.get() / count);
+    }
+
     public String makeRequestAndReturnString(String url) throws IOException, URISyntaxException {
         return makeRequestAndReturnString("GET", url, null, false, null);
     }
@@ -284,7 +325,10 @@ public class Connection {
     private String makeRequestAndReturnString(String verb, String url, @Nullable String postData, boolean json,
             @Nullable Map<String, String> customHeaders) throws IOException, URISyntaxException {
         HttpsURLConnection connection = makeRequest(verb, url, postData, json, true, customHeaders);
-        return convertStream(connection.getInputStream());
+        long startTime = System.currentTimeMillis();
+        String result = convertStream(connection.getInputStream());
+        responseTimeMillis.addAndGet(System.currentTimeMillis() - startTime);
+        return result;
     }
 
     public HttpsURLConnection makeRequest(String verb, String url, @Nullable String postData, boolean json,
@@ -297,7 +341,10 @@ public class Connection {
             HttpsURLConnection connection;
             try {
                 logger.debug("Make request to {}", url);
+                long startTime = System.currentTimeMillis();
                 connection = (HttpsURLConnection) new URL(currentUrl).openConnection();
+                connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+                connection.setReadTimeout(READ_TIMEOUT_MILLIS);
                 connection.setRequestMethod(verb);
                 connection.setRequestProperty("Accept-Language", "en-US");
                 connection.setRequestProperty("User-Agent", "Mozilla/5.0 openHAB/1.0.0.0");
@@ -353,6 +400,9 @@ public class Connection {
                 }
                 // handle result
                 code = connection.getResponseCode();
+                long requestTime = System.currentTimeMillis() - startTime;
+                requestCount.incrementAndGet();
+                requestTimeMillis.addAndGet(requestTime);
                 String location = null;
 
                 // handle response headers
@@ -385,13 +435,14 @@ public class Connection {
                     }
                 }
                 if (code == 200) {
-                    logger.debug("Call to {} succeeded", url);
+                    logger.debug("Call to {} succeeded in {} ms", url, requestTime);
                     return connection;
                 }
                 if (code == 302 && location != null) {
                     logger.debug("Redirected to {}", location);
                     currentUrl = location;
                     if (autoredirect) {
+                        consumeResponse(connection);
                         continue;
                     }
                     return connection;
@@ -401,6 +452,7 @@ public class Connection {
                 throw e;
             }
             if (code != 200) {
+                consumeResponse(connection);
                 throw new HttpException(code, verb + " url '" + url + "' failed: " + connection.getResponseMessage());
             }
         }
@@ -624,19 +676,19 @@ public class Connection {
     public void command(Device device, String command) throws IOException, URISyntaxException {
         String url = alexaServer + "/api/np/command?deviceSerialNumber=" + device.serialNumber + "&deviceType="
                 + device.deviceType;
-        makeRequest("POST", url, command, true, true, null);
+        makeRequestAndReturnString("POST", url, command, true, null);
     }
 
     public void bluetooth(Device device, @Nullable String address) throws IOException, URISyntaxException {
         if (StringUtils.isEmpty(address)) {
             // disconnect
-            makeRequest("POST",
+            makeRequestAndReturnString("POST",
                     alexaServer + "/api/bluetooth/disconnect-sink/" + device.deviceType + "/" + device.serialNumber, "",
-                    true, true, null);
+                    true, null);
         } else {
-            makeRequest("POST",
+            makeRequestAndReturnString("POST",
                     alexaServer + "/api/bluetooth/pair-sink/" + device.deviceType + "/" + device.serialNumber,
-                    "{\"bluetoothDeviceAddress\":\"" + address + "\"}", true, true, null);
+                    "{\"bluetoothDeviceAddress\":\"" + address + "\"}", true, null);
         }
     }
 
@@ -644,11 +696,11 @@ public class Connection {
         if (StringUtils.isEmpty(stationId)) {
             command(device, "{\"type\":\"PauseCommand\"}");
         } else {
-            makeRequest("POST",
+            makeRequestAndReturnString("POST",
                     alexaServer + "/api/tunein/queue-and-play?deviceSerialNumber=" + device.serialNumber
                             + "&deviceType=" + device.deviceType + "&guideId=" + stationId
                             + "&contentType=station&callSign=&mediaOwnerCustomerId=" + device.deviceOwnerCustomerId,
-                    "", true, true, null);
+                    "", true, null);
         }
     }
 
@@ -657,11 +709,11 @@ public class Connection {
             command(device, "{\"type\":\"PauseCommand\"}");
         } else {
             String command = "{\"trackId\":\"" + trackId + "\",\"playQueuePrime\":true}";
-            makeRequest("POST",
+            makeRequestAndReturnString("POST",
                     alexaServer + "/api/cloudplayer/queue-and-play?deviceSerialNumber=" + device.serialNumber
                             + "&deviceType=" + device.deviceType + "&mediaOwnerCustomerId="
                             + device.deviceOwnerCustomerId + "&shuffle=false",
-                    command, true, true, null);
+                    command, true, null);
         }
     }
 
@@ -671,11 +723,11 @@ public class Connection {
             command(device, "{\"type\":\"PauseCommand\"}");
         } else {
             String command = "{\"playlistId\":\"" + playListId + "\",\"playQueuePrime\":true}";
-            makeRequest("POST",
+            makeRequestAndReturnString("POST",
                     alexaServer + "/api/cloudplayer/queue-and-play?deviceSerialNumber=" + device.serialNumber
                             + "&deviceType=" + device.deviceType + "&mediaOwnerCustomerId="
                             + device.deviceOwnerCustomerId + "&shuffle=false",
-                    command, true, true, null);
+                    command, true, null);
         }
     }
 
@@ -724,7 +776,7 @@ public class Connection {
         request.sequenceJson = gson.toJson(sequenceJson);
         String json = gson.toJson(request);
 
-        makeRequest("POST", alexaServer + "/api/behaviors/preview", json, true, true, null);
+        makeRequestAndReturnString("POST", alexaServer + "/api/behaviors/preview", json, true, null);
     }
 
     public void startRoutine(Device device, String utterance) throws IOException, URISyntaxException {
@@ -785,7 +837,7 @@ public class Connection {
             request.sequenceJson = sequenceJson;
 
             String requestJson = gson.toJson(request);
-            makeRequest("POST", alexaServer + "/api/behaviors/preview", requestJson, true, true, null);
+            makeRequestAndReturnString("POST", alexaServer + "/api/behaviors/preview", requestJson, true, null);
         } else {
             logger.warn("Routine {} not found", utterance);
         }
@@ -811,7 +863,7 @@ public class Connection {
         JsonEnabledFeeds enabled = new JsonEnabledFeeds();
         enabled.enabledFeeds = enabledFlashBriefing;
         String json = gsonWithNullSerialization.toJson(enabled);
-        makeRequest("POST", alexaServer + "/api/content-skills/enabled-feeds", json, true, true, null);
+        makeRequestAndReturnString("POST", alexaServer + "/api/content-skills/enabled-feeds", json, true, null);
     }
 
     public JsonNotificationSound[] getNotificationSounds(Device device) throws IOException, URISyntaxException {
@@ -930,6 +982,6 @@ public class Connection {
         startRoutineRequest.status = null;
 
         String postData = gson.toJson(startRoutineRequest);
-        makeRequest("POST", alexaServer + "/api/behaviors/preview", postData, true, true, null);
+        makeRequestAndReturnString("POST", alexaServer + "/api/behaviors/preview", postData, true, null);
     }
 }
@@ -256,7 +256,7 @@ public class DenonMarantzState {
         StringType newVal = StringType.valueOf(zone3Input);
         if (!newVal.equals(this.zone3Input)) {
             this.zone3Input = newVal;
-            handler.stateChanged(DenonMarantzBindingConstants.CHANNEL_ZONE2_INPUT, this.zone3Input);
+            handler.stateChanged(DenonMarantzBindingConstants.CHANNEL_ZONE3_INPUT, this.zone3Input);
         }
     }
 }
@@ -16,6 +16,10 @@ import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -24,6 +28,7 @@ import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.UnmarshalException;
+import javax.xml.bind.Unmarshaller;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
@@ -81,6 +86,20 @@ public class DenonMarantzHttpConnector extends DenonMarantzConnector {
 
     private static final String CONTENT_TYPE_XML = "application/xml";
 
+    // Polling request for the power of all zones and the now playing info
+    private static final AppCommandRequest POLL_REQUEST = new AppCommandRequest().add(CommandTx.CMD_ALL_POWER)
+            .add(CommandTx.CMD_NET_STATUS);
+
+    // JAXB contexts are thread safe and expensive to create, so they are shared by all connectors
+    private static final Map<Class<?>, JAXBContext> JAXB_CONTEXTS = new ConcurrentHashMap<>();
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newInstance();
+
+    // Unmarshallers are not thread safe, they are only used by the polling thread
+    private final Map<Class<?>, Unmarshaller> unmarshallers = new HashMap<>();
+
+    private String pollRequest;
+
     private final String cmdUrl;
 
     private final String statusUrl;
@@ -225,14 +244,29 @@ public class DenonMarantzHttpConnector extends DenonMarantzConnector {
         }
     }
 
-    private void updateSecondaryZones() {
+    private void updateSecondaryZones(@Nullable CommandRx zonePower) {
         for (int i = 2; i <= config.getZoneCount(); i++) {
+            // maximum 2 secondary zones are supported
+            if (i > 3) {
+                break;
+            }
+
+            // the status of zones which are switched off does not change, so only the power is updated for them
+            String power = zonePower == null ? null : (i == 2 ? zonePower.getZone2() : zonePower.getZone3());
+            if (power != null && !"on".equalsIgnoreCase(power)) {
+                if (i == 2) {
+                    state.setZone2Power(false);
+                } else {
+                    state.setZone3Power(false);
+                }
+                continue;
+            }
+
             String url = String.format("%s" + URL_ZONE_SECONDARY_LITE, statusUrl, i, i);
             logger.trace("Refreshing URL: {}", url);
             ZoneStatusLite zoneSecondary = getDocument(url, ZoneStatusLite.class);
             if (zoneSecondary != null) {
                 switch (i) {
-                    // maximum 2 secondary zones are supported
                     case 2:
                         state.setZone2Power(zoneSecondary.getPower().getValue());
                         state.setZone2Volume(zoneSecondary.getMasterVolume().getValue());
@@ -250,19 +284,38 @@ public class DenonMarantzHttpConnector extends DenonMarantzConnector {
         }
     }
 
-    private void updateDisplayInfo() {
+    /**
+     * Requests the power of all zones and the now playing info with a single app command.
+     *
+     * @return the zone power response or null if the request failed
+     */
+    @Nullable
+    private CommandRx updateAppCommandStatus() {
         String url = statusUrl + URL_APP_COMMAND;
         logger.trace("Refreshing URL: {}", url);
 
-        AppCommandRequest request = AppCommandRequest.of(CommandTx.CMD_NET_STATUS);
-        AppCommandResponse response = postDocument(url, AppCommandResponse.class, request);
+        if (pollRequest == null) {
+            pollRequest = marshal(POLL_REQUEST);
+            if (pollRequest == null) {
+                return null;
+            }
+        }
+        AppCommandResponse response = postDocument(url, AppCommandResponse.class, pollRequest);
+        if (response == null) {
+            return null;
+        }
 
-        if (response != null) {
-            CommandRx titleInfo = response.getCommands().get(0);
-            state.setNowPlayingArtist(titleInfo.getText("artist"));
-            state.setNowPlayingAlbum(titleInfo.getText("album"));
-            state.setNowPlayingTrack(titleInfo.getText("track"));
+        // the responses are returned in the order of the commands of the request
+        List<CommandRx> commands = response.getCommands();
+        if (commands.size() < POLL_REQUEST.getCommands().size()) {
+            logger.debug("Incomplete app command response with {} commands", commands.size());
+            return null;
         }
+        CommandRx titleInfo = commands.get(1);
+        state.setNowPlayingArtist(titleInfo.getText("artist"));
+        state.setNowPlayingAlbum(titleInfo.getText("album"));
+        state.setNowPlayingTrack(titleInfo.getText("track"));
+        return commands.get(0);
     }
 
     private boolean setConfigProperties() {
@@ -290,8 +343,7 @@ public class DenonMarantzHttpConnector extends DenonMarantzConnector {
 
         updateMain();
         updateMainZone();
-        updateSecondaryZones();
-        updateDisplayInfo();
+        updateSecondaryZones(updateAppCommandStatus());
     }
 
     @Nullable
@@ -301,13 +353,11 @@ public class DenonMarantzHttpConnector extends DenonMarantzConnector {
             logger.trace("result of getDocument for uri '{}':\r\n{}", uri, result);
 
             if (StringUtils.isNotBlank(result)) {
-                JAXBContext jc = JAXBContext.newInstance(response);
-                XMLInputFactory xif = XMLInputFactory.newInstance();
-                XMLStreamReader xsr = xif.createXMLStreamReader(IOUtils.toInputStream(result));
+                XMLStreamReader xsr = XML_INPUT_FACTORY.createXMLStreamReader(IOUtils.toInputStream(result));
                 xsr = new PropertyRenamerDelegate(xsr);
 
                 @SuppressWarnings("unchecked")
-                T obj = (T) jc.createUnmarshaller().unmarshal(xsr);
+                T obj = (T) getUnmarshaller(response).unmarshal(xsr);
 
                 return obj;
             }
@@ -326,21 +376,14 @@ public class DenonMarantzHttpConnector extends DenonMarantzConnector {
     }
 
     @Nullable
-    private <T, S> T postDocument(String uri, Class<T> response, S request) {
+    private <T> T postDocument(String uri, Class<T> response, String request) {
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(request.getClass());
-            Marshaller jaxbMarshaller = jaxbContext.createMarshaller();
-            StringWriter sw = new StringWriter();
-            jaxbMarshaller.marshal(request, sw);
-
-            ByteArrayInputStream inputStream = new ByteArrayInputStream(sw.toString().getBytes(StandardCharsets.UTF_8));
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(request.getBytes(StandardCharsets.UTF_8));
             String result = HttpUtil.executeUrl("POST", uri, inputStream, CONTENT_TYPE_XML, REQUEST_TIMEOUT_MS);
 
             if (StringUtils.isNotBlank(result)) {
-                JAXBContext jcResponse = JAXBContext.newInstance(response);
-
                 @SuppressWarnings("unchecked")
-                T obj = (T) jcResponse.createUnmarshaller().unmarshal(IOUtils.toInputStream(result));
+                T obj = (T) getUnmarshaller(response).unmarshal(IOUtils.toInputStream(result));
 
                 return obj;
             }
@@ -354,6 +397,37 @@ public class DenonMarantzHttpConnector extends DenonMarantzConnector {
         return null;
     }
 
+    @Nullable
+    private String marshal(Object request) {
+        try {
+            Marshaller jaxbMarshaller = getJAXBContext(request.getClass()).createMarshaller();
+            StringWriter sw = new StringWriter();
+            jaxbMarshaller.marshal(request, sw);
+            return sw.toString();
+        } catch (JAXBException e) {
+            logger.debug("Encoding error in post", e);
+            return null;
+        }
+    }
+
+    private Unmarshaller getUnmarshaller(Class<?> type) throws JAXBException {
+        Unmarshaller unmarshaller = unmarshallers.get(type);
+        if (unmarshaller == null) {
+            unmarshaller = getJAXBContext(type).createUnmarshaller();
+            unmarshallers.put(type, unmarshaller);
+        }
+        return unmarshaller;
+    }
+
+    private static JAXBContext getJAXBContext(Class<?> type) throws JAXBException {
+        JAXBContext context = JAXB_CONTEXTS.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            JAXB_CONTEXTS.put(type, context);
+        }
+        return context;
+    }
+
     private static class PropertyRenamerDelegate extends StreamReaderDelegate {
 
         public PropertyRenamerDelegate(XMLStreamReader xsr) {
@@ -13,7 +13,10 @@ import static org.openhab.binding.dscalarm.DSCAlarmBindingConstants.*;
 import java.math.BigDecimal;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -25,6 +28,7 @@ import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.openhab.binding.dscalarm.internal.DSCAlarmCode;
@@ -47,6 +51,37 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
 
     private final Logger logger = LoggerFactory.getLogger(DSCAlarmBaseBridgeHandler.class);
 
+    /** The DSC Alarm Thing type receiving each message type. */
+    private static final Map<DSCAlarmMessageType, DSCAlarmThingType> MESSAGE_THING_TYPES = new EnumMap<>(
+            DSCAlarmMessageType.class);
+
+    static {
+        MESSAGE_THING_TYPES.put(DSCAlarmMessageType.PANEL_EVENT, DSCAlarmThingType.PANEL);
+        MESSAGE_THING_TYPES.put(DSCAlarmMessageType.PARTITION_EVENT, DSCAlarmThingType.PARTITION);
+        MESSAGE_THING_TYPES.put(DSCAlarmMessageType.ZONE_EVENT, DSCAlarmThingType.ZONE);
+        MESSAGE_THING_TYPES.put(DSCAlarmMessageType.KEYPAD_EVENT, DSCAlarmThingType.KEYPAD);
+    }
+
+    /**
+     * Action of the bridge for a received message.
+     */
+    @FunctionalInterface
+    private interface BridgeMessageAction {
+        /**
+         * Handles the message.
+         *
+         * @param dscAlarmMessage
+         * @return true if the message is to be passed on to the Things
+         */
+        boolean handleMessage(DSCAlarmMessage dscAlarmMessage);
+    }
+
+    /** The bridge actions by message code. */
+    private final Map<DSCAlarmCode, BridgeMessageAction> bridgeMessageActions = new EnumMap<>(DSCAlarmCode.class);
+
+    /** The Thing handlers of the bridge by Thing type, partition and zone. */
+    private final Map<Integer, DSCAlarmBaseThingHandler> thingHandlers = new ConcurrentHashMap<>();
+
     /** The DSC Alarm bridge type. */
     private DSCAlarmBridgeType dscAlarmBridgeType = null;
 
@@ -57,7 +92,7 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
     private DSCAlarmDiscoveryService dscAlarmDiscoveryService = null;
 
     /** The Panel Thing handler for the bridge. */
-    private DSCAlarmBaseThingHandler panelThingHandler = null;
+    private volatile DSCAlarmBaseThingHandler panelThingHandler = null;
 
     /** Connection status for the bridge. */
     private boolean connected = false;
@@ -95,6 +130,9 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
         super(bridge);
         this.dscAlarmBridgeType = dscAlarmBridgeType;
         this.dscAlarmProtocol = dscAlarmProtocol;
+
+        bridgeMessageActions.put(DSCAlarmCode.LoginResponse, this::handleLoginResponse);
+        bridgeMessageActions.put(DSCAlarmCode.CommandAcknowledge, this::handleCommandAcknowledge);
     }
 
     /**
@@ -434,83 +472,146 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
         return thing;
     }
 
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof DSCAlarmBaseThingHandler) {
+            DSCAlarmBaseThingHandler handler = (DSCAlarmBaseThingHandler) childHandler;
+            DSCAlarmThingType dscAlarmThingType = handler.getDSCAlarmThingType();
+
+            if (dscAlarmThingType != null) {
+                thingHandlers.put(getThingHandlerKey(dscAlarmThingType, handler.getPartitionNumber(),
+                        handler.getZoneNumber()), handler);
+
+                if (dscAlarmThingType.equals(DSCAlarmThingType.PANEL)) {
+                    panelThingHandler = handler;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof DSCAlarmBaseThingHandler) {
+            thingHandlers.values().removeIf(handler -> handler == childHandler);
+
+            if (panelThingHandler == childHandler) {
+                panelThingHandler = null;
+            }
+        }
+    }
+
+    /**
+     * Returns the key of a Thing handler. Panel and keypad are identified by type only, partitions by partition
+     * number and zones by zone number.
+     *
+     * @param dscAlarmThingType
+     * @param partitionId
+     * @param zoneId
+     * @return key
+     */
+    private static int getThingHandlerKey(DSCAlarmThingType dscAlarmThingType, int partitionId, int zoneId) {
+        int id = 0;
+
+        switch (dscAlarmThingType) {
+            case PARTITION:
+                id = partitionId;
+                break;
+            case ZONE:
+                id = zoneId;
+                break;
+            default:
+                break;
+        }
+
+        return dscAlarmThingType.ordinal() << 16 | id;
+    }
+
+    /**
+     * Find a Thing handler.
+     *
+     * @param dscAlarmThingType
+     * @param partitionId
+     * @param zoneId
+     * @return thing handler
+     */
+    private DSCAlarmBaseThingHandler findThingHandler(DSCAlarmThingType dscAlarmThingType, int partitionId,
+            int zoneId) {
+        int key = getThingHandlerKey(dscAlarmThingType, partitionId, zoneId);
+        DSCAlarmBaseThingHandler handler = thingHandlers.get(key);
+
+        if (handler == null) {
+            // Things initialized before this bridge handler are not indexed yet
+            Thing thing = findThing(dscAlarmThingType, partitionId, zoneId);
+
+            if (thing != null) {
+                handler = (DSCAlarmBaseThingHandler) thing.getHandler();
+                if (handler != null) {
+                    thingHandlers.put(key, handler);
+                }
+            }
+        }
+
+        return handler;
+    }
+
     /**
      * Handles an incoming message from the DSC Alarm System.
      *
      * @param incomingMessage
      */
-    public synchronized void handleIncomingMessage(String incomingMessage) {
+    public void handleIncomingMessage(String incomingMessage) {
         if (incomingMessage != null && !incomingMessage.isEmpty()) {
             DSCAlarmMessage dscAlarmMessage = new DSCAlarmMessage(incomingMessage);
             DSCAlarmMessageType dscAlarmMessageType = dscAlarmMessage.getDSCAlarmMessageType();
 
-            logger.debug("handleIncomingMessage(): Message received: {} - {}", incomingMessage,
-                    dscAlarmMessage.toString());
+            logger.debug("handleIncomingMessage(): Message received: {} - {}", incomingMessage, dscAlarmMessage);
 
             DSCAlarmEvent event = new DSCAlarmEvent(this);
             event.dscAlarmEventMessage(dscAlarmMessage);
-            DSCAlarmThingType dscAlarmThingType = null;
             int partitionId = 0;
             int zoneId = 0;
 
-            DSCAlarmCode dscAlarmCode = DSCAlarmCode
-                    .getDSCAlarmCodeValue(dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.CODE));
-
-            if (panelThingHandler != null) {
-                panelThingHandler.setPanelMessage(dscAlarmMessage);
+            DSCAlarmBaseThingHandler panelHandler = panelThingHandler;
+            if (panelHandler != null) {
+                panelHandler.setPanelMessage(dscAlarmMessage);
             }
 
-            if (dscAlarmCode == DSCAlarmCode.LoginResponse) {
-                String dscAlarmMessageData = dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.DATA);
-                if (dscAlarmMessageData.equals("3")) {
-                    sendCommand(DSCAlarmCode.NetworkLogin);
-                    // onConnected();
-                } else if (dscAlarmMessageData.equals("1")) {
-                    onConnected();
-                }
-                return;
-            } else if (dscAlarmCode == DSCAlarmCode.CommandAcknowledge) {
-                String dscAlarmMessageData = dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.DATA);
-                if (dscAlarmMessageData.equals("000")) {
-                    setBridgeStatus(true);
+            BridgeMessageAction bridgeMessageAction = bridgeMessageActions.get(dscAlarmMessage.getDSCAlarmCode());
+            if (bridgeMessageAction != null) {
+                synchronized (this) {
+                    if (!bridgeMessageAction.handleMessage(dscAlarmMessage)) {
+                        return;
+                    }
                 }
             }
 
-            switch (dscAlarmMessageType) {
-                case PANEL_EVENT:
-                    dscAlarmThingType = DSCAlarmThingType.PANEL;
-                    break;
-                case PARTITION_EVENT:
-                    dscAlarmThingType = DSCAlarmThingType.PARTITION;
-                    partitionId = Integer
-                            .parseInt(event.getDSCAlarmMessage().getMessageInfo(DSCAlarmMessageInfoType.PARTITION));
-                    break;
-                case ZONE_EVENT:
-                    dscAlarmThingType = DSCAlarmThingType.ZONE;
-                    zoneId = Integer.parseInt(event.getDSCAlarmMessage().getMessageInfo(DSCAlarmMessageInfoType.ZONE));
-                    break;
-                case KEYPAD_EVENT:
-                    dscAlarmThingType = DSCAlarmThingType.KEYPAD;
-                    break;
-                default:
-                    break;
-            }
+            DSCAlarmThingType dscAlarmThingType = MESSAGE_THING_TYPES.get(dscAlarmMessageType);
 
             if (dscAlarmThingType != null) {
-                Thing thing = findThing(dscAlarmThingType, partitionId, zoneId);
+                switch (dscAlarmThingType) {
+                    case PARTITION:
+                        partitionId = Integer
+                                .parseInt(dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.PARTITION));
+                        break;
+                    case ZONE:
+                        zoneId = Integer.parseInt(dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.ZONE));
+                        break;
+                    default:
+                        break;
+                }
 
-                logger.debug("handleIncomingMessage(): Thing Search - '{}'", thing);
+                // The Thing handlers are called without holding the bridge lock
+                DSCAlarmBaseThingHandler thingHandler = findThingHandler(dscAlarmThingType, partitionId, zoneId);
 
-                if (thing != null) {
-                    DSCAlarmBaseThingHandler thingHandler = (DSCAlarmBaseThingHandler) thing.getHandler();
+                logger.debug("handleIncomingMessage(): Thing Handler Search - '{}'", thingHandler);
 
-                    if (thingHandler != null) {
-                        if (thingHandler.isThingHandlerInitialized()) {
-                            thingHandler.dscAlarmEventReceived(event, thing);
+                if (thingHandler != null) {
+                    Thing thing = thingHandler.getThing();
 
-                        } else {
-                            logger.debug("handleIncomingMessage(): Thing '{}' Not Refreshed!", thing.getUID());
-                        }
+                    if (thingHandler.isThingHandlerInitialized()) {
+                        thingHandler.dscAlarmEventReceived(event, thing);
+                    } else {
+                        logger.debug("handleIncomingMessage(): Thing '{}' Not Refreshed!", thing.getUID());
                     }
                 } else {
                     logger.debug("handleIncomingMessage(): Thing Not Found! Send to Discovery Service!");
@@ -525,6 +626,36 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Handles the login response of the Envisalink.
+     *
+     * @param dscAlarmMessage
+     * @return false, the message is not passed on to the Things
+     */
+    private boolean handleLoginResponse(DSCAlarmMessage dscAlarmMessage) {
+        String dscAlarmMessageData = dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.DATA);
+        if (dscAlarmMessageData.equals("3")) {
+            sendCommand(DSCAlarmCode.NetworkLogin);
+        } else if (dscAlarmMessageData.equals("1")) {
+            onConnected();
+        }
+        return false;
+    }
+
+    /**
+     * Handles the command acknowledge.
+     *
+     * @param dscAlarmMessage
+     * @return true, the message is passed on to the Things
+     */
+    private boolean handleCommandAcknowledge(DSCAlarmMessage dscAlarmMessage) {
+        String dscAlarmMessageData = dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.DATA);
+        if (dscAlarmMessageData.equals("000")) {
+            setBridgeStatus(true);
+        }
+        return true;
+    }
+
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
         logger.debug("handleCommand(): Command Received - {} {}.", channelUID, command);
@@ -190,7 +190,13 @@ public enum DSCAlarmCode {
     /**
      * Lookup map to get a DSCAlarmCode value from its string code.
      */
-    private static Map<String, DSCAlarmCode> codeToDSCAlarmCodeValue;
+    private static final Map<String, DSCAlarmCode> CODE_TO_DSCALARM_CODE_VALUE = new HashMap<>();
+
+    static {
+        for (DSCAlarmCode s : values()) {
+            CODE_TO_DSCALARM_CODE_VALUE.put(s.code, s);
+        }
+    }
 
     /**
      * Constructor
@@ -203,16 +209,6 @@ public enum DSCAlarmCode {
         this.description = description;
     }
 
-    /**
-     * Initialize the lookup map that gets a DSCAlarmCode value from a string code.
-     */
-    private static void initMapping() {
-        codeToDSCAlarmCodeValue = new HashMap<>();
-        for (DSCAlarmCode s : values()) {
-            codeToDSCAlarmCodeValue.put(s.code, s);
-        }
-    }
-
     /**
      * The DSC Alarm command/message code string (example '005').
      */
@@ -242,13 +238,7 @@ public enum DSCAlarmCode {
      * @return enum value
      */
     public static DSCAlarmCode getDSCAlarmCodeValue(String code) {
-        DSCAlarmCode dscAlarmCode;
-
-        if (codeToDSCAlarmCodeValue == null) {
-            initMapping();
-        }
-
-        dscAlarmCode = codeToDSCAlarmCodeValue.get(code);
+        DSCAlarmCode dscAlarmCode = CODE_TO_DSCALARM_CODE_VALUE.get(code);
 
         if (dscAlarmCode == null) {
             dscAlarmCode = UnknownCode;
@@ -47,6 +47,7 @@ public class DSCAlarmMessage {
     }
 
     private DSCAlarmMessageType messageType = DSCAlarmMessageType.PANEL_EVENT;
+    private DSCAlarmCode dscAlarmCode = DSCAlarmCode.UnknownCode;
 
     private String message = "";
     private String name = "";
@@ -75,8 +76,6 @@ public class DSCAlarmMessage {
      * Processes the incoming DSC Alarm message and extracts the information.
      */
     private void processDSCAlarmMessage() {
-        DSCAlarmCode dscAlarmCode;
-
         if (message.length() > 3) {
             try {
                 if (message.length() >= 8 && message.charAt(2) == ':' && message.charAt(5) == ':') {
@@ -259,6 +258,15 @@ public class DSCAlarmMessage {
         }
     }
 
+    /**
+     * Returns the DSC Alarm code of the message, 'UnknownCode' if the code was not recognized.
+     *
+     * @return dscAlarmCode
+     */
+    public DSCAlarmCode getDSCAlarmCode() {
+        return dscAlarmCode;
+    }
+
     /**
      * Returns the DSCAlarm Message Type.
      *
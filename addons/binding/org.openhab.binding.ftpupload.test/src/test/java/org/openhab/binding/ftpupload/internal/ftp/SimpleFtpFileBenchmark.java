@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ftpupload.internal.ftp;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the upload throughput of {@link SimpleFtpFile}. It is not part of the default test run, run it with
+ * <code>mvn test -Dtest=SimpleFtpFileBenchmark</code>.
+ *
+ * @author agent - Initial contribution
+ */
+public class SimpleFtpFileBenchmark {
+
+    private final Logger logger = LoggerFactory.getLogger(SimpleFtpFileBenchmark.class);
+
+    private static final int UPLOADS = 20;
+    private static final int UPLOAD_SIZE = 2 * 1024 * 1024;
+
+    @Test
+    public void uploadThroughput() throws IOException {
+        SimpleFtpFile file = new SimpleFtpFile();
+        byte[] image = SimpleFtpFileTest.image(UPLOAD_SIZE, 7);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < UPLOADS; i++) {
+            SimpleFtpFileTest.upload(file, image);
+            assertEquals(UPLOAD_SIZE, file.getData().length);
+        }
+        long nanos = System.nanoTime() - start;
+
+        logger.info("{} uploads of {} bytes in {} byte chunks: {} ms, {} MB/s", UPLOADS, UPLOAD_SIZE,
+                SimpleFtpFileTest.CHUNK_SIZE, TimeUnit.NANOSECONDS.toMillis(nanos),
+                (long) UPLOADS * UPLOAD_SIZE * 1000 / Math.max(1, nanos));
+    }
+}
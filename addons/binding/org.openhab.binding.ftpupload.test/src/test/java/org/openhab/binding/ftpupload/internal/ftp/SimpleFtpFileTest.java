@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ftpupload.internal.ftp;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Tests the upload buffering of {@link SimpleFtpFile}.
+ *
+ * @author agent - Initial contribution
+ */
+public class SimpleFtpFileTest {
+
+    static final int CHUNK_SIZE = 4096;
+
+    @Test
+    public void uploadedDataIsReturned() throws IOException {
+        SimpleFtpFile file = new SimpleFtpFile();
+        byte[] image = image(200 * 1024 + 17, 1);
+
+        upload(file, image);
+
+        assertArrayEquals(image, file.getData());
+        assertNull(file.getData());
+    }
+
+    @Test
+    public void singleByteWritesAreBuffered() throws IOException {
+        SimpleFtpFile file = new SimpleFtpFile();
+        byte[] image = image(1000, 2);
+
+        try (OutputStream out = file.createOutputStream(0)) {
+            for (byte b : image) {
+                out.write(b);
+            }
+        }
+
+        assertArrayEquals(image, file.getData());
+    }
+
+    @Test
+    public void fileExceedingMaximumUploadSizeIsRejected() throws IOException {
+        SimpleFtpFile file = new SimpleFtpFile(100 * 1024);
+
+        try {
+            upload(file, image(100 * 1024 + 1, 3));
+            fail("Expected an IOException");
+        } catch (IOException e) {
+            // expected
+        }
+
+        assertNull(file.getData());
+    }
+
+    @Test
+    public void consecutiveUploadsReturnIndependentData() throws IOException {
+        SimpleFtpFile file = new SimpleFtpFile();
+        byte[] first = image(300 * 1024 + 1, 4);
+        byte[] second = image(100 * 1024 + 3, 5);
+        byte[] third = image(64 * 1024, 6);
+
+        upload(file, first);
+        byte[] firstData = file.getData();
+        upload(file, second);
+        byte[] secondData = file.getData();
+        upload(file, third);
+        byte[] thirdData = file.getData();
+
+        assertArrayEquals(first, firstData);
+        assertArrayEquals(second, secondData);
+        assertArrayEquals(third, thirdData);
+    }
+
+    static void upload(SimpleFtpFile file, byte[] data) throws IOException {
+        try (OutputStream out = file.createOutputStream(0)) {
+            for (int offset = 0; offset < data.length; offset += CHUNK_SIZE) {
+                out.write(data, offset, Math.min(CHUNK_SIZE, data.length - offset));
+            }
+        }
+    }
+
+    static byte[] image(int size, int seed) {
+        byte[] image = new byte[size];
+        Arrays.fill(image, (byte) seed);
+        for (int i = 0; i < size; i += 251) {
+            image[i] = (byte) (i + seed);
+        }
+        return image;
+    }
+}
@@ -46,6 +46,7 @@ public class FtpUploadHandlerFactory extends BaseThingHandlerFactory {
 
     private final int DEFAULT_PORT = 2121;
     private final int DEFAULT_IDLE_TIMEOUT = 60;
+    private final int DEFAULT_MAX_UPLOAD_SIZE = 0;
 
     private FtpServer ftpServer;
 
@@ -90,6 +91,7 @@ public class FtpUploadHandlerFactory extends BaseThingHandlerFactory {
 
         int port = DEFAULT_PORT;
         int idleTimeout = DEFAULT_IDLE_TIMEOUT;
+        int maxUploadSize = DEFAULT_MAX_UPLOAD_SIZE;
 
         if (properties.get("port") != null) {
             String strPort = properties.get("port").toString();
@@ -113,14 +115,31 @@ public class FtpUploadHandlerFactory extends BaseThingHandlerFactory {
             }
         }
 
+        if (properties.get("maxUploadSize") != null) {
+            String strMaxUploadSize = properties.get("maxUploadSize").toString();
+            if (StringUtils.isNotEmpty(strMaxUploadSize)) {
+                try {
+                    maxUploadSize = Integer.valueOf(strMaxUploadSize);
+                } catch (NumberFormatException e) {
+                    logger.warn("Invalid maximum upload size '{}', using default size {}", strMaxUploadSize,
+                            maxUploadSize);
+                }
+            }
+        }
+
         try {
-            logger.info("Starting FTP server, port={}, idleTimeout={}", port, idleTimeout);
-            ftpServer.startServer(port, idleTimeout);
+            logger.info("Starting FTP server, port={}, idleTimeout={}, maxUploadSize={}", port, idleTimeout,
+                    maxUploadSize);
+            ftpServer.startServer(port, idleTimeout, toBytes(maxUploadSize));
         } catch (FtpException | FtpServerConfigurationException e) {
             logger.warn("FTP server starting failed, reason: {}", e.getMessage());
         }
     }
 
+    private int toBytes(int kiloBytes) {
+        return Math.max(0, Math.min(kiloBytes, Integer.MAX_VALUE / 1024)) * 1024;
+    }
+
     private void stopFtpServer() {
         logger.info("Stopping FTP server");
         ftpServer.stopServer();
@@ -45,6 +45,7 @@ public class FtpServer {
 
     private int port;
     int idleTimeout;
+    private int maxUploadSize;
 
     private org.apache.ftpserver.FtpServer server;
     private List<FtpServerEventListener> listeners;
@@ -57,10 +58,19 @@ public class FtpServer {
         FTPUserManager = new FTPUserManager();
     }
 
-    public void startServer(int port, int idleTimeout) throws FtpException {
+    /**
+     * Starts the FTP server.
+     *
+     * @param port TCP port of the FTP server
+     * @param idleTimeout idle timeout in seconds
+     * @param maxUploadSize maximum size of an uploaded file in bytes, 0 for no limit
+     * @throws FtpException
+     */
+    public void startServer(int port, int idleTimeout, int maxUploadSize) throws FtpException {
         stopServer();
         this.port = port;
         this.idleTimeout = idleTimeout;
+        this.maxUploadSize = maxUploadSize;
         FTPUserManager.setIdleTimeout(idleTimeout);
         initServer();
     }
@@ -141,7 +151,7 @@ public class FtpServer {
             @Override
             public FileSystemView createFileSystemView(User user) throws FtpException {
                 logger.debug("createFileSystemView: {}", user.getName());
-                return new SimpleFileSystemView();
+                return new SimpleFileSystemView(maxUploadSize);
             }
         });
 
@@ -196,6 +206,10 @@ public class FtpServer {
 
             SimpleFtpFile file = (SimpleFtpFile) session.getFileSystemView().getFile(fileName);
             byte[] data = file.getData();
+            if (data == null) {
+                logger.debug("No data received for file {}", fileName);
+                return FtpletResult.SKIP;
+            }
 
             sendMsgToListeners(session.getUser().getName(), fileName, data);
             return FtpletResult.SKIP;
@@ -23,7 +23,18 @@ import org.slf4j.LoggerFactory;
 public class SimpleFileSystemView implements FileSystemView {
     private Logger logger = LoggerFactory.getLogger(SimpleFileSystemView.class);
 
-    SimpleFtpFile file = new SimpleFtpFile();
+    SimpleFtpFile file;
+
+    public SimpleFileSystemView() {
+        this(0);
+    }
+
+    /**
+     * @param maxUploadSize maximum size of an uploaded file in bytes, 0 for no limit
+     */
+    public SimpleFileSystemView(int maxUploadSize) {
+        file = new SimpleFtpFile(maxUploadSize);
+    }
 
     @Override
     public boolean changeWorkingDirectory(String arg0) throws FtpException {
@@ -11,10 +11,9 @@ package org.openhab.binding.ftpupload.internal.ftp;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.List;
 
-import javax.xml.bind.DatatypeConverter;
-
 import org.apache.ftpserver.ftplet.FtpFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,10 +27,38 @@ import org.slf4j.LoggerFactory;
 public class SimpleFtpFile implements FtpFile {
     private Logger logger = LoggerFactory.getLogger(SimpleFtpFile.class);
 
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final int maxUploadSize;
+
     MyOutputStream file;
 
+    // upload buffer of the previous file, reused by the next upload of the session
+    private byte[] spareBuffer;
+
+    public SimpleFtpFile() {
+        this(0);
+    }
+
+    /**
+     * @param maxUploadSize maximum size of an uploaded file in bytes, 0 for no limit
+     */
+    public SimpleFtpFile(int maxUploadSize) {
+        this.maxUploadSize = maxUploadSize;
+    }
+
+    /**
+     * Returns the data of the last uploaded file and releases it.
+     *
+     * @return the uploaded data or null if no file was uploaded or the file exceeded the maximum upload size
+     */
     public byte[] getData() {
-        return file.getData();
+        if (file == null) {
+            return null;
+        }
+        byte[] data = file.getData();
+        file = null;
+        return data;
     }
 
     @Override
@@ -43,7 +70,8 @@ public class SimpleFtpFile implements FtpFile {
     @Override
     public OutputStream createOutputStream(long arg0) throws IOException {
         logger.trace("createOutputStream: {}", arg0);
-        file = new MyOutputStream();
+        file = new MyOutputStream(spareBuffer);
+        spareBuffer = null;
         return file;
     }
 
@@ -168,22 +196,55 @@ public class SimpleFtpFile implements FtpFile {
     }
 
     private class MyOutputStream extends OutputStream {
-        private StringBuilder data = new StringBuilder();
+        private byte[] data;
+        private int size;
+        private boolean sizeExceeded;
+
+        MyOutputStream(byte[] buffer) {
+            data = buffer != null ? buffer
+                    : new byte[maxUploadSize > 0 ? Math.min(INITIAL_BUFFER_SIZE, maxUploadSize) : INITIAL_BUFFER_SIZE];
+        }
 
         @Override
         public void write(int b) throws IOException {
-            data.append(String.format("%02X", (byte) b));
+            ensureCapacity(size + 1);
+            data[size++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ensureCapacity(size + len);
+            System.arraycopy(b, off, data, size, len);
+            size += len;
+        }
+
+        private void ensureCapacity(int requiredSize) throws IOException {
+            if (requiredSize < 0 || (maxUploadSize > 0 && requiredSize > maxUploadSize)) {
+                sizeExceeded = true;
+                throw new IOException("File exceeds maximum upload size of " + maxUploadSize + " bytes");
+            }
+            if (requiredSize > data.length) {
+                int newSize = data.length * 2 > 0 ? Math.max(requiredSize, data.length * 2) : requiredSize;
+                if (maxUploadSize > 0) {
+                    newSize = Math.min(newSize, maxUploadSize);
+                }
+                data = Arrays.copyOf(data, newSize);
+            }
         }
 
         public byte[] getData() {
-            try {
-                byte[] d = DatatypeConverter.parseHexBinary(data.toString());
-                logger.debug("File len: {}", d.length);
-                return d;
-            } catch (IllegalArgumentException e) {
-                logger.debug("Exception occured during data conversion: {}", e.getMessage());
+            if (sizeExceeded) {
+                logger.debug("File exceeded maximum upload size of {} bytes", maxUploadSize);
+                spareBuffer = data;
+                return null;
             }
-            return null;
+            logger.debug("File len: {}", size);
+            if (size == data.length) {
+                // the buffer is handed over to the listeners and can't be reused
+                return data;
+            }
+            spareBuffer = data;
+            return Arrays.copyOf(data, size);
         }
     }
 }
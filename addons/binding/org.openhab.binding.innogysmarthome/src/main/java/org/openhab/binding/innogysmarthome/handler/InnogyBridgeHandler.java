@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledFuture;
@@ -34,6 +35,7 @@ import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.innogysmarthome.InnogyBindingConstants;
 import org.openhab.binding.innogysmarthome.internal.InnogyWebSocket;
@@ -86,6 +88,8 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
     private Gson gson = new Gson();
 
     private Set<DeviceStatusListener> deviceStatusListeners = new CopyOnWriteArraySet<>();
+    private Map<String, DeviceStatusListener> deviceHandlers = new ConcurrentHashMap<>();
+    private Map<String, ScheduledFuture<?>> deviceRefreshJobs = new ConcurrentHashMap<>();
 
     private ScheduledFuture<?> reinitJob;
 
@@ -326,6 +330,11 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
             reinitJob = null;
         }
 
+        for (ScheduledFuture<?> job : deviceRefreshJobs.values()) {
+            job.cancel(true);
+        }
+        deviceRefreshJobs.clear();
+
         if (webSocket != null) {
             webSocket.stop();
             webSocket = null;
@@ -372,6 +381,61 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
         return deviceStatusListeners.remove(deviceStatusListener);
     }
 
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        Object deviceId = childThing.getConfiguration().get(PROPERTY_ID);
+        if (childHandler instanceof DeviceStatusListener && deviceId != null) {
+            deviceHandlers.put(deviceId.toString(), (DeviceStatusListener) childHandler);
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        deviceHandlers.values().removeIf(handler -> handler == childHandler);
+        if (childHandler instanceof DeviceStatusListener) {
+            deviceStatusListeners.remove(childHandler);
+        }
+    }
+
+    /**
+     * Informs the {@link DeviceStatusListener} of the given {@link Device} about the changed device. If no handler is
+     * known for the device, all {@link DeviceStatusListener}s are informed.
+     *
+     * @param device the changed {@link Device}
+     * @param event the {@link Event} that changed the device or null
+     */
+    private void notifyDeviceStatusListeners(Device device, Event event) {
+        DeviceStatusListener deviceHandler = deviceHandlers.get(device.getId());
+        Collection<DeviceStatusListener> listeners = deviceHandler != null
+                ? Collections.singleton(deviceHandler)
+                : deviceStatusListeners;
+        for (DeviceStatusListener deviceStatusListener : listeners) {
+            if (event != null) {
+                deviceStatusListener.onDeviceStateChanged(device, event);
+            } else {
+                deviceStatusListener.onDeviceStateChanged(device);
+            }
+        }
+    }
+
+    /**
+     * Schedules a refresh of the {@link Device} with the given id from the innogy webservice. Refreshes requested
+     * for the same device within {@link #DEVICE_REFRESH_DELAY_MILLISECONDS} are done only once.
+     *
+     * @param deviceId
+     */
+    private void scheduleDeviceRefresh(String deviceId) {
+        deviceRefreshJobs.computeIfAbsent(deviceId, id -> scheduler.schedule(() -> {
+            deviceRefreshJobs.remove(id);
+            Device device = refreshDevice(id);
+            if (device != null) {
+                notifyDeviceStatusListeners(device, null);
+            } else {
+                logger.debug("Unknown/unsupported device {}.", id);
+            }
+        }, DEVICE_REFRESH_DELAY_MILLISECONDS, TimeUnit.MILLISECONDS));
+    }
+
     /**
      * Loads a Collection of {@link Device}s from the bridge and returns them.
      *
@@ -535,23 +599,22 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
         if (event.isLinkedtoCapability()) {
             Device device = deviceStructMan.getDeviceByCapabilityLink(event.getLink().getValue());
             if (device != null) {
-                for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
-                    deviceStatusListener.onDeviceStateChanged(device, event);
-                }
+                notifyDeviceStatusListeners(device, event);
             } else {
                 logger.debug("Unknown/unsupported device for capability {}.", event.getLink().getValue());
             }
 
             // DEVICE
         } else if (event.isLinkedtoDevice()) {
-            deviceStructMan.refreshDevice(event.getLinkId());
             Device device = deviceStructMan.getDeviceById(event.getLinkId());
-            if (device != null) {
-                for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
-                    deviceStatusListener.onDeviceStateChanged(device, event);
-                }
+            if (device == null) {
+                // possibly a new device
+                scheduleDeviceRefresh(event.getLinkId());
+            } else if (deviceStructMan.applyDeviceStateChange(device, event.getPropertyList())) {
+                notifyDeviceStatusListeners(device, event);
             } else {
-                logger.debug("Unknown/unsupported device {}.", event.getLinkId());
+                logger.debug("State of device {} changed structurally - refreshing device.", device.getId());
+                scheduleDeviceRefresh(device.getId());
             }
 
         } else {
@@ -594,20 +657,19 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
     public void handleNewMessageReceivedEvent(Event event) throws ApiException, IOException {
         if (deviceStructMan == null) {
             scheduleReinitialize();
+            return;
         }
 
         List<Message> messageList = event.getDataListAsMessage();
         for (Message m : messageList) {
             if (Message.TYPE_DEVICE_LOW_BATTERY.equals(m.getType())) {
                 for (Link dl : m.getDeviceLinkList()) {
-                    deviceStructMan.refreshDevice(dl.getId());
                     Device device = deviceStructMan.getDeviceById(dl.getId());
                     if (device != null) {
-                        for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
-                            deviceStatusListener.onDeviceStateChanged(device);
-                        }
+                        deviceStructMan.addMessage(device, m);
+                        notifyDeviceStatusListeners(device, null);
                     } else {
-                        logger.debug("Unknown/unsupported device {}.", event.getLinkId());
+                        logger.debug("Unknown/unsupported device {}.", dl.getId());
                     }
                 }
             } else {
@@ -618,9 +680,9 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
     }
 
     /**
-     * Handle the event that occurs, when a message was deleted. In case of a low battery message this means, that the
-     * device is back to normal. Currently, only messages linked to devices are handled by refreshing the device data
-     * and informing the {@link InnogyDeviceHandler} about the changed device.
+     * Handle the event that occurs, when a message was deleted. In case of a low battery or unreachable message this
+     * means, that the device is back to normal. Currently, only messages linked to devices are handled by removing the
+     * message from the device and informing the {@link InnogyDeviceHandler} about the changed device.
      *
      * @param event
      * @throws ApiException
@@ -631,11 +693,8 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
             if (Link.LINK_TYPE_MESSAGE.equals(event.getLinkType())) {
                 Device device = deviceStructMan.getDeviceWithMessageId(event.getLinkId());
                 if (device != null) {
-                    deviceStructMan.refreshDevice(device.getId());
-                    device = deviceStructMan.getDeviceById(device.getId());
-                    for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
-                        deviceStatusListener.onDeviceStateChanged(device);
-                    }
+                    deviceStructMan.removeMessage(device, event.getLinkId());
+                    notifyDeviceStatusListeners(device, null);
                 } else {
                     logger.debug("Unknown/unsupported device {}.", event.getLinkId());
                 }
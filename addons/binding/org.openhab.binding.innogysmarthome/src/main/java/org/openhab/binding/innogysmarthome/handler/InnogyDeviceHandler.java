@@ -960,13 +960,7 @@ public class InnogyDeviceHandler extends BaseThingHandler implements DeviceStatu
 
             } else if (event.isLinkedtoDevice()) {
                 if (device.hasState()) {
-                    Map<String, Property> stateMap = device.getDeviceState().getStateMap();
-                    for (Property p : event.getPropertyList()) {
-                        logger.debug("State changed {} to {}.", p.getName(), p.getValue());
-
-                        stateMap.get(p.getName()).setValue(p.getValue());
-                        stateMap.get(p.getName()).setLastchanged((p.getLastchanged()));
-                    }
+                    // the changed states are already applied to the device by the bridge
                     onDeviceStateChanged(device);
                 } else {
                     logger.debug("Device {}/{} has no state.", device.getName(), device.getId());
@@ -404,6 +404,15 @@ public class Device extends ConfigPropertyList {
         }
     }
 
+    /**
+     * Replaces the messageList without deriving the battery and reachable state from the messages.
+     *
+     * @param messageList the messageList to set
+     */
+    public void setMessageListWithoutState(List<Message> messageList) {
+        this.messageList = messageList;
+    }
+
     /**
      * Sets if the {@link Device} is reachable;
      *
@@ -9,9 +9,11 @@
 package org.openhab.binding.innogysmarthome.internal.manager;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -147,6 +149,90 @@ public class DeviceStructureManager {
         }
     }
 
+    /**
+     * Applies the changed state {@link Property}s of an event to the state of the {@link Device} in the structure,
+     * without loading the device from the innogy webservice.
+     *
+     * @param device the {@link Device}
+     * @param changedProperties the changed state properties
+     * @return true, if all properties were applied, false if the device has no state or one of the properties is not
+     *         known, so the device must be refreshed
+     */
+    public boolean applyDeviceStateChange(Device device, List<Property> changedProperties) {
+        if (!device.hasState()) {
+            return false;
+        }
+
+        Map<String, Property> stateMap = device.getDeviceState().getStateMap();
+        synchronized (device) {
+            for (Property p : changedProperties) {
+                if (!stateMap.containsKey(p.getName())) {
+                    return false;
+                }
+            }
+            for (Property p : changedProperties) {
+                logger.debug("State of device {} changed {} to {}.", device.getId(), p.getName(), p.getValue());
+                Property state = stateMap.get(p.getName());
+                state.setValue(p.getValue());
+                state.setLastchanged(p.getLastchanged());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds a {@link Message} of the given {@link Device} to the structure and applies it to the device state.
+     *
+     * @param device the {@link Device}
+     * @param message the new {@link Message}
+     */
+    public void addMessage(Device device, Message message) {
+        synchronized (device) {
+            List<Message> messageList = device.hasMessages() ? new ArrayList<>(device.getMessageList())
+                    : new ArrayList<>();
+            messageList.add(message);
+            device.setMessageListWithoutState(messageList);
+            if (Message.TYPE_DEVICE_LOW_BATTERY.equals(message.getType())) {
+                device.setLowBattery(true);
+            }
+        }
+    }
+
+    /**
+     * Removes the {@link Message} with the given id from the {@link Device} and applies the removal to the device
+     * state.
+     *
+     * @param device the {@link Device}
+     * @param messageId the id of the deleted {@link Message}
+     */
+    public void removeMessage(Device device, String messageId) {
+        synchronized (device) {
+            if (!device.hasMessages()) {
+                return;
+            }
+            List<Message> messageList = new ArrayList<>(device.getMessageList());
+            boolean lowBattery = false;
+            boolean unreachable = false;
+            boolean unreachableRemoved = false;
+            for (Iterator<Message> i = messageList.iterator(); i.hasNext();) {
+                Message m = i.next();
+                if (messageId.equals(m.getId())) {
+                    i.remove();
+                    unreachableRemoved |= Message.TYPE_DEVICE_UNREACHABLE.equals(m.getType());
+                } else if (Message.TYPE_DEVICE_LOW_BATTERY.equals(m.getType())) {
+                    lowBattery = true;
+                } else if (Message.TYPE_DEVICE_UNREACHABLE.equals(m.getType())) {
+                    unreachable = true;
+                }
+            }
+            device.setMessageListWithoutState(messageList);
+            device.setLowBattery(lowBattery);
+            if (unreachableRemoved && device.hasState()) {
+                device.setReachable(!unreachable);
+            }
+        }
+    }
+
     /**
      * Adds the {@link Device} to the structure.
      *
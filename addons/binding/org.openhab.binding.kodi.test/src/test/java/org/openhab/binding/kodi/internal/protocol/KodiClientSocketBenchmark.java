@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.kodi.internal.protocol;
+
+import static org.junit.Assert.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+
+/**
+ * Compares serial and pipelined calls of the {@link KodiClientSocket} against a {@link MockKodiWebSocket}. It is not
+ * part of the default test run, run it with <code>mvn test -Dtest=KodiClientSocketBenchmark</code>.
+ *
+ * @author agent - Initial contribution
+ */
+public class KodiClientSocketBenchmark {
+
+    private final Logger logger = LoggerFactory.getLogger(KodiClientSocketBenchmark.class);
+
+    private static final int CALLS = 50;
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void pipelinedCallsLatency() throws Exception {
+        KodiClientSocket socket = new MockKodiWebSocket(scheduler).getSocket();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < CALLS; i++) {
+            assertNotNull(socket.callMethod("Test.Serial"));
+        }
+        long serialNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        List<CompletableFuture<JsonElement>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLS; i++) {
+            futures.add(socket.callMethodAsync("Test.Pipelined", null));
+        }
+        for (CompletableFuture<JsonElement> future : futures) {
+            assertNotNull(future.get(10, TimeUnit.SECONDS));
+        }
+        long pipelinedNanos = System.nanoTime() - start;
+
+        logger.info("{} calls with {} ms response latency: serial {} ms, pipelined {} ms", CALLS,
+                MockKodiWebSocket.RESPONSE_LATENCY_MS, TimeUnit.NANOSECONDS.toMillis(serialNanos),
+                TimeUnit.NANOSECONDS.toMillis(pipelinedNanos));
+    }
+}
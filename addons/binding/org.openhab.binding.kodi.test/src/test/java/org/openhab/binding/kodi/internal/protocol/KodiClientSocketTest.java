@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.kodi.internal.protocol;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Tests {@link KodiClientSocket} against a {@link MockKodiWebSocket}.
+ *
+ * @author agent - Initial contribution
+ */
+public class KodiClientSocketTest {
+
+    private static final int CALLS = 50;
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+
+    private MockKodiWebSocket webSocket;
+    private KodiClientSocket socket;
+
+    @Before
+    public void setUp() {
+        webSocket = new MockKodiWebSocket(scheduler);
+        socket = webSocket.getSocket();
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void concurrentCallsAreAllAnswered() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<JsonElement>> results = new ArrayList<>();
+            for (int i = 0; i < CALLS; i++) {
+                String method = "Test.Method" + i;
+                results.add(callers.submit(() -> socket.callMethod(method)));
+            }
+
+            for (int i = 0; i < CALLS; i++) {
+                assertEquals(new JsonPrimitive("Test.Method" + i), results.get(i).get(10, TimeUnit.SECONDS));
+            }
+            assertFalse("Messages sent concurrently", webSocket.hasSentConcurrently());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    public void batchResultsAreReturnedInRequestOrder() {
+        JsonElement[] results = socket.callMethods(new String[] { "Player.GetProperties", "Player.GetItem" },
+                new JsonObject[] { null, null });
+
+        assertEquals(new JsonPrimitive("Player.GetProperties"), results[0]);
+        assertEquals(new JsonPrimitive("Player.GetItem"), results[1]);
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.kodi.internal.protocol;
+
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jetty.websocket.api.RemoteEndpoint;
+import org.eclipse.jetty.websocket.api.Session;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Local mock of the Kodi WebSocket, which answers every request with the name of the called method after a fixed
+ * latency.
+ *
+ * @author agent - Initial contribution
+ */
+class MockKodiWebSocket {
+
+    static final long RESPONSE_LATENCY_MS = 5;
+
+    private final ScheduledExecutorService scheduler;
+    private final JsonParser parser = new JsonParser();
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private final AtomicBoolean concurrentSend = new AtomicBoolean();
+
+    private final KodiClientSocket socket;
+    private final KodiClientSocket.KodiWebSocketListener listener;
+
+    MockKodiWebSocket(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+        socket = new KodiClientSocket(null, URI.create("ws://localhost:9090/jsonrpc"), scheduler);
+        listener = socket.new KodiWebSocketListener();
+        listener.onConnect(createSession());
+    }
+
+    /**
+     * Returns the {@link KodiClientSocket} connected to this mock.
+     */
+    KodiClientSocket getSocket() {
+        return socket;
+    }
+
+    /**
+     * Returns whether a message was sent while another one was still being sent.
+     */
+    boolean hasSentConcurrently() {
+        return concurrentSend.get();
+    }
+
+    private Session createSession() {
+        RemoteEndpoint remote = (RemoteEndpoint) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { RemoteEndpoint.class }, (proxy, method, args) -> {
+                    if ("sendString".equals(method.getName()) && args.length == 1) {
+                        send((String) args[0]);
+                    }
+                    return null;
+                });
+        return (Session) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Session.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getRemote":
+                            return remote;
+                        case "isOpen":
+                            return true;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    /**
+     * Behaves like the blocking remote endpoint of Jetty, which fails if a message is sent while another one is
+     * still being sent.
+     */
+    private void send(String message) throws InterruptedException {
+        if (!sending.compareAndSet(false, true)) {
+            concurrentSend.set(true);
+            throw new IllegalStateException("Blocking message pending");
+        }
+        try {
+            Thread.sleep(1);
+            JsonElement request = parser.parse(message);
+            scheduler.schedule(() -> listener.onMessage(createResponse(request).toString()), RESPONSE_LATENCY_MS,
+                    TimeUnit.MILLISECONDS);
+        } finally {
+            sending.set(false);
+        }
+    }
+
+    private JsonElement createResponse(JsonElement request) {
+        if (request.isJsonArray()) {
+            // the responses of a batch may be returned in any order
+            JsonArray requests = request.getAsJsonArray();
+            JsonArray responses = new JsonArray();
+            for (int i = requests.size() - 1; i >= 0; i--) {
+                responses.add(createResponse(requests.get(i)));
+            }
+            return responses;
+        }
+
+        JsonObject response = new JsonObject();
+        response.addProperty("jsonrpc", "2.0");
+        response.add("id", request.getAsJsonObject().get("id"));
+        response.add("result", request.getAsJsonObject().get("method"));
+        return response;
+    }
+}
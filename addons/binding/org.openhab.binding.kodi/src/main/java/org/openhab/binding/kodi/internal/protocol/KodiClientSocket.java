@@ -10,9 +10,13 @@ package org.openhab.binding.kodi.internal.protocol;
 
 import java.io.IOException;
 import java.net.URI;
-import java.util.concurrent.CountDownLatch;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
@@ -25,6 +29,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -43,9 +48,12 @@ public class KodiClientSocket {
     private final ScheduledExecutorService scheduler;
     private static final int REQUEST_TIMEOUT_MS = 60000;
 
-    private CountDownLatch commandLatch = null;
-    private JsonObject commandResponse = null;
-    private int nextMessageId = 1;
+    // outstanding requests by message id, completed when the response arrives
+    private final Map<Integer, CompletableFuture<JsonElement>> pendingRequests = new ConcurrentHashMap<>();
+    private final AtomicInteger nextMessageId = new AtomicInteger(1);
+
+    // the blocking remote endpoint of Jetty allows only one message to be sent at a time
+    private final Object sendLock = new Object();
 
     private boolean connected = false;
 
@@ -133,13 +141,17 @@ public class KodiClientSocket {
         @OnWebSocketMessage
         public void onMessage(String message) {
             logger.debug("Message received from server: {}", message);
-            final JsonObject json = parser.parse(message).getAsJsonObject();
-            if (json.has("id")) {
-                int messageId = json.get("id").getAsInt();
-                if (messageId == nextMessageId - 1) {
-                    commandResponse = json;
-                    commandLatch.countDown();
+            final JsonElement element = parser.parse(message);
+            if (element.isJsonArray()) {
+                // response to a batch request
+                for (JsonElement response : element.getAsJsonArray()) {
+                    handleResponse(response.getAsJsonObject());
                 }
+                return;
+            }
+            final JsonObject json = element.getAsJsonObject();
+            if (json.has("id")) {
+                handleResponse(json);
             } else {
                 logger.debug("Event received from server: {}", json);
                 if (eventHandler != null) {
@@ -160,6 +172,7 @@ public class KodiClientSocket {
             logger.debug("Closing a WebSocket due to {}", reason);
             session = null;
             connected = false;
+            cancelPendingRequests();
             if (eventHandler != null) {
                 scheduler.submit(() -> {
                     try {
@@ -173,52 +186,140 @@ public class KodiClientSocket {
     }
 
     private void sendMessage(String str) throws IOException {
-        if (isConnected()) {
-            logger.debug("send message: {}", str);
-            session.getRemote().sendString(str);
+        synchronized (sendLock) {
+            Session session = this.session;
+            if (isConnected() && session != null) {
+                logger.debug("send message: {}", str);
+                session.getRemote().sendString(str);
+            } else {
+                throw new IOException("socket not initialized");
+            }
+        }
+    }
+
+    private void handleResponse(JsonObject response) {
+        JsonElement id = response.get("id");
+        CompletableFuture<JsonElement> future = id == null || id.isJsonNull() ? null
+                : pendingRequests.remove(id.getAsInt());
+        if (future == null) {
+            logger.debug("Response without pending request received from server: {}", response);
+            return;
+        }
+        if (response.has("result")) {
+            future.complete(response.get("result"));
         } else {
-            throw new IOException("socket not initialized");
+            logger.debug("Error received from server: {}", response.get("error"));
+            future.complete(null);
         }
     }
 
-    public JsonElement callMethod(String methodName) {
-        return callMethod(methodName, null);
+    private void cancelPendingRequests() {
+        for (Integer messageId : pendingRequests.keySet()) {
+            CompletableFuture<JsonElement> future = pendingRequests.remove(messageId);
+            if (future != null) {
+                future.complete(null);
+            }
+        }
     }
 
-    public synchronized JsonElement callMethod(String methodName, JsonObject params) {
+    private JsonObject createRequest(int messageId, String methodName, JsonObject params) {
+        JsonObject payloadObject = new JsonObject();
+        payloadObject.addProperty("jsonrpc", "2.0");
+        payloadObject.addProperty("id", messageId);
+        payloadObject.addProperty("method", methodName);
+
+        if (params != null) {
+            payloadObject.add("params", params);
+        }
+        return payloadObject;
+    }
+
+    private JsonElement getResult(CompletableFuture<JsonElement> future, int messageId, String methodName,
+            JsonObject params, long deadline) {
         try {
-            JsonObject payloadObject = new JsonObject();
-            payloadObject.addProperty("jsonrpc", "2.0");
-            payloadObject.addProperty("id", nextMessageId);
-            payloadObject.addProperty("method", methodName);
+            JsonElement result = future.get(Math.max(0, deadline - System.currentTimeMillis()),
+                    TimeUnit.MILLISECONDS);
+            logger.debug("callMethod({}) returns {}", methodName, result);
+            return result;
+        } catch (TimeoutException e) {
+            logger.debug("Timeout during callMethod({}, {})", methodName, params);
+        } catch (Exception e) {
+            logger.debug("Error during callMethod({}): {}", methodName, e.getMessage(), e);
+        }
+        pendingRequests.remove(messageId);
+        return null;
+    }
 
-            if (params != null) {
-                payloadObject.add("params", params);
-            }
+    /**
+     * Sends a request without waiting for the response. Several requests may be outstanding at the same time.
+     *
+     * @param methodName the JSON-RPC method
+     * @param params the parameters or null
+     * @return a future completed with the result of the request, or with null if Kodi returned an error or the
+     *         connection was closed
+     */
+    public CompletableFuture<JsonElement> callMethodAsync(String methodName, JsonObject params) {
+        return sendRequest(nextMessageId.getAndIncrement(), methodName, params);
+    }
 
-            String message = mapper.toJson(payloadObject);
-
-            commandLatch = new CountDownLatch(1);
-            commandResponse = null;
-            nextMessageId++;
-
-            sendMessage(message);
-            if (commandLatch.await(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
-                logger.debug("callMethod returns {}", commandResponse);
-                if (commandResponse.has("result")) {
-                    return commandResponse.get("result");
-                } else {
-                    JsonElement error = commandResponse.get("error");
-                    logger.debug("Error received from server: {}", error);
-                    return null;
-                }
-            } else {
-                logger.debug("Timeout during callMethod({}, {})", methodName, params);
-                return null;
-            }
+    private CompletableFuture<JsonElement> sendRequest(int messageId, String methodName, JsonObject params) {
+        CompletableFuture<JsonElement> future = new CompletableFuture<>();
+        pendingRequests.put(messageId, future);
+        try {
+            sendMessage(mapper.toJson(createRequest(messageId, methodName, params)));
         } catch (Exception e) {
             logger.debug("Error during callMethod({}): {}", methodName, e.getMessage(), e);
-            return null;
+            pendingRequests.remove(messageId);
+            future.complete(null);
+        }
+        return future;
+    }
+
+    public JsonElement callMethod(String methodName) {
+        return callMethod(methodName, null);
+    }
+
+    public JsonElement callMethod(String methodName, JsonObject params) {
+        int messageId = nextMessageId.getAndIncrement();
+        CompletableFuture<JsonElement> future = sendRequest(messageId, methodName, params);
+        return getResult(future, messageId, methodName, params,
+                System.currentTimeMillis() + REQUEST_TIMEOUT_MS);
+    }
+
+    /**
+     * Sends several requests as one JSON-RPC batch and waits for all responses.
+     *
+     * @param methodNames the JSON-RPC methods
+     * @param params the parameters of each method, entries may be null
+     * @return the results in the order of the methods, entries are null for failed requests
+     */
+    public JsonElement[] callMethods(String[] methodNames, JsonObject[] params) {
+        int[] messageIds = new int[methodNames.length];
+        @SuppressWarnings("unchecked")
+        CompletableFuture<JsonElement>[] futures = new CompletableFuture[methodNames.length];
+        JsonArray batch = new JsonArray();
+        for (int i = 0; i < methodNames.length; i++) {
+            messageIds[i] = nextMessageId.getAndIncrement();
+            futures[i] = new CompletableFuture<>();
+            pendingRequests.put(messageIds[i], futures[i]);
+            batch.add(createRequest(messageIds[i], methodNames[i], params[i]));
+        }
+
+        JsonElement[] results = new JsonElement[methodNames.length];
+        try {
+            sendMessage(mapper.toJson(batch));
+        } catch (Exception e) {
+            logger.debug("Error during callMethods({}): {}", methodNames, e.getMessage(), e);
+            for (int messageId : messageIds) {
+                pendingRequests.remove(messageId);
+            }
+            return results;
+        }
+
+        long deadline = System.currentTimeMillis() + REQUEST_TIMEOUT_MS;
+        for (int i = 0; i < methodNames.length; i++) {
+            results[i] = getResult(futures[i], messageIds[i], methodNames[i], params[i], deadline);
         }
+        return results;
     }
 }
@@ -404,8 +404,10 @@ public class KodiConnection implements KodiClientSocketEventListener {
         JsonObject params = new JsonObject();
         params.addProperty("playerid", activePlayer);
         params.add("properties", getJsonArray(properties));
-        JsonElement response = socket.callMethod("Player.GetProperties", params);
+        return getSpeed(socket.callMethod("Player.GetProperties", params));
+    }
 
+    private int getSpeed(JsonElement response) {
         if (response instanceof JsonObject) {
             JsonObject result = response.getAsJsonObject();
             if (result.has("speed")) {
@@ -419,7 +421,8 @@ public class KodiConnection implements KodiClientSocketEventListener {
         if (socket.isConnected()) {
             int activePlayer = getActivePlayer();
             if (activePlayer >= 0) {
-                int speed = getSpeed(activePlayer);
+                JsonElement[] responses = requestPlayerInfo(activePlayer);
+                int speed = getSpeed(responses[0]);
                 if (speed == 0) {
                     updateState(KodiState.STOP);
                 } else if (speed == 1) {
@@ -429,7 +432,8 @@ public class KodiConnection implements KodiClientSocketEventListener {
                 } else {
                     updateState(KodiState.FASTFORWARD);
                 }
-                requestPlayerUpdate(activePlayer);
+                processPlayerItem(responses[1]);
+                processPlayerProperties(responses[0]);
             } else {
                 updateState(KodiState.STOP);
             }
@@ -437,19 +441,34 @@ public class KodiConnection implements KodiClientSocketEventListener {
     }
 
     private void requestPlayerUpdate(int activePlayer) {
-        requestPlayerItemUpdate(activePlayer);
-        requestPlayerPropertiesUpdate(activePlayer);
+        JsonElement[] responses = requestPlayerInfo(activePlayer);
+        processPlayerItem(responses[1]);
+        processPlayerProperties(responses[0]);
     }
 
-    private void requestPlayerItemUpdate(int activePlayer) {
-        final String[] properties = { "title", "album", "artist", "director", "thumbnail", "file", "fanart",
+    /**
+     * Requests the properties and the item of the player in one batch.
+     *
+     * @return the responses to Player.GetProperties and Player.GetItem
+     */
+    private JsonElement[] requestPlayerInfo(int activePlayer) {
+        final String[] properties = { "speed", "percentage", "time", "totaltime" };
+        final String[] itemProperties = { "title", "album", "artist", "director", "thumbnail", "file", "fanart",
                 "showtitle", "streamdetails", "channel", "channeltype", "genre" };
 
-        JsonObject params = new JsonObject();
-        params.addProperty("playerid", activePlayer);
-        params.add("properties", getJsonArray(properties));
-        JsonElement response = socket.callMethod("Player.GetItem", params);
+        JsonObject propertiesParams = new JsonObject();
+        propertiesParams.addProperty("playerid", activePlayer);
+        propertiesParams.add("properties", getJsonArray(properties));
+
+        JsonObject itemParams = new JsonObject();
+        itemParams.addProperty("playerid", activePlayer);
+        itemParams.add("properties", getJsonArray(itemProperties));
 
+        return socket.callMethods(new String[] { "Player.GetProperties", "Player.GetItem" },
+                new JsonObject[] { propertiesParams, itemParams });
+    }
+
+    private void processPlayerItem(JsonElement response) {
         if (response instanceof JsonObject) {
             JsonObject result = response.getAsJsonObject();
             if (result.has("item")) {
@@ -526,14 +545,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         }
     }
 
-    private void requestPlayerPropertiesUpdate(int activePlayer) {
-        final String[] properties = { "percentage", "time", "totaltime" };
-
-        JsonObject params = new JsonObject();
-        params.addProperty("playerid", activePlayer);
-        params.add("properties", getJsonArray(properties));
-        JsonElement response = socket.callMethod("Player.GetProperties", params);
-
+    private void processPlayerProperties(JsonElement response) {
         if (response instanceof JsonObject) {
             JsonObject result = response.getAsJsonObject();
 
@@ -12,13 +12,13 @@ import java.io.IOException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.MatchResult;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.smarthome.config.discovery.DiscoveryService;
@@ -28,6 +28,7 @@ import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.lutron.internal.config.IPBridgeConfig;
 import org.openhab.binding.lutron.internal.discovery.LutronDeviceDiscoveryService;
@@ -36,6 +37,7 @@ import org.openhab.binding.lutron.internal.net.TelnetSessionListener;
 import org.openhab.binding.lutron.internal.protocol.LutronCommand;
 import org.openhab.binding.lutron.internal.protocol.LutronCommandType;
 import org.openhab.binding.lutron.internal.protocol.LutronOperation;
+import org.openhab.binding.lutron.internal.protocol.LutronStatusUpdate;
 import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,8 +48,6 @@ import org.slf4j.LoggerFactory;
  * @author Allan Tong - Initial contribution
  */
 public class IPBridgeHandler extends BaseBridgeHandler {
-    private static final Pattern STATUS_REGEX = Pattern.compile("~(OUTPUT|DEVICE|SYSTEM),([^,]+),(.*)");
-
     private static final String DB_UPDATE_DATE_FORMAT = "MM/dd/yyyy HH:mm:ss";
 
     private static final Integer MONITOR_PROMPT = 12;
@@ -66,6 +66,7 @@ public class IPBridgeHandler extends BaseBridgeHandler {
 
     private TelnetSession session;
     private BlockingQueue<LutronCommand> sendQueue = new LinkedBlockingQueue<>();
+    private Map<Integer, LutronHandler> handlersByIntegrationId = new ConcurrentHashMap<>();
 
     private ScheduledFuture<?> messageSender;
     private ScheduledFuture<?> keepAlive;
@@ -271,12 +272,39 @@ public class IPBridgeHandler extends BaseBridgeHandler {
         this.sendQueue.add(command);
     }
 
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof LutronHandler) {
+            LutronHandler handler = (LutronHandler) childHandler;
+
+            try {
+                this.handlersByIntegrationId.put(handler.getIntegrationId(), handler);
+            } catch (IllegalStateException e) {
+                this.logger.debug("Handler of {} has no integration ID", childThing.getUID());
+            }
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        this.handlersByIntegrationId.values().remove(childHandler);
+    }
+
     private LutronHandler findThingHandler(int integrationId) {
+        LutronHandler handler = this.handlersByIntegrationId.get(integrationId);
+
+        if (handler != null) {
+            return handler;
+        }
+
+        // Handlers initialized before this bridge handler are not indexed yet.
         for (Thing thing : getThing().getThings()) {
             if (thing.getHandler() instanceof LutronHandler) {
-                LutronHandler handler = (LutronHandler) thing.getHandler();
+                handler = (LutronHandler) thing.getHandler();
 
                 if (handler.getIntegrationId() == integrationId) {
+                    this.handlersByIntegrationId.put(integrationId, handler);
+
                     return handler;
                 }
             }
@@ -299,27 +327,32 @@ public class IPBridgeHandler extends BaseBridgeHandler {
                 this.keepAliveReconnect.cancel(true);
             }
 
-            Matcher matcher = STATUS_REGEX.matcher(line);
+            LutronStatusUpdate update = LutronStatusUpdate.parse(line);
 
-            if (matcher.find()) {
-                LutronCommandType type = LutronCommandType.valueOf(matcher.group(1));
+            if (update != null) {
+                LutronCommandType type = update.getType();
 
                 if (type == LutronCommandType.SYSTEM) {
                     // SYSTEM messages are assumed to be a response to the SYSTEM_DBEXPORTDATETIME
                     // query. The response returns the last time the device database was updated.
-                    setDbUpdateDate(matcher.group(2), matcher.group(3));
+                    setDbUpdateDate(update.getTarget(), update.getParameters());
+
+                    continue;
+                }
+
+                int integrationId = update.getIntegrationId();
+
+                if (integrationId < 0) {
+                    this.logger.info("Ignoring message with invalid integration ID {}", line);
 
                     continue;
                 }
 
-                Integer integrationId = new Integer(matcher.group(2));
                 LutronHandler handler = findThingHandler(integrationId);
 
                 if (handler != null) {
-                    String paramString = matcher.group(3);
-
                     try {
-                        handler.handleUpdate(type, paramString.split(","));
+                        handler.handleUpdate(type, update.getParameters().split(","));
                     } catch (Exception e) {
                         this.logger.error("Error processing update", e);
                     }
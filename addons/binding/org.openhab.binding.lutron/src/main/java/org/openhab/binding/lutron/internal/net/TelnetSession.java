@@ -15,7 +15,6 @@ import java.io.InputStreamReader;
 import java.io.PrintStream;
 import java.nio.CharBuffer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.regex.MatchResult;
@@ -141,19 +140,7 @@ public class TelnetSession implements Closeable {
         long startTime = timeout > 0 ? System.currentTimeMillis() : 0;
 
         synchronized (this.charBuffer) {
-            this.charBuffer.flip();
-
-            String bufdata = this.charBuffer.toString();
-            int n = bufdata.lastIndexOf('\n');
-            String lastLine;
-
-            if (n != -1) {
-                lastLine = bufdata.substring(n + 1);
-            } else {
-                lastLine = bufdata;
-            }
-
-            Matcher matcher = regex.matcher(lastLine);
+            Matcher matcher = regex.matcher(lastLine());
 
             while (!matcher.find()) {
                 long elapsed = timeout > 0 ? (System.currentTimeMillis() - startTime) : 0;
@@ -162,22 +149,9 @@ public class TelnetSession implements Closeable {
                     break;
                 }
 
-                this.charBuffer.clear();
-                this.charBuffer.put(lastLine);
-
                 this.charBuffer.wait(timeout - elapsed);
-                this.charBuffer.flip();
 
-                bufdata = this.charBuffer.toString();
-                n = bufdata.lastIndexOf('\n');
-
-                if (n != -1) {
-                    lastLine = bufdata.substring(n + 1);
-                } else {
-                    lastLine = bufdata;
-                }
-
-                matcher = regex.matcher(lastLine);
+                matcher = regex.matcher(lastLine());
             }
 
             this.charBuffer.clear();
@@ -188,26 +162,59 @@ public class TelnetSession implements Closeable {
 
     public Iterable<String> readLines() {
         synchronized (this.charBuffer) {
-            this.charBuffer.flip();
+            char[] chars = this.charBuffer.array();
+            int end = this.charBuffer.position();
+            int lineStart = 0;
+            List<String> lines = null;
 
-            String bufdata = this.charBuffer.toString();
-            int n = bufdata.lastIndexOf('\n');
-            String leftover;
-            String[] lines = null;
+            for (int i = 0; i < end; i++) {
+                if (chars[i] == '\n') {
+                    int lineEnd = i > lineStart && chars[i - 1] == '\r' ? i - 1 : i;
 
-            if (n != -1) {
-                leftover = bufdata.substring(n + 1);
-                bufdata = bufdata.substring(0, n).trim();
+                    if (lines == null) {
+                        lines = new ArrayList<>();
+                    }
+                    lines.add(new String(chars, lineStart, lineEnd - lineStart));
 
-                lines = bufdata.split("\r\n");
-            } else {
-                leftover = bufdata;
+                    lineStart = i + 1;
+                }
             }
 
-            this.charBuffer.clear();
-            this.charBuffer.put(leftover);
+            discard(lineStart);
+
+            return lines == null ? Collections.<String> emptyList() : lines;
+        }
+    }
+
+    /**
+     * Discards all complete lines from the buffer and returns the remaining incomplete line. The returned sequence is
+     * a view of the buffer and is only valid until the buffer is modified.
+     */
+    private CharSequence lastLine() {
+        char[] chars = this.charBuffer.array();
+        int end = this.charBuffer.position();
+        int lineStart = end;
+
+        while (lineStart > 0 && chars[lineStart - 1] != '\n') {
+            lineStart--;
+        }
+
+        discard(lineStart);
+
+        return CharBuffer.wrap(chars, 0, this.charBuffer.position());
+    }
 
-            return lines == null ? Collections.<String> emptyList() : Arrays.asList(lines);
+    /**
+     * Discards the given number of characters from the start of the buffer and moves the remaining characters to the
+     * start of the buffer.
+     */
+    private void discard(int count) {
+        if (count > 0) {
+            int remaining = this.charBuffer.position() - count;
+            char[] chars = this.charBuffer.array();
+
+            System.arraycopy(chars, count, chars, 0, remaining);
+            this.charBuffer.position(remaining);
         }
     }
 
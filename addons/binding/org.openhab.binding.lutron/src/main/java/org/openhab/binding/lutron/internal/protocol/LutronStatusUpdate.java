@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.lutron.internal.protocol;
+
+/**
+ * Status update received from a Lutron integration access point, like "~OUTPUT,2,1,100.00".
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class LutronStatusUpdate {
+    private static final LutronCommandType[] STATUS_TYPES = { LutronCommandType.OUTPUT, LutronCommandType.DEVICE,
+            LutronCommandType.SYSTEM };
+
+    private final LutronCommandType type;
+    private final String target;
+    private final String parameters;
+
+    private LutronStatusUpdate(LutronCommandType type, String target, String parameters) {
+        this.type = type;
+        this.target = target;
+        this.parameters = parameters;
+    }
+
+    public LutronCommandType getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the first field of the update, which is the integration id for OUTPUT and DEVICE updates.
+     */
+    public String getTarget() {
+        return this.target;
+    }
+
+    /**
+     * Returns the comma separated fields following the target.
+     */
+    public String getParameters() {
+        return this.parameters;
+    }
+
+    /**
+     * Returns the integration id of the update.
+     *
+     * @return the integration id or -1 if the target is not a number
+     */
+    public int getIntegrationId() {
+        int id = 0;
+
+        if (this.target.isEmpty() || this.target.length() > 9) {
+            return -1;
+        }
+
+        for (int i = 0; i < this.target.length(); i++) {
+            char c = this.target.charAt(i);
+
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+
+            id = id * 10 + (c - '0');
+        }
+
+        return id;
+    }
+
+    /**
+     * Parses the first status update found in the line.
+     *
+     * @param line the received line
+     * @return the status update or null if the line contains no status update
+     */
+    public static LutronStatusUpdate parse(String line) {
+        int start = line.indexOf('~');
+
+        while (start != -1) {
+            for (LutronCommandType type : STATUS_TYPES) {
+                String name = type.name();
+                int targetStart = start + 1 + name.length() + 1;
+
+                if (line.startsWith(name, start + 1) && targetStart < line.length()
+                        && line.charAt(targetStart - 1) == ',') {
+                    int targetEnd = line.indexOf(',', targetStart);
+
+                    if (targetEnd > targetStart) {
+                        return new LutronStatusUpdate(type, line.substring(targetStart, targetEnd),
+                                line.substring(targetEnd + 1));
+                    }
+                }
+            }
+
+            start = line.indexOf('~', start + 1);
+        }
+
+        return null;
+    }
+}
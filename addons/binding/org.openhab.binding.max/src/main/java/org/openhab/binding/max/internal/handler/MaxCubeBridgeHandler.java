@@ -12,15 +12,17 @@ import static org.openhab.binding.max.MaxBindingConstants.*;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.math.BigDecimal;
 import java.net.ConnectException;
 import java.net.Socket;
-import java.net.SocketException;
+import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -28,9 +30,14 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -75,6 +82,7 @@ import org.openhab.binding.max.internal.message.LMessage;
 import org.openhab.binding.max.internal.message.MMessage;
 import org.openhab.binding.max.internal.message.Message;
 import org.openhab.binding.max.internal.message.MessageProcessor;
+import org.openhab.binding.max.internal.message.MessageType;
 import org.openhab.binding.max.internal.message.NMessage;
 import org.openhab.binding.max.internal.message.SMessage;
 import org.slf4j.Logger;
@@ -96,9 +104,16 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
     /** timeout on network connection **/
     private static final int NETWORK_TIMEOUT = 10000;
 
-    private final List<Device> devices = new ArrayList<>();
+    /** timeout for the response of the cube in inclusion mode **/
+    private static final int INCLUSION_TIMEOUT = 80000;
+
+    private final List<Device> devices = new CopyOnWriteArrayList<>();
+    private final Map<String, Device> devicesBySerial = new ConcurrentHashMap<>();
     private List<RoomInformation> rooms;
-    private final Set<String> lastActiveDevices = new HashSet<>();
+    private final Set<String> lastActiveDevices = ConcurrentHashMap.newKeySet();
+
+    /** serial numbers of the devices which are notified on the next refresh even if their state did not change */
+    private final Set<String> pendingDeviceRefreshes = ConcurrentHashMap.newKeySet();
 
     /** MAX! Thermostat default off temperature */
     private static final DecimalType DEFAULT_OFF_TEMPERATURE = new DecimalType(4.5);
@@ -107,6 +122,7 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
     private static final DecimalType DEFAULT_ON_TEMPERATURE = new DecimalType(30.5);
 
     private final List<DeviceConfiguration> configurations = new ArrayList<>();
+    private final Map<String, DeviceConfiguration> configurationsBySerial = new ConcurrentHashMap<>();
 
     /** maximum queue size that we're allowing */
     private static final int MAX_COMMANDS = 50;
@@ -125,8 +141,6 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
     private boolean propertiesSet;
     private boolean roomPropertiesSet;
 
-    private final MessageProcessor messageProcessor = new MessageProcessor();
-
     private static final int MAX_DUTY_CYCLE = 80;
     private final ReentrantLock dutyCycleLock = new ReentrantLock();
     private final Condition excessDutyCycle = dutyCycleLock.newCondition();
@@ -142,15 +156,18 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
     private int freeMemorySlots;
 
     /**
-     * connection socket and reader/writer for execute method
+     * connection socket, writer and reader thread for execute method
      */
+    private final Object commandLock = new Object();
     private Socket socket;
-    private BufferedReader reader;
     private OutputStreamWriter writer;
+    private CubeReader cubeReader;
+    private Thread cubeReaderThread;
 
     private boolean previousOnline;
 
     private final Set<DeviceStatusListener> deviceStatusListeners = new CopyOnWriteArraySet<>();
+    private final Map<String, DeviceStatusListener> deviceStatusListenersBySerial = new ConcurrentHashMap<>();
 
     private ScheduledFuture<?> pollingJob;
 
@@ -164,6 +181,7 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
     public void handleCommand(ChannelUID channelUID, Command command) {
         if (command instanceof RefreshType) {
             logger.debug("Refresh command received.");
+            pendingDeviceRefreshes.addAll(devicesBySerial.keySet());
             refreshData();
         } else {
             logger.warn("No bridge commands defined. Cannot process '{}'.", command);
@@ -259,7 +277,7 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
         logger.debug("Resetting configuration for MAX! Cube {}", getThing().getUID());
         sendCubeCommand(new ACommand());
         for (Device di : devices) {
-            for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
+            for (DeviceStatusListener deviceStatusListener : getDeviceStatusListeners(di)) {
                 try {
                     deviceStatusListener.onDeviceRemoved(this, di);
                 } catch (Exception e) {
@@ -287,16 +305,10 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
         if (previousOnline && socket != null) {
             updateStatus(ThingStatus.ONLINE, ThingStatusDetail.CONFIGURATION_PENDING, "Inclusion");
             logger.debug("Start MAX! inclusion mode for 60 seconds");
-            try {
-                socket.setSoTimeout(80000);
-                if (!sendCubeCommand(new NCommand())) {
-                    logger.debug("Error during Inclusion mode");
-                }
-                logger.debug("End MAX! inclusion mode");
-                socket.setSoTimeout(NETWORK_TIMEOUT);
-            } catch (SocketException e) {
-                logger.debug("Timeout during MAX! inclusion mode");
+            if (!sendCubeCommand(new NCommand(), INCLUSION_TIMEOUT)) {
+                logger.debug("Error during Inclusion mode");
             }
+            logger.debug("End MAX! inclusion mode");
         } else {
             logger.warn("Need to be online to start inclusion mode");
         }
@@ -404,7 +416,7 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
         Command command = sendCommand.getCommand();
 
         // send command to MAX! Cube LAN Gateway
-        HeatingThermostat device = (HeatingThermostat) getDevice(serialNumber, devices);
+        HeatingThermostat device = (HeatingThermostat) getDevice(serialNumber);
 
         if (device == null) {
             logger.debug("Cannot send command to device with serial number {}, device not listed.", serialNumber);
@@ -460,31 +472,6 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
             if (sendCubeCommand(new LCommand())) {
                 updateStatus(ThingStatus.ONLINE);
                 previousOnline = true;
-                for (Device di : devices) {
-                    if (lastActiveDevices != null && lastActiveDevices.contains(di.getSerialNumber())) {
-                        for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
-                            try {
-                                deviceStatusListener.onDeviceStateChanged(getThing().getUID(), di);
-                            } catch (Exception e) {
-                                logger.error("An exception occurred while calling the DeviceStatusListener", e);
-                                unregisterDeviceStatusListener(deviceStatusListener);
-                            }
-                        }
-                    }
-                    // New device, not seen before, pass to Discovery
-                    else {
-                        for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
-                            try {
-                                deviceStatusListener.onDeviceAdded(getThing(), di);
-                                di.setUpdated(true);
-                                deviceStatusListener.onDeviceStateChanged(getThing().getUID(), di);
-                            } catch (Exception e) {
-                                logger.error("An exception occurred while calling the DeviceStatusListener", e);
-                            }
-                            lastActiveDevices.add(di.getSerialNumber());
-                        }
-                    }
-                }
             } else if (previousOnline) {
                 onConnectionLost();
             }
@@ -494,6 +481,50 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Notifies the listeners after the devices are updated by an L message. New devices are passed to all listeners,
+     * known devices only to the listener of the device and only if their state changed or a refresh is pending.
+     */
+    private void onDevicesRefreshed() {
+        for (Device di : devices) {
+            String serialKey = serialKey(di.getSerialNumber());
+            DeviceStatusListener deviceListener = deviceStatusListenersBySerial.get(serialKey);
+            if (lastActiveDevices.add(di.getSerialNumber())) {
+                // New device, not seen before, pass to Discovery
+                for (DeviceStatusListener deviceStatusListener : getDeviceStatusListeners(di)) {
+                    try {
+                        deviceStatusListener.onDeviceAdded(getThing(), di);
+                    } catch (Exception e) {
+                        logger.error("An exception occurred while calling the DeviceStatusListener", e);
+                    }
+                }
+                di.setUpdated(true);
+            }
+            boolean refreshPending = pendingDeviceRefreshes.remove(serialKey);
+            if (deviceListener != null && (refreshPending || di.isUpdated())) {
+                try {
+                    deviceListener.onDeviceStateChanged(getThing().getUID(), di);
+                } catch (Exception e) {
+                    logger.error("An exception occurred while calling the DeviceStatusListener", e);
+                    unregisterDeviceStatusListener(deviceListener);
+                }
+            }
+            di.setUpdated(false);
+        }
+    }
+
+    /**
+     * Returns the listeners interested in all devices followed by the listener of the given device, if any.
+     */
+    private List<DeviceStatusListener> getDeviceStatusListeners(Device device) {
+        List<DeviceStatusListener> listeners = new ArrayList<>(deviceStatusListeners);
+        DeviceStatusListener deviceListener = deviceStatusListenersBySerial.get(serialKey(device.getSerialNumber()));
+        if (deviceListener != null) {
+            listeners.add(deviceListener);
+        }
+        return listeners;
+    }
+
     public void onConnectionLost() {
         logger.debug("Bridge connection lost. Updating thing status to OFFLINE.");
         previousOnline = false;
@@ -518,7 +549,27 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
         }
         boolean result = deviceStatusListeners.add(deviceStatusListener);
         if (result) {
-            // onUpdate();
+            // pass all known devices as new devices to the listener on the next refresh
+            clearDeviceList();
+        }
+        return result;
+    }
+
+    /**
+     * Registers a listener which is only notified about the device with the given serial number.
+     *
+     * @param serialNumber the serial number of the device
+     * @param deviceStatusListener the listener of the device
+     * @return true if the listener was not registered yet for the device
+     */
+    public boolean registerDeviceStatusListener(String serialNumber, DeviceStatusListener deviceStatusListener) {
+        if (serialNumber == null || deviceStatusListener == null) {
+            throw new IllegalArgumentException("It's not allowed to pass a null serialNumber or deviceStatusListener.");
+        }
+        String serialKey = serialKey(serialNumber);
+        boolean result = deviceStatusListenersBySerial.put(serialKey, deviceStatusListener) != deviceStatusListener;
+        if (result) {
+            pendingDeviceRefreshes.add(serialKey);
         }
         return result;
     }
@@ -528,6 +579,7 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
             throw new IllegalArgumentException("It's not allowed to pass a null deviceStatusListener.");
         }
         boolean result = deviceStatusListeners.remove(deviceStatusListener);
+        result |= deviceStatusListenersBySerial.values().remove(deviceStatusListener);
         if (result) {
             clearDeviceList();
         }
@@ -545,96 +597,187 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
      * @param {@link CubeCommand}
      * @return boolean success
      */
-    private synchronized boolean sendCubeCommand(CubeCommand command) {
-        try {
-            if (socket == null || socket.isClosed()) {
-                this.socketConnect();
-            } else if (maxRequestsPerConnection > 0 && requestCount >= maxRequestsPerConnection) {
-                logger.debug("maxRequestsPerConnection reached, reconnecting.");
-                socket.close();
-                this.socketConnect();
-            }
+    private boolean sendCubeCommand(CubeCommand command) {
+        return sendCubeCommand(command, NETWORK_TIMEOUT);
+    }
 
-            if (requestCount == 0) {
-                logger.debug("Connect to MAX! Cube");
-                readLines("L:");
-            }
-            if (!(requestCount == 0 && command instanceof LCommand)) {
-                logger.debug("Sending request #{} to MAX! Cube", this.requestCount);
-                if (writer == null) {
-                    logger.warn("Can't write to MAX! Cube");
+    /**
+     * Connects to the Max! Cube Lan gateway and send a command to Cube. The messages received from the Cube are
+     * processed by the {@link CubeReader} of the connection, this method only waits until the response of the command
+     * has been processed.
+     *
+     * @param {@link CubeCommand}
+     * @param responseTimeout the time in milliseconds to wait for the response of the Cube
+     * @return boolean success
+     */
+    private boolean sendCubeCommand(CubeCommand command, int responseTimeout) {
+        synchronized (commandLock) {
+            try {
+                if (socket == null || socket.isClosed()) {
+                    this.socketConnect();
+                } else if (maxRequestsPerConnection > 0 && requestCount >= maxRequestsPerConnection) {
+                    logger.debug("maxRequestsPerConnection reached, reconnecting.");
+                    socket.close();
                     this.socketConnect();
                 }
 
-                writer.write(command.getCommandString());
-                logger.trace("Write string to Max! Cube {}: {}", ipAddress, command.getCommandString());
-                writer.flush();
-                if (command.getReturnStrings() != null) {
-                    readLines(command.getReturnStrings());
-                } else {
-                    socketClose();
+                if (requestCount == 0) {
+                    logger.debug("Connect to MAX! Cube");
+                    cubeReader.awaitResponse(responseTimeout);
                 }
-            }
+                if (!(requestCount == 0 && command instanceof LCommand)) {
+                    logger.debug("Sending request #{} to MAX! Cube", this.requestCount);
+                    if (writer == null) {
+                        logger.warn("Can't write to MAX! Cube");
+                        this.socketConnect();
+                    }
 
-            requestCount++;
-            return true;
-
-        } catch (ConnectException e) {
-            logger.warn("Connection timed out on {} port {}", ipAddress, port);
-            socketClose(); // reconnect on next execution
-            return false;
-        } catch (UnknownHostException e) {
-            logger.warn("Host error occurred during execution: {}", e.getMessage());
-            socketClose(); // reconnect on next execution
-            return false;
-        } catch (IOException e) {
-            logger.warn("IO error occurred during execution: {}", e.getMessage());
-            socketClose(); // reconnect on next execution
-            return false;
-        } catch (Exception e) {
-            logger.warn("Exception occurred during execution", e);
-            socketClose(); // reconnect on next execution
-            return false;
-        } finally {
-            if (!exclusive) {
-                socketClose();
+                    String responseType = command.getReturnStrings();
+                    if (responseType != null) {
+                        cubeReader.expectResponse(responseType);
+                    }
+                    writer.write(command.getCommandString());
+                    logger.trace("Write string to Max! Cube {}: {}", ipAddress, command.getCommandString());
+                    writer.flush();
+                    if (responseType != null) {
+                        cubeReader.awaitResponse(responseTimeout);
+                    } else {
+                        socketClose();
+                    }
+                }
+
+                requestCount++;
+                return true;
+
+            } catch (ConnectException e) {
+                logger.warn("Connection timed out on {} port {}", ipAddress, port);
+                socketClose(); // reconnect on next execution
+                return false;
+            } catch (UnknownHostException e) {
+                logger.warn("Host error occurred during execution: {}", e.getMessage());
+                socketClose(); // reconnect on next execution
+                return false;
+            } catch (IOException e) {
+                logger.warn("IO error occurred during execution: {}", e.getMessage());
+                socketClose(); // reconnect on next execution
+                return false;
+            } catch (Exception e) {
+                logger.warn("Exception occurred during execution", e);
+                socketClose(); // reconnect on next execution
+                return false;
+            } finally {
+                if (!exclusive) {
+                    socketClose();
+                }
             }
         }
     }
 
     /**
-     * Read line from the Cube and process the message.
-     *
-     * @param terminator String with ending messagetype e.g. L:
-     * @throws IOException
+     * Reads the lines received on a connection to the Cube and processes the messages, so commands only wait for
+     * their response and not for the listeners notified about the received data.
      */
-    private void readLines(String terminator) throws IOException {
-        while (true) {
-            String raw = reader.readLine();
-            if (raw != null) {
-                logger.trace("message block: '{}'", raw);
+    private class CubeReader implements Runnable {
+        private final Socket readerSocket;
+        private final BufferedReader reader;
+        private final MessageProcessor messageProcessor = new MessageProcessor();
+
+        /** the type and future of the response the sender waits for */
+        private volatile String expectedResponse;
+        private volatile CompletableFuture<Void> response = new CompletableFuture<>();
+
+        public CubeReader(Socket readerSocket) throws IOException {
+            this.readerSocket = readerSocket;
+            this.reader = new BufferedReader(
+                    new InputStreamReader(readerSocket.getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Sets the message type terminating the response to the next command, e.g. L:
+         */
+        public void expectResponse(String terminator) {
+            response = new CompletableFuture<>();
+            expectedResponse = terminator;
+        }
+
+        /**
+         * Waits until the message terminating the response has been processed.
+         */
+        public void awaitResponse(int timeout) throws IOException {
+            try {
+                response.get(timeout, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                throw new SocketTimeoutException("No " + expectedResponse + " response received within " + timeout
+                        + " ms from MAX! Cube lan gateway: " + ipAddress);
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for response of MAX! Cube");
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!readerSocket.isClosed()) {
+                    String raw;
+                    try {
+                        raw = reader.readLine();
+                    } catch (SocketTimeoutException e) {
+                        continue;
+                    }
+                    if (raw == null) {
+                        break;
+                    }
+                    processLine(raw);
+                }
+            } catch (IOException e) {
+                if (!readerSocket.isClosed()) {
+                    logger.debug("Error while reading from MAX! Cube lan gateway: {}: {}", ipAddress, e.getMessage());
+                }
+            } finally {
+                response.completeExceptionally(new IOException("Connection to MAX! Cube closed"));
                 try {
-                    this.messageProcessor.addReceivedLine(raw);
-                    if (this.messageProcessor.isMessageAvailable()) {
-                        Message message = this.messageProcessor.pull();
-                        processMessage(message);
+                    readerSocket.close();
+                } catch (IOException e) {
+                    logger.debug("Error while closing the connection to MAX! Cube lan gateway: {}: {}", ipAddress,
+                            e.getMessage());
+                }
+            }
+        }
 
+        private void processLine(String raw) {
+            logger.trace("message block: '{}'", raw);
+            try {
+                this.messageProcessor.addReceivedLine(raw);
+                if (this.messageProcessor.isMessageAvailable()) {
+                    Message message = this.messageProcessor.pull();
+                    processMessage(message);
+                    if (message == null) {
+                        return;
                     }
-                } catch (UnprocessableMessageException e) {
-                    if (raw.contentEquals("M:")) {
-                        logger.info("No Rooms information found. Configure your MAX! Cube: {}", ipAddress);
-                        this.messageProcessor.reset();
-                    } else {
-                        logger.info("Message could not be processed: '{}' from MAX! Cube lan gateway: {}:", raw,
-                                ipAddress);
-                        this.messageProcessor.reset();
+                    if ((message.getType().name() + MessageProcessor.SEPARATOR).equals(expectedResponse)) {
+                        response.complete(null);
                     }
-                } catch (Exception e) {
-                    logger.info(
-                            "Error while handling message block: '{}' from MAX! Cube lan gateway: {}, Error message: {}: ",
-                            raw, ipAddress, e.getMessage(), e);
+                    if (message.getType() == MessageType.L) {
+                        onDevicesRefreshed();
+                    }
+                }
+            } catch (UnprocessableMessageException e) {
+                if (raw.contentEquals("M:")) {
+                    logger.info("No Rooms information found. Configure your MAX! Cube: {}", ipAddress);
+                    this.messageProcessor.reset();
+                } else {
+                    logger.info("Message could not be processed: '{}' from MAX! Cube lan gateway: {}:", raw,
+                            ipAddress);
                     this.messageProcessor.reset();
                 }
+            } catch (Exception e) {
+                logger.info(
+                        "Error while handling message block: '{}' from MAX! Cube lan gateway: {}, Error message: {}: ",
+                        raw, ipAddress, e.getMessage(), e);
+                this.messageProcessor.reset();
             }
         }
     }
@@ -666,6 +809,7 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
                 break;
             case L:
                 ((LMessage) message).updateDevices(devices, configurations);
+                indexDevicesBySerial();
                 logger.trace("{} devices found.", devices.size());
                 break;
             case M:
@@ -683,16 +827,10 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
     }
 
     private void processCMessage(CMessage cMessage) {
-        DeviceConfiguration c = null;
-        for (DeviceConfiguration conf : configurations) {
-            if (conf.getSerialNumber().equalsIgnoreCase(cMessage.getSerialNumber())) {
-                c = conf;
-                break;
-            }
-        }
+        DeviceConfiguration c = configurationsBySerial.get(serialKey(cMessage.getSerialNumber()));
 
         if (c == null) {
-            configurations.add(DeviceConfiguration.create(cMessage));
+            addConfiguration(DeviceConfiguration.create(cMessage));
         } else {
             c.setValues(cMessage);
             Device di = getDevice(cMessage.getSerialNumber());
@@ -701,18 +839,18 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
             }
         }
         if (exclusive) {
-            for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
-                try {
-                    Device di = getDevice(cMessage.getSerialNumber());
-                    if (di != null) {
+            Device di = getDevice(cMessage.getSerialNumber());
+            if (di != null) {
+                for (DeviceStatusListener deviceStatusListener : getDeviceStatusListeners(di)) {
+                    try {
                         deviceStatusListener.onDeviceConfigUpdate(getThing(), di);
+                    } catch (NullPointerException e) {
+                        logger.warn("Unexpected NPE cought. Please report stacktrace", e);
+                        // ignore
+                    } catch (Exception e) {
+                        logger.error("An exception occurred while calling the DeviceStatusListener", e);
+                        unregisterDeviceStatusListener(deviceStatusListener);
                     }
-                } catch (NullPointerException e) {
-                    logger.warn("Unexpected NPE cought. Please report stacktrace", e);
-                    // ignore
-                } catch (Exception e) {
-                    logger.error("An exception occurred while calling the DeviceStatusListener", e);
-                    unregisterDeviceStatusListener(deviceStatusListener);
                 }
             }
         }
@@ -741,32 +879,28 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
             setProperties(msg);
         }
         setProperties(msg);
+        Map<Integer, String> roomNames = new HashMap<>();
+        for (RoomInformation room : msg.rooms) {
+            roomNames.put(room.getPosition(), room.getName());
+        }
         for (DeviceInformation di : msg.devices) {
-            DeviceConfiguration c = null;
-            for (DeviceConfiguration conf : configurations) {
-                if (conf.getSerialNumber().equalsIgnoreCase(di.getSerialNumber())) {
-                    c = conf;
-                    break;
-                }
-            }
-
+            DeviceConfiguration c = configurationsBySerial.get(serialKey(di.getSerialNumber()));
             if (c != null) {
                 configurations.remove(c);
             }
 
             c = DeviceConfiguration.create(di);
-            configurations.add(c);
+            addConfiguration(c);
             c.setRoomId(di.getRoomId());
-            String roomName = "";
-            for (RoomInformation room : msg.rooms) {
-                if (room.getPosition() == di.getRoomId()) {
-                    roomName = room.getName();
-                }
-            }
-            c.setRoomName(roomName);
+            c.setRoomName(roomNames.getOrDefault(di.getRoomId(), ""));
         }
     }
 
+    private void addConfiguration(DeviceConfiguration configuration) {
+        configurations.add(configuration);
+        configurationsBySerial.put(serialKey(configuration.getSerialNumber()), configuration);
+    }
+
     private void processNMessage(NMessage nMessage) {
         if (nMessage.getRfAddress() != null) {
             logger.debug("New {} found. Serial: {}, rfaddress: {}", nMessage.getDeviceType(),
@@ -863,13 +997,23 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
         logger.debug("NTP properties updated");
     }
 
-    private Device getDevice(String serialNumber, List<Device> devices) {
+    /**
+     * Updates the index of the devices by serial number after the device list has changed. Devices may have been
+     * added or replaced, so all entries are written again and the ones of removed devices are dropped. The map is
+     * not cleared, so concurrent lookups always find the devices that are still present.
+     */
+    private void indexDevicesBySerial() {
+        Set<String> serialKeys = new HashSet<>();
         for (Device device : devices) {
-            if (device.getSerialNumber().toUpperCase().equals(serialNumber)) {
-                return device;
-            }
+            String serialKey = serialKey(device.getSerialNumber());
+            serialKeys.add(serialKey);
+            devicesBySerial.put(serialKey, device);
         }
-        return null;
+        devicesBySerial.keySet().retainAll(serialKeys);
+    }
+
+    private static String serialKey(String serialNumber) {
+        return serialNumber.toUpperCase();
     }
 
     /**
@@ -881,7 +1025,7 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
      */
 
     public Device getDevice(String serialNumber) {
-        return getDevice(serialNumber, devices);
+        return serialNumber == null ? null : devicesBySerial.get(serialKey(serialNumber));
     }
 
     /**
@@ -938,6 +1082,7 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
                     "Delete device " + maxDeviceSerial + " from Cube!");
             queueCommand(sendCommand);
             devices.remove(device);
+            devicesBySerial.remove(serialKey(maxDeviceSerial));
             sendDeviceAndRoomNameUpdate("Remove name entry for " + maxDeviceSerial);
             sendCommand = new SendCommand(maxDeviceSerial, new QCommand(), "Reload Data");
             queueCommand(sendCommand);
@@ -964,9 +1109,15 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
         socket = new Socket(ipAddress, port);
         socket.setSoTimeout((NETWORK_TIMEOUT));
         logger.debug("Open new connection... to {} port {}", ipAddress, port);
-        reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
         writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
         requestCount = 0;
+
+        // the Cube sends its data up to the L message after connecting
+        cubeReader = new CubeReader(socket);
+        cubeReader.expectResponse("L:");
+        cubeReaderThread = new Thread(cubeReader, "ESH-MAX!-Cube-Reader " + getThing().getUID());
+        cubeReaderThread.setDaemon(true);
+        cubeReaderThread.start();
         return true;
     }
 
@@ -976,6 +1127,17 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
         } catch (Exception e) {
         }
         socket = null;
+
+        // closing the socket ends the reader
+        Thread readerThread = cubeReaderThread;
+        cubeReaderThread = null;
+        if (readerThread != null && readerThread != Thread.currentThread()) {
+            try {
+                readerThread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 
     private void updateCubeState() {
@@ -79,6 +79,7 @@ public class MaxDevicesHandler extends BaseThingHandler implements DeviceStatusL
     private int refreshActualRate;
     private boolean refreshingActuals;
     private ScheduledFuture<?> refreshActualsJob;
+    private ScheduledFuture<?> refreshActualCheckJob;
     private double originalSetTemp;
     private ThermostatModeType originalMode;
 
@@ -112,6 +113,10 @@ public class MaxDevicesHandler extends BaseThingHandler implements DeviceStatusL
             configSet = false;
             forceRefresh = true;
             getMaxCubeBridgeHandler();
+            if (refreshActualRate >= REFRESH_ACTUAL_MIN_RATE) {
+                refreshActualCheckJob = scheduler.scheduleWithFixedDelay(this::refreshActualCheck, 1, 1,
+                        TimeUnit.MINUTES);
+            }
         } catch (Exception e) {
             logger.debug("Exception occurred during initialize : {}", e.getMessage(), e);
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
@@ -128,6 +133,10 @@ public class MaxDevicesHandler extends BaseThingHandler implements DeviceStatusL
             refreshActualsJob.cancel(true);
             refreshActualsJob = null;
         }
+        if (refreshActualCheckJob != null && !refreshActualCheckJob.isCancelled()) {
+            refreshActualCheckJob.cancel(true);
+            refreshActualCheckJob = null;
+        }
         if (bridgeHandler != null) {
             logger.trace("Clear MAX! device {} {} from bridge.", getThing().getUID(), maxDeviceSerial);
             bridgeHandler.clearDeviceList();
@@ -316,7 +325,9 @@ public class MaxDevicesHandler extends BaseThingHandler implements DeviceStatusL
                 return null;
             }
             this.bridgeHandler = (MaxCubeBridgeHandler) handler;
-            this.bridgeHandler.registerDeviceStatusListener(this);
+            if (maxDeviceSerial != null) {
+                this.bridgeHandler.registerDeviceStatusListener(maxDeviceSerial, this);
+            }
             forceRefresh = true;
         }
         return this.bridgeHandler;
@@ -380,10 +391,6 @@ public class MaxDevicesHandler extends BaseThingHandler implements DeviceStatusL
         if (!configSet) {
             setDeviceConfiguration(device);
         }
-        if (refreshActualRate >= REFRESH_ACTUAL_MIN_RATE && (device.getType() == DeviceType.HeatingThermostat
-                || device.getType() == DeviceType.HeatingThermostatPlus)) {
-            refreshActualCheck((HeatingThermostat) device);
-        }
         if (device.isUpdated() || forceRefresh) {
             logger.debug("Updating states of {} {} ({}) id: {}", device.getType(), device.getName(),
                     device.getSerialNumber(), getThing().getUID());
@@ -429,7 +436,24 @@ public class MaxDevicesHandler extends BaseThingHandler implements DeviceStatusL
         }
     }
 
-    private void refreshActualCheck(HeatingThermostat device) {
+    /**
+     * Checks periodically if the actual temperature needs to be refreshed, as the bridge only notifies about devices
+     * with changed states.
+     */
+    private void refreshActualCheck() {
+        try {
+            MaxCubeBridgeHandler maxCubeBridge = getMaxCubeBridgeHandler();
+            Device device = maxCubeBridge == null ? null : maxCubeBridge.getDevice(maxDeviceSerial);
+            if (device != null && (device.getType() == DeviceType.HeatingThermostat
+                    || device.getType() == DeviceType.HeatingThermostatPlus)) {
+                refreshActualCheck((HeatingThermostat) device);
+            }
+        } catch (Exception e) {
+            logger.debug("Exception occurred during Actuals Refresh check : {}", e.getMessage(), e);
+        }
+    }
+
+    private synchronized void refreshActualCheck(HeatingThermostat device) {
         if (device.getActualTempLastUpdated() == null) {
             Calendar t = Calendar.getInstance();
             t.add(Calendar.MINUTE, REFRESH_ACTUAL_MIN_RATE * -1);
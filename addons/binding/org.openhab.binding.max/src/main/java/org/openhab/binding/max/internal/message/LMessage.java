@@ -11,7 +11,9 @@ package org.openhab.binding.max.internal.message;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.net.util.Base64;
 import org.openhab.binding.max.internal.Utils;
@@ -53,29 +55,25 @@ public final class LMessage extends Message {
     public Collection<? extends Device> updateDevices(List<Device> devices, List<DeviceConfiguration> configurations) {
         byte[] decodedRawMessage = Base64.decodeBase64(getPayload().getBytes(StandardCharsets.UTF_8));
 
+        Map<String, Device> devicesByRfAddress = new HashMap<>();
+        for (Device device : devices) {
+            devicesByRfAddress.put(device.getRFAddress().toUpperCase(), device);
+        }
+
         MaxTokenizer tokenizer = new MaxTokenizer(decodedRawMessage);
 
         while (tokenizer.hasMoreElements()) {
             byte[] token = tokenizer.nextElement();
             String rfAddress = Utils.toHex(token[0] & 0xFF, token[1] & 0xFF, token[2] & 0xFF);
-            // logger.debug("token: "+token+" rfaddress: "+rfAddress);
-
-            Device foundDevice = null;
-            for (Device device : devices) {
-                // logger.debug(device.getRFAddress().toUpperCase()+ " vs "+rfAddress);
-                if (device.getRFAddress().toUpperCase().equals(rfAddress)) {
-                    // logger.debug("Updating device..."+rfAddress);
-                    foundDevice = device;
-                }
-            }
+
+            Device foundDevice = devicesByRfAddress.get(rfAddress);
             if (foundDevice != null) {
-                foundDevice = Device.update(token, configurations, foundDevice);
-                // devices.remove(token);
-                // devices.add(foundDevice);
+                Device.update(token, configurations, foundDevice);
             } else {
                 Device tempDevice = Device.create(token, configurations);
                 if (tempDevice != null) {
                     devices.add(tempDevice);
+                    devicesByRfAddress.put(rfAddress, tempDevice);
                 }
             }
         }
@@ -78,6 +78,8 @@ public class MilightBridgeV6Handler extends AbstractMilightBridgeHandler impleme
 
         com.setAddress(addr);
         com.setPort(port);
+        // The iBox confirms each packet, no need to wait the full delay between commands
+        com.setPacedByAcknowledge(true);
         com.start();
 
         updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_PENDING, "Waiting for session");
@@ -447,6 +447,10 @@ public class MilightV6SessionManager implements Runnable {
                     logUnknownPacket(buffer, len, "Unexpected size!");
                     continue;
                 }
+
+                // Every response of the bridge confirms a packet of ours, the send queue may send the next one.
+                sendQueue.acknowledgeReceived();
+
                 switch (buffer[0]) {
                     // 18 00 00 00 40 02 (AC CF 23 F5 7A D4) 00 20 39 38 35 62 31 35 37 62 66 36 66 63 34 33 33 36 38 61
                     // 36 33 34 36 37 65 61 33 62 31 39 64 30 64 01 00 01 17 63 00 00 05 00 09 78 6C 69 6E 6B 5F 64 65
@@ -18,6 +18,8 @@ public class QueueItem {
     int uniqueCommandId;
     boolean repeatable;
     int customDelayTime;
+    // How often this item has been send already
+    int sendCount;
 
     private QueueItem root, last = null;
     QueueItem next = null;
@@ -110,6 +112,20 @@ public class QueueItem {
         return this.root;
     }
 
+    /**
+     * @return Returns the first command of the chain this item belongs to. Returns this item if it is not chained.
+     */
+    QueueItem getRoot() {
+        return root;
+    }
+
+    /**
+     * @return Returns true if this item is part of a command chain
+     */
+    boolean isChained() {
+        return root != this || next != null;
+    }
+
     public QueueItem addRepeatable(byte[] data) {
         addNonRepeatable(data);
         root.last.repeatable = true;
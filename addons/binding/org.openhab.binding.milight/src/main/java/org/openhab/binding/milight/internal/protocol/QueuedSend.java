@@ -12,10 +12,10 @@ import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetAddress;
 import java.net.SocketException;
-import java.util.Iterator;
-import java.util.NoSuchElementException;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,12 +27,38 @@ import org.slf4j.LoggerFactory;
  * delay only. The user may issue absolute brightness or color changes faster than 1/10s though, and we don't
  * want to just queue up those commands but apply the newest command only.
  *
+ * The id of a command incorporates the zone, bulb type and command category (see
+ * {@link AbstractBulbInterface#uidc(int)}). Pending commands are indexed by that id, so replacing a command is a
+ * constant time operation.
+ *
+ * Repeatable single commands are send once and then moved to a separate repeat queue. Repeats are only send
+ * if no new command is waiting, so the first transmission of a command for another zone doesn't have to wait
+ * until all repetitions of a previous command are done.
+ *
+ * For bridges that confirm every packet (iBox/V6) the queue can be paced by those confirmations, see
+ * {@link #setPacedByAcknowledge(boolean)}. The next packet is send as soon as the bridge confirmed the previous one,
+ * the configured delay between commands is only used as upper bound.
+ *
  * @author David Graeff - Initial contribution
  */
 public class QueuedSend implements Runnable {
     private final Logger logger = LoggerFactory.getLogger(QueuedSend.class);
 
-    BlockingQueue<QueueItem> queue = new LinkedBlockingQueue<>(20);
+    private static final int MAX_QUEUE_SIZE = 100;
+    // Delay after a repeated packet. Repeated packets were send without any delay before.
+    private static final int REPEAT_DELAY = 10;
+
+    // New commands, in order of arrival. Replaced commands stay in here but are marked as invalid.
+    private final Deque<QueueItem> queue = new ArrayDeque<>();
+    // Repeatable commands that have been send at least once and need to be repeated
+    private final Deque<QueueItem> repeatQueue = new ArrayDeque<>();
+    // All pending categorised commands by their unique command id
+    private final Map<Integer, QueueItem> pendingCommands = new HashMap<>();
+
+    private final Object acknowledgeLock = new Object();
+    private boolean acknowledged = false;
+    private boolean pacedByAcknowledge = false;
+
     protected final DatagramPacket packet;
     protected final DatagramSocket datagramSocket;
     private int delayBetweenCommands = 100;
@@ -81,6 +107,26 @@ public class QueuedSend implements Runnable {
         delayBetweenCommands = ms;
     }
 
+    /**
+     * If enabled, the queue waits for a confirmation of the bridge (see {@link #acknowledgeReceived()}) after each
+     * packet instead of waiting the full delay between commands. The delay is still used as timeout.
+     *
+     * @param pacedByAcknowledge True to pace sending by bridge confirmations
+     */
+    public void setPacedByAcknowledge(boolean pacedByAcknowledge) {
+        this.pacedByAcknowledge = pacedByAcknowledge;
+    }
+
+    /**
+     * Called by the receiver of bridge responses if a packet has been confirmed by the bridge.
+     */
+    public void acknowledgeReceived() {
+        synchronized (acknowledgeLock) {
+            acknowledged = true;
+            acknowledgeLock.notifyAll();
+        }
+    }
+
     /**
      * The queue process
      */
@@ -94,7 +140,7 @@ public class QueuedSend implements Runnable {
             } else {
                 try {
                     // block/wait for another item
-                    item = queue.take();
+                    item = take();
                 } catch (InterruptedException e) {
                     if (!willbeclosed) {
                         logger.error("Queue take failed: {}", e.getLocalizedMessage());
@@ -109,9 +155,15 @@ public class QueuedSend implements Runnable {
                 continue;
             }
 
+            final boolean isRepetition = item.sendCount > 0;
+            final boolean isChain = item.isChained();
+            // Single repeatable commands are repeated via the repeat queue, chained commands in a row.
+            int times = item.repeatable && isChain ? repeatCommands : 1;
+
             packet.setData(item.data);
             try {
-                for (int i = 0; i < (item.repeatable ? repeatCommands : 1); ++i) {
+                for (int i = 0; i < times; ++i) {
+                    resetAcknowledge();
                     datagramSocket.send(packet);
 
                     if (logger.isDebugEnabled()) {
@@ -127,9 +179,16 @@ public class QueuedSend implements Runnable {
                 logger.error("Failed to send Message to '{}': {}", packet.getAddress().getHostAddress(),
                         e.getMessage());
             }
+            item.sendCount++;
+
+            if (!isChain) {
+                completeOrRepeat(item);
+            } else if (item.next == null) {
+                complete(item.getRoot());
+            }
 
             try {
-                Thread.sleep((item.customDelayTime != 0) ? item.customDelayTime : delayBetweenCommands);
+                pace(item, isRepetition);
             } catch (InterruptedException e) {
                 if (!willbeclosed) {
                     logger.error("Queue sleep failed: {}", e.getLocalizedMessage());
@@ -139,6 +198,80 @@ public class QueuedSend implements Runnable {
         }
     }
 
+    /**
+     * Blocks until a command is available. New commands are preferred over repetitions of already send commands.
+     */
+    private QueueItem take() throws InterruptedException {
+        synchronized (queue) {
+            while (true) {
+                QueueItem item = queue.poll();
+                if (item == null) {
+                    item = repeatQueue.poll();
+                }
+                if (item == null) {
+                    queue.wait();
+                } else if (item.uniqueCommandId != QueueItem.INVALID) {
+                    return item;
+                }
+            }
+        }
+    }
+
+    /**
+     * Either moves a single repeatable command to the repeat queue or removes it from the pending commands if it has
+     * been send often enough.
+     */
+    private void completeOrRepeat(QueueItem item) {
+        synchronized (queue) {
+            if (item.uniqueCommandId == QueueItem.INVALID) {
+                return;
+            }
+            if (item.repeatable && item.sendCount < repeatCommands) {
+                repeatQueue.offer(item);
+            } else {
+                complete(item);
+            }
+        }
+    }
+
+    /**
+     * Removes the command from the pending commands, if it is still the pending command for its id.
+     */
+    private void complete(QueueItem item) {
+        synchronized (queue) {
+            if (item.uniqueCommandId != NO_CATEGORY && pendingCommands.get(item.uniqueCommandId) == item) {
+                pendingCommands.remove(item.uniqueCommandId);
+            }
+        }
+    }
+
+    private void resetAcknowledge() {
+        synchronized (acknowledgeLock) {
+            acknowledged = false;
+        }
+    }
+
+    /**
+     * Waits after a send packet. A custom delay of an item is always respected. Otherwise we wait for the bridge
+     * confirmation if enabled, but not longer than the delay between commands.
+     */
+    private void pace(QueueItem item, boolean isRepetition) throws InterruptedException {
+        if (item.customDelayTime != 0) {
+            Thread.sleep(item.customDelayTime);
+        } else if (pacedByAcknowledge) {
+            long end = System.currentTimeMillis() + delayBetweenCommands;
+            synchronized (acknowledgeLock) {
+                long remaining = delayBetweenCommands;
+                while (!acknowledged && remaining > 0) {
+                    acknowledgeLock.wait(remaining);
+                    remaining = end - System.currentTimeMillis();
+                }
+            }
+        } else {
+            Thread.sleep(isRepetition ? Math.min(REPEAT_DELAY, delayBetweenCommands) : delayBetweenCommands);
+        }
+    }
+
     /**
      * Once disposed, this object can't be reused anymore.
      */
@@ -159,28 +292,39 @@ public class QueuedSend implements Runnable {
     }
 
     /**
-     * Mark all commands in the queue invalid that have the same unique id as the given one. This does not synchronise
-     * with the sender thread. If an element has been started to being processed, this method has no more effect on that
-     * element. Command chains are always executed in a row. Even if the head of the command queue has been marked
-     * as invalid, if the processing has been started, the chain will be processed completely.
+     * Mark the pending command with the same unique id as the given one invalid. If an element has been started to
+     * being processed, this method has no more effect on that element. Command chains are always executed in a row.
+     * Even if the head of the command queue has been marked as invalid, if the processing has been started, the chain
+     * will be processed completely. Outstanding repetitions of a single command are dropped.
+     *
+     * Must be called with the queue lock held.
      *
      * @param uniqueCommandId
      */
     private void removeFromQueue(int uniqueCommandId) {
-        Iterator<QueueItem> iterator = queue.iterator();
-        while (iterator.hasNext()) {
-            try {
-                QueueItem item = iterator.next();
-                if (item != null && item.uniqueCommandId == uniqueCommandId) {
-                    item.uniqueCommandId = QueueItem.INVALID; // invalidate
-                }
-            } catch (IllegalStateException e) {
-                // Ignore threading errors
-                logger.error("{}", e.getLocalizedMessage());
-            } catch (NoSuchElementException e) {
-                // The element might have been processed already while iterate.
-                // Ignore NoSuchElementException here.
+        QueueItem item = pendingCommands.remove(uniqueCommandId);
+        if (item != null) {
+            item.uniqueCommandId = QueueItem.INVALID; // invalidate
+        }
+    }
+
+    /**
+     * Adds the item to the queue and wakes up the send thread.
+     */
+    private void offer(QueueItem item) {
+        synchronized (queue) {
+            if (item.uniqueCommandId != NO_CATEGORY) {
+                removeFromQueue(item.uniqueCommandId);
             }
+            if (queue.size() >= MAX_QUEUE_SIZE) {
+                logger.debug("Send queue full, command dropped");
+                return;
+            }
+            if (item.uniqueCommandId != NO_CATEGORY) {
+                pendingCommands.put(item.uniqueCommandId, item);
+            }
+            queue.offer(item);
+            queue.notifyAll();
         }
     }
 
@@ -198,13 +342,12 @@ public class QueuedSend implements Runnable {
      * @param data Data to be send
      */
     public void queueRepeatable(int uniqueCommandId, byte[]... data) {
-        removeFromQueue(uniqueCommandId);
         QueueItem item = QueueItem.createRepeatable(uniqueCommandId, data[0]);
         QueueItem next = item;
         for (int i = 1; i < data.length; ++i) {
             next = next.addRepeatable(data[i]);
         }
-        queue.offer(item);
+        offer(item);
     }
 
     /**
@@ -216,10 +359,7 @@ public class QueuedSend implements Runnable {
      * @param item A queue item, cannot be null.
      */
     public void queue(QueueItem item) {
-        if (item.uniqueCommandId != NO_CATEGORY) {
-            removeFromQueue(item.uniqueCommandId);
-        }
-        queue.offer(item);
+        offer(item);
     }
 
     public InetAddress getAddr() {
@@ -39,6 +39,12 @@ public class EmulatedV6Bridge {
 
     private static final byte SEQ1 = 0, SEQ2 = 0;
 
+    // Light commands with less time in between are considered to belong to the same burst
+    private static final long BURST_GAP_MS = 1000;
+    private long burstStartTime = 0;
+    private long lastCommandTime = 0;
+    private int burstCommands = 0;
+
     private static final byte[] FAKE_MAC = { (byte) 0xAC, (byte) 0xCF, (byte) 0x23, (byte) 0xF5, (byte) 0x7A,
             (byte) 0xD4 };
 
@@ -287,6 +293,7 @@ public class EmulatedV6Bridge {
                             for (int i = 13; i < 19; ++i) {
                                 debugStr.append(String.format("%02X ", buffer[i]));
                             }
+                            measureBurst(debugStr);
                             logger.debug("{}", debugStr);
                         }
                     }
@@ -308,6 +315,22 @@ public class EmulatedV6Bridge {
         }
     }
 
+    /**
+     * Light commands that are received within {@link #BURST_GAP_MS} of each other are considered a burst (e.g. a scene
+     * change). Appends the number of the command within the burst and the time since the first command of the burst
+     * to the debug output. This allows to measure how fast the binding rolls out a scene change.
+     */
+    private void measureBurst(StringBuilder debugStr) {
+        long now = System.currentTimeMillis();
+        if (now - lastCommandTime > BURST_GAP_MS) {
+            burstStartTime = now;
+            burstCommands = 0;
+        }
+        lastCommandTime = now;
+        ++burstCommands;
+        debugStr.append("(burst command " + burstCommands + " after " + (now - burstStartTime) + " ms)");
+    }
+
     protected void logUnknownPacket(byte[] data, int len, String reason) {
         StringBuilder s = new StringBuilder();
         for (int i = 0; i < len; ++i) {
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.nest.internal.rest;
+
+import static org.junit.Assert.*;
+import static org.openhab.binding.nest.internal.data.NestDataUtil.*;
+
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.nest.internal.NestUtils;
+import org.openhab.binding.nest.internal.data.Thermostat;
+import org.openhab.binding.nest.internal.data.TopLevelData;
+import org.openhab.binding.nest.internal.data.TopLevelStreamingData;
+
+/**
+ * Tests the incremental decoding of {@link NestStreamingDataDecoder}.
+ *
+ * @author agent - Initial contribution
+ */
+public class NestStreamingDataDecoderTest {
+
+    private NestStreamingDataDecoder decoder = new NestStreamingDataDecoder();
+    private String completeData;
+
+    @Before
+    public void setUp() throws IOException {
+        completeData = fromFile(COMPLETE_DATA_FILE_NAME);
+    }
+
+    @Test
+    public void decodedDataEqualsGsonData() {
+        TopLevelData expected = NestUtils.fromJson(completeData, TopLevelStreamingData.class).getData();
+        assertEquals(expected, decoder.decode(completeData));
+    }
+
+    @Test
+    public void unchangedObjectsAreReused() {
+        TopLevelData first = decoder.decode(completeData);
+        TopLevelData second = decoder.decode(completeData);
+
+        assertSame(first.getDevices().getThermostats().get(THERMOSTAT1_DEVICE_ID),
+                second.getDevices().getThermostats().get(THERMOSTAT1_DEVICE_ID));
+        assertSame(first.getDevices().getCameras().get(CAMERA1_DEVICE_ID),
+                second.getDevices().getCameras().get(CAMERA1_DEVICE_ID));
+        assertSame(first.getStructures().get(STRUCTURE1_STRUCTURE_ID),
+                second.getStructures().get(STRUCTURE1_STRUCTURE_ID));
+    }
+
+    @Test
+    public void changedObjectsAreDecodedAgain() {
+        TopLevelData first = decoder.decode(completeData);
+        TopLevelData second = decoder.decode(completeData.replace("\"humidity\": 25", "\"humidity\": 30"));
+
+        Thermostat thermostat = second.getDevices().getThermostats().get(THERMOSTAT1_DEVICE_ID);
+        assertNotSame(first.getDevices().getThermostats().get(THERMOSTAT1_DEVICE_ID), thermostat);
+        assertEquals(Integer.valueOf(30), thermostat.getHumidity());
+        assertSame(first.getDevices().getCameras().get(CAMERA1_DEVICE_ID),
+                second.getDevices().getCameras().get(CAMERA1_DEVICE_ID));
+    }
+
+    @Test
+    public void resetDecodesAllObjectsAgain() {
+        TopLevelData first = decoder.decode(completeData);
+        decoder.reset();
+        TopLevelData second = decoder.decode(completeData);
+
+        assertNotSame(first.getDevices().getThermostats().get(THERMOSTAT1_DEVICE_ID),
+                second.getDevices().getThermostats().get(THERMOSTAT1_DEVICE_ID));
+    }
+
+}
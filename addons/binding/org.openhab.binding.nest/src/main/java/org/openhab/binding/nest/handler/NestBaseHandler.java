@@ -12,8 +12,10 @@ import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.stream.Collectors;
 
@@ -57,6 +59,7 @@ import org.slf4j.LoggerFactory;
 abstract class NestBaseHandler<T> extends BaseThingHandler implements NestThingDataListener<T>, NestIdentifiable {
     private final Logger logger = LoggerFactory.getLogger(NestBaseHandler.class);
     private final Set<ChannelUID> linkedChannelUIDs = new CopyOnWriteArraySet<>();
+    private final Map<ChannelUID, State> channelStates = new ConcurrentHashMap<>();
 
     private @Nullable String deviceId;
     private Class<T> dataClass;
@@ -70,6 +73,7 @@ abstract class NestBaseHandler<T> extends BaseThingHandler implements NestThingD
     public void initialize() {
         logger.debug("Initializing handler for {}", getClass().getName());
         linkedChannelUIDs.clear();
+        channelStates.clear();
         linkedChannelUIDs.addAll(this.getThing().getChannels().stream().filter(c -> isLinked(c.getUID()))
                 .map(c -> c.getUID()).collect(Collectors.toSet()));
 
@@ -175,9 +179,11 @@ abstract class NestBaseHandler<T> extends BaseThingHandler implements NestThingD
     }
 
     protected void updateLinkedChannels(T oldData, T data) {
+        // Compare with the last published states so the states of the old data need not be computed again
         linkedChannelUIDs.forEach(channelUID -> {
             State newState = getChannelState(channelUID, data);
-            if (oldData == null || !getChannelState(channelUID, oldData).equals(newState)) {
+            State oldState = channelStates.put(channelUID, newState);
+            if (oldData == null || !newState.equals(oldState)) {
                 logger.debug("Updating {}", channelUID);
                 updateState(channelUID, newState);
             }
@@ -194,6 +200,7 @@ abstract class NestBaseHandler<T> extends BaseThingHandler implements NestThingD
     public void channelUnlinked(ChannelUID channelUID) {
         super.channelUnlinked(channelUID);
         linkedChannelUIDs.remove(channelUID);
+        channelStates.remove(channelUID);
     }
 
     @Override
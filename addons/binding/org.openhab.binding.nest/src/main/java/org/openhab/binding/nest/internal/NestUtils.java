@@ -15,6 +15,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
 
 /**
  * Utility class for sharing utility methods between objects.
@@ -35,6 +36,10 @@ public final class NestUtils {
         return GSON.fromJson(json, dataClass);
     }
 
+    public static <T> T fromJson(JsonElement json, Class<T> dataClass) {
+        return GSON.fromJson(json, dataClass);
+    }
+
     public static <T> T fromJson(Reader reader, Class<T> dataClass) {
         return GSON.fromJson(reader, dataClass);
     }
@@ -22,6 +22,15 @@ public class TopLevelData {
     private NestMetadata metadata;
     private Map<String, Structure> structures;
 
+    public TopLevelData() {
+    }
+
+    public TopLevelData(NestDevices devices, NestMetadata metadata, Map<String, Structure> structures) {
+        this.devices = devices;
+        this.metadata = metadata;
+        this.structures = structures;
+    }
+
     public NestDevices getDevices() {
         return devices;
     }
@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.nest.internal.rest;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.nest.internal.NestUtils;
+import org.openhab.binding.nest.internal.data.Camera;
+import org.openhab.binding.nest.internal.data.NestDevices;
+import org.openhab.binding.nest.internal.data.NestMetadata;
+import org.openhab.binding.nest.internal.data.SmokeDetector;
+import org.openhab.binding.nest.internal.data.Structure;
+import org.openhab.binding.nest.internal.data.Thermostat;
+import org.openhab.binding.nest.internal.data.TopLevelData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Decodes the data of the streaming 'put' events incrementally. Every put event contains all devices and structures,
+ * but usually only a few fields of one of them have changed. The JSON of every device and structure is compared with
+ * the JSON of the previous event and only objects with changed fields are deserialized again. Unchanged objects are
+ * reused, so they are recognized as unchanged by the update handlers without comparing all their fields.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NestStreamingDataDecoder {
+
+    private static final String DATA = "data";
+    private static final String DEVICES = "devices";
+    private static final String METADATA = "metadata";
+    private static final String STRUCTURES = "structures";
+    private static final String THERMOSTATS = "thermostats";
+    private static final String SMOKE_CO_ALARMS = "smoke_co_alarms";
+    private static final String CAMERAS = "cameras";
+
+    private final Logger logger = LoggerFactory.getLogger(NestStreamingDataDecoder.class);
+
+    private final JsonParser parser = new JsonParser();
+
+    /**
+     * The JSON and the decoded object of every device and structure of the previous event keyed by JSON path.
+     */
+    private Map<String, DecodedObject> lastDecodedObjects = new HashMap<>();
+
+    private static class DecodedObject {
+        private final JsonObject json;
+        private final Object object;
+
+        private DecodedObject(JsonObject json, Object object) {
+            this.json = json;
+            this.object = object;
+        }
+    }
+
+    /**
+     * Decodes the data of a streaming 'put' event.
+     *
+     * @param streamingData the JSON data of the event
+     * @return the decoded data
+     */
+    public TopLevelData decode(String streamingData) {
+        JsonObject data = parser.parse(streamingData).getAsJsonObject().getAsJsonObject(DATA);
+        Map<String, DecodedObject> decodedObjects = new HashMap<>();
+
+        @Nullable NestDevices devices = null;
+        JsonObject devicesJson = data.getAsJsonObject(DEVICES);
+        if (devicesJson != null) {
+            devices = new NestDevices(
+                    decodeObjects(devicesJson, THERMOSTATS, Thermostat.class, DEVICES + "/", decodedObjects),
+                    decodeObjects(devicesJson, SMOKE_CO_ALARMS, SmokeDetector.class, DEVICES + "/", decodedObjects),
+                    decodeObjects(devicesJson, CAMERAS, Camera.class, DEVICES + "/", decodedObjects));
+        }
+
+        JsonElement metadataJson = data.get(METADATA);
+        @Nullable NestMetadata metadata = metadataJson != null ? NestUtils.fromJson(metadataJson, NestMetadata.class)
+                : null;
+
+        Map<String, Structure> structures = decodeObjects(data, STRUCTURES, Structure.class, "", decodedObjects);
+
+        lastDecodedObjects = decodedObjects;
+        return new TopLevelData(devices, metadata, structures);
+    }
+
+    /**
+     * Resets the state so the next event is fully decoded.
+     */
+    public void reset() {
+        lastDecodedObjects = new HashMap<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> @Nullable Map<String, T> decodeObjects(JsonObject parent, String memberName, Class<T> dataClass,
+            String pathPrefix, Map<String, DecodedObject> decodedObjects) {
+        JsonObject objects = parent.getAsJsonObject(memberName);
+        if (objects == null) {
+            return null;
+        }
+
+        Map<String, T> result = new LinkedHashMap<>();
+        for (Entry<String, JsonElement> entry : objects.entrySet()) {
+            String path = pathPrefix + memberName + "/" + entry.getKey();
+            JsonObject json = entry.getValue().getAsJsonObject();
+
+            DecodedObject lastDecoded = lastDecodedObjects.get(path);
+            DecodedObject decoded;
+            if (lastDecoded != null && lastDecoded.json.equals(json)) {
+                decoded = lastDecoded;
+            } else {
+                if (lastDecoded != null && logger.isDebugEnabled()) {
+                    logger.debug("Changed fields of {}: {}", path, getChangedFields(lastDecoded.json, json));
+                }
+                decoded = new DecodedObject(json, NestUtils.fromJson(json, dataClass));
+            }
+
+            decodedObjects.put(path, decoded);
+            result.put(entry.getKey(), (T) decoded.object);
+        }
+        return result;
+    }
+
+    static Set<String> getChangedFields(JsonObject oldJson, JsonObject newJson) {
+        Set<String> changedFields = new TreeSet<>();
+        for (Entry<String, JsonElement> entry : newJson.entrySet()) {
+            if (!entry.getValue().equals(oldJson.get(entry.getKey()))) {
+                changedFields.add(entry.getKey());
+            }
+        }
+        for (Entry<String, JsonElement> entry : oldJson.entrySet()) {
+            if (!newJson.has(entry.getKey())) {
+                changedFields.add(entry.getKey());
+            }
+        }
+        return changedFields;
+    }
+
+}
@@ -27,9 +27,7 @@ import org.glassfish.jersey.media.sse.EventSource;
 import org.glassfish.jersey.media.sse.InboundEvent;
 import org.glassfish.jersey.media.sse.SseFeature;
 import org.openhab.binding.nest.handler.NestRedirectUrlSupplier;
-import org.openhab.binding.nest.internal.NestUtils;
 import org.openhab.binding.nest.internal.data.TopLevelData;
-import org.openhab.binding.nest.internal.data.TopLevelStreamingData;
 import org.openhab.binding.nest.internal.exceptions.FailedResolvingNestUrlException;
 import org.openhab.binding.nest.internal.listener.NestStreamingDataListener;
 import org.slf4j.Logger;
@@ -56,6 +54,7 @@ public class NestStreamingRestClient {
     private final Logger logger = LoggerFactory.getLogger(NestStreamingRestClient.class);
 
     private final List<NestStreamingDataListener> listeners = new CopyOnWriteArrayList<>();
+    private final NestStreamingDataDecoder decoder = new NestStreamingDataDecoder();
     private final ScheduledExecutorService scheduler;
     private final Object startStopLock = new Object();
 
@@ -135,6 +134,7 @@ public class NestStreamingRestClient {
             logger.debug("Closing EventSource and stopping checkConnection job");
             stopCheckConnectionJob(true);
             closeEventSource(0, TimeUnit.SECONDS);
+            decoder.reset();
             logger.debug("Stopped");
         }
     }
@@ -208,7 +208,7 @@ public class NestStreamingRestClient {
                 logger.debug("Event stream opened");
             } else if (PUT.equals(name)) {
                 logger.debug("Data has changed (or initial data sent)");
-                TopLevelData topLevelData = NestUtils.fromJson(data, TopLevelStreamingData.class).getData();
+                TopLevelData topLevelData = decoder.decode(data);
                 lastReceivedTopLevelData = topLevelData;
                 listeners.forEach(listener -> listener.onNewTopLevelData(topLevelData));
             } else {
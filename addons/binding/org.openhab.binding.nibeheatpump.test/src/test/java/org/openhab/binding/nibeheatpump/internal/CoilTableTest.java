@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.nibeheatpump.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link CoilTable}.
+ *
+ * @author agent - Initial contribution
+ */
+public class CoilTableTest {
+
+    @Test
+    public void testPutAndGet() {
+        CoilTable<String> table = new CoilTable<>(4);
+        for (int coilAddress = 40000; coilAddress < 40100; coilAddress++) {
+            table.put(coilAddress, "coil" + coilAddress);
+        }
+
+        assertEquals(100, table.size());
+        for (int coilAddress = 40000; coilAddress < 40100; coilAddress++) {
+            assertEquals("coil" + coilAddress, table.get(coilAddress));
+        }
+        assertNull(table.get(40100));
+    }
+
+    @Test
+    public void testPutReplacesValue() {
+        CoilTable<String> table = new CoilTable<>();
+        table.put(40004, "old");
+        table.put(40004, "new");
+
+        assertEquals(1, table.size());
+        assertEquals("new", table.get(40004));
+    }
+
+    @Test
+    public void testRemove() {
+        CoilTable<Integer> table = new CoilTable<>(4);
+        for (int coilAddress = 40000; coilAddress < 40100; coilAddress++) {
+            table.put(coilAddress, coilAddress);
+        }
+        for (int coilAddress = 40000; coilAddress < 40100; coilAddress += 2) {
+            table.remove(coilAddress);
+        }
+        table.remove(40100);
+
+        assertEquals(50, table.size());
+        for (int coilAddress = 40000; coilAddress < 40100; coilAddress++) {
+            if (coilAddress % 2 == 0) {
+                assertNull(table.get(coilAddress));
+            } else {
+                assertEquals(Integer.valueOf(coilAddress), table.get(coilAddress));
+            }
+        }
+    }
+
+    @Test
+    public void testValues() {
+        CoilTable<Integer> table = new CoilTable<>();
+        table.put(43005, 3);
+        table.put(40004, 1);
+        table.put(40008, 2);
+
+        List<Integer> values = table.values();
+        Collections.sort(values);
+        assertEquals("[1, 2, 3]", values.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCoilAddress() {
+        new CoilTable<>().put(-1, "value");
+    }
+}
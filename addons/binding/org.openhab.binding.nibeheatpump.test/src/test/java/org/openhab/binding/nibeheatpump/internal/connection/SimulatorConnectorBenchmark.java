@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.nibeheatpump.internal.connection;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.openhab.binding.nibeheatpump.internal.CoilTable;
+import org.openhab.binding.nibeheatpump.internal.NibeHeatPumpException;
+import org.openhab.binding.nibeheatpump.internal.message.MessageFactory;
+import org.openhab.binding.nibeheatpump.internal.message.ModbusDataReadOutMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the decoding of data read out messages produced by the {@link SimulatorConnector}. It is not part of the
+ * default test run, run it with <code>mvn test -Dtest=SimulatorConnectorBenchmark</code>.
+ *
+ * @author agent - Initial contribution
+ */
+public class SimulatorConnectorBenchmark {
+    private final Logger logger = LoggerFactory.getLogger(SimulatorConnectorBenchmark.class);
+
+    private static final int MESSAGE_COUNT = 20000;
+
+    private static final int VALUES_IN_MESSAGE = 17;
+
+    private List<byte[]> createMessages() {
+        SimulatorConnector simulator = new SimulatorConnector();
+        List<byte[]> messages = new ArrayList<>(MESSAGE_COUNT);
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            messages.add(simulator.nextDataReadOut());
+        }
+        return messages;
+    }
+
+    @Test
+    public void testDecodeMessages() throws NibeHeatPumpException {
+        List<byte[]> messages = createMessages();
+
+        final CoilTable<int[]> states = new CoilTable<>();
+        final int[] changes = new int[1];
+
+        long start = System.nanoTime();
+        for (byte[] data : messages) {
+            ModbusDataReadOutMessage msg = (ModbusDataReadOutMessage) MessageFactory.getMessage(data);
+            msg.forEachValue((coilAddress, value) -> {
+                int[] state = states.get(coilAddress);
+                if (state == null) {
+                    states.put(coilAddress, new int[] { value });
+                    changes[0]++;
+                } else if (state[0] != value) {
+                    state[0] = value;
+                    changes[0]++;
+                }
+            });
+        }
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals(VALUES_IN_MESSAGE, states.size());
+        assertTrue(changes[0] >= VALUES_IN_MESSAGE);
+        // only the simulated sensors change between messages
+        assertTrue(changes[0] < MESSAGE_COUNT * VALUES_IN_MESSAGE);
+        logger.info("Decoded {} messages with {} value changes in {} ms", MESSAGE_COUNT, changes[0],
+                TimeUnit.NANOSECONDS.toMillis(elapsed));
+
+        start = System.nanoTime();
+        int count = 0;
+        for (byte[] data : messages) {
+            ModbusDataReadOutMessage msg = (ModbusDataReadOutMessage) MessageFactory.getMessage(data);
+            count += msg.getValues().size();
+        }
+        elapsed = System.nanoTime() - start;
+
+        assertEquals(MESSAGE_COUNT * VALUES_IN_MESSAGE, count);
+        logger.info("Decoded {} messages to value lists in {} ms", MESSAGE_COUNT,
+                TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+}
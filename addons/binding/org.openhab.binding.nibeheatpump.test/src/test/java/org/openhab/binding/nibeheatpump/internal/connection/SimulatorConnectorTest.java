@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.nibeheatpump.internal.connection;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.openhab.binding.nibeheatpump.internal.NibeHeatPumpException;
+import org.openhab.binding.nibeheatpump.internal.message.MessageFactory;
+import org.openhab.binding.nibeheatpump.internal.message.ModbusDataReadOutMessage;
+import org.openhab.binding.nibeheatpump.internal.message.ModbusValue;
+
+/**
+ * Decodes data read out messages produced by the {@link SimulatorConnector}.
+ *
+ * @author agent - Initial contribution
+ */
+public class SimulatorConnectorTest {
+
+    private static final int VALUES_IN_MESSAGE = 17;
+
+    @Test
+    public void testForEachValueMatchesValues() throws NibeHeatPumpException {
+        SimulatorConnector simulator = new SimulatorConnector();
+        for (int i = 0; i < 100; i++) {
+            byte[] data = simulator.nextDataReadOut();
+
+            final List<ModbusValue> values = new ArrayList<>();
+            ((ModbusDataReadOutMessage) MessageFactory.getMessage(data))
+                    .forEachValue((coilAddress, value) -> values.add(new ModbusValue(coilAddress, value)));
+
+            List<ModbusValue> expectedValues = ((ModbusDataReadOutMessage) MessageFactory.getMessage(data))
+                    .getValues();
+            assertEquals(VALUES_IN_MESSAGE, values.size());
+            assertEquals(expectedValues.toString(), values.toString());
+        }
+    }
+}
@@ -11,10 +11,7 @@ package org.openhab.binding.nibeheatpump.handler;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -22,6 +19,7 @@ import java.util.concurrent.TimeoutException;
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.StringType;
+import org.eclipse.smarthome.core.thing.Channel;
 import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
@@ -31,6 +29,7 @@ import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.UnDefType;
+import org.openhab.binding.nibeheatpump.internal.CoilTable;
 import org.openhab.binding.nibeheatpump.internal.NibeHeatPumpCommandResult;
 import org.openhab.binding.nibeheatpump.internal.NibeHeatPumpException;
 import org.openhab.binding.nibeheatpump.internal.config.NibeHeatPumpConfiguration;
@@ -40,14 +39,12 @@ import org.openhab.binding.nibeheatpump.internal.connection.NibeHeatPumpEventLis
 import org.openhab.binding.nibeheatpump.internal.message.ModbusDataReadOutMessage;
 import org.openhab.binding.nibeheatpump.internal.message.ModbusReadRequestMessage;
 import org.openhab.binding.nibeheatpump.internal.message.ModbusReadResponseMessage;
-import org.openhab.binding.nibeheatpump.internal.message.ModbusValue;
 import org.openhab.binding.nibeheatpump.internal.message.ModbusWriteRequestMessage;
 import org.openhab.binding.nibeheatpump.internal.message.ModbusWriteResponseMessage;
 import org.openhab.binding.nibeheatpump.internal.message.NibeHeatPumpMessage;
 import org.openhab.binding.nibeheatpump.internal.models.PumpModel;
 import org.openhab.binding.nibeheatpump.internal.models.VariableInformation;
 import org.openhab.binding.nibeheatpump.internal.models.VariableInformation.NibeDataType;
-import org.openhab.binding.nibeheatpump.internal.models.VariableInformation.Type;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -76,32 +73,47 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
     private ScheduledFuture<?> connectorTask;
     private ScheduledFuture<?> pollingJob;
 
-    private final List<Integer> itemsToPoll = Collections.synchronizedList(new ArrayList<>());
-
     private final List<Integer> itemsToEnableWrite = new ArrayList<>();
 
-    private final Map<Integer, CacheObject> stateMap = Collections.synchronizedMap(new HashMap<Integer, CacheObject>());
+    /** States of the linked coils, these are polled and updated from the received messages */
+    private final CoilTable<CoilState> coilStates = new CoilTable<>();
+
+    protected static class CoilState {
+
+        final int coilAddress;
+        final ChannelUID channelUID;
+        final VariableInformation variableInfo;
+        final String acceptedItemType;
 
-    protected class CacheObject {
+        /** Last raw value received from the heat pump */
+        int rawValue;
 
-        /** Time when cache object updated in milliseconds */
-        final long lastUpdateTime;
+        /** Is raw value valid */
+        boolean hasValue;
 
-        /** Cache value */
-        final Double value;
+        /** Time when value updated in milliseconds */
+        long lastUpdateTime;
 
         /**
-         * Initialize cache object.
+         * Initialize coil state.
+         *
+         * @param coilAddress
+         *            Coil address.
+         *
+         * @param channelUID
+         *            Channel linked to the coil.
          *
-         * @param lastUpdateTime
-         *            Time in milliseconds.
+         * @param variableInfo
+         *            Variable information of the coil.
          *
-         * @param value
-         *            Cache value.
+         * @param acceptedItemType
+         *            Item type accepted by the channel.
          */
-        CacheObject(long lastUpdateTime, Double value) {
-            this.lastUpdateTime = lastUpdateTime;
-            this.value = value;
+        CoilState(int coilAddress, ChannelUID channelUID, VariableInformation variableInfo, String acceptedItemType) {
+            this.coilAddress = coilAddress;
+            this.channelUID = channelUID;
+            this.variableInfo = variableInfo;
+            this.acceptedItemType = acceptedItemType;
         }
     }
 
@@ -191,10 +203,21 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
 
         // Add channel to polling loop
         int coilAddress = parseCoilAddressFromChannelUID(channelUID);
-        synchronized (itemsToPoll) {
-            itemsToPoll.add(coilAddress);
+
+        VariableInformation variableInfo = VariableInformation.getVariableInfo(pumpModel, coilAddress);
+        if (variableInfo == null) {
+            logger.debug("Unknown register {}, channel '{}' not updated", coilAddress, channelUID);
+            return;
+        }
+
+        Channel channel = thing.getChannel(channelUID.getId());
+        if (channel == null) {
+            logger.debug("Unknown channel '{}'", channelUID);
+            return;
         }
-        clearCache(coilAddress);
+
+        logger.trace("AcceptedItemType for channel {} = {}", channelUID, channel.getAcceptedItemType());
+        coilStates.put(coilAddress, new CoilState(coilAddress, channelUID, variableInfo, channel.getAcceptedItemType()));
     }
 
     @Override
@@ -203,9 +226,7 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
 
         // remove channel from polling loop
         int coilAddress = parseCoilAddressFromChannelUID(channelUID);
-        synchronized (itemsToPoll) {
-            itemsToPoll.removeIf(c -> c.equals(coilAddress));
-        }
+        coilStates.remove(coilAddress);
     }
 
     private int parseCoilAddressFromChannelUID(ChannelUID channelUID) {
@@ -304,18 +325,16 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
                 return;
             }
 
-            List<Integer> items;
-            synchronized (itemsToPoll) {
-                items = new ArrayList<>(itemsToPoll);
-            }
-
-            for (int item : items) {
+            for (CoilState coilState : coilStates.values()) {
                 if (connector != null && connector.isConnected()
                         && getThing().getStatusInfo().getStatus() == ThingStatus.ONLINE) {
 
-                    CacheObject oldValue = stateMap.get(item);
-                    if (oldValue == null
-                            || (oldValue.lastUpdateTime + refreshIntervalMillis()) < System.currentTimeMillis()) {
+                    int item = coilState.coilAddress;
+                    long lastUpdateTime;
+                    synchronized (coilState) {
+                        lastUpdateTime = coilState.hasValue ? coilState.lastUpdateTime : 0;
+                    }
+                    if (lastUpdateTime == 0 || (lastUpdateTime + refreshIntervalMillis()) < System.currentTimeMillis()) {
 
                         // it's time to refresh data
                         logger.debug("Time to refresh variable '{}' data", item);
@@ -333,7 +352,7 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
                                             result.getCoilAddress(), request.getCoilAddress());
                                 }
                                 // update variable anyway
-                                handleVariableUpdate(pumpModel, result.getValueAsModbusValue());
+                                handleVariableUpdate(result.getCoilAddress(), result.getValue());
                             }
                         } catch (TimeoutException e) {
                             logger.debug("Message sending to heat pump failed, no response");
@@ -421,11 +440,23 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
     }
 
     private void clearCache() {
-        stateMap.clear();
+        for (CoilState coilState : coilStates.values()) {
+            clearCache(coilState);
+        }
     }
 
     private void clearCache(int coilAddress) {
-        stateMap.put(coilAddress, null);
+        CoilState coilState = coilStates.get(coilAddress);
+        if (coilState != null) {
+            clearCache(coilState);
+        }
+    }
+
+    private void clearCache(CoilState coilState) {
+        synchronized (coilState) {
+            coilState.hasValue = false;
+            coilState.lastUpdateTime = 0;
+        }
     }
 
     private synchronized NibeHeatPumpCommandResult sendMessageToNibe(NibeHeatPumpMessage msg)
@@ -481,43 +512,35 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
     }
 
     private void handleDataReadOutMessage(ModbusDataReadOutMessage msg) {
-        List<ModbusValue> regValues = msg.getValues();
-
-        if (regValues != null) {
-            for (ModbusValue val : regValues) {
-                handleVariableUpdate(pumpModel, val);
-            }
-        }
+        msg.forEachValue(this::handleVariableUpdate);
     }
 
-    private void handleVariableUpdate(PumpModel pumpModel, ModbusValue value) {
-        logger.debug("Received variable update: {}", value);
-        int coilAddress = value.getCoilAddress();
-
-        VariableInformation variableInfo = VariableInformation.getVariableInfo(pumpModel, coilAddress);
-
-        if (variableInfo != null) {
-            logger.trace("Using variable information to register {}: {}", coilAddress, variableInfo);
+    private void handleVariableUpdate(int coilAddress, int value) {
+        logger.trace("Received variable update: {} = {}", coilAddress, value);
 
-            double val = (double) value.getValue() / (double) variableInfo.factor;
-            logger.debug("{} = {}", coilAddress + ":" + variableInfo.variable, val);
+        CoilState coilState = coilStates.get(coilAddress);
+        if (coilState == null) {
+            logger.trace("Register {} not linked to any channel, ignoring update", coilAddress);
+            return;
+        }
 
-            CacheObject oldValue = stateMap.get(coilAddress);
-            stateMap.put(coilAddress, new CacheObject(System.currentTimeMillis(), val));
+        synchronized (coilState) {
+            boolean changed = !coilState.hasValue || coilState.rawValue != value;
+            coilState.rawValue = value;
+            coilState.hasValue = true;
+            coilState.lastUpdateTime = System.currentTimeMillis();
 
-            if (oldValue != null && val == oldValue.value) {
+            if (!changed) {
                 logger.trace("Value did not change, ignoring update");
-            } else {
-                final String channelPrefix = (variableInfo.type == Type.SETTING ? "setting#" : "sensor#");
-                final String channelId = channelPrefix + String.valueOf(coilAddress);
-                final String acceptedItemType = thing.getChannel(channelId).getAcceptedItemType();
-
-                logger.trace("AcceptedItemType for channel {} = {}", channelId, acceptedItemType);
-                State state = convertNibeValueToState(variableInfo.dataType, val, acceptedItemType);
-                updateState(new ChannelUID(getThing().getUID(), channelId), state);
+                return;
             }
-        } else {
-            logger.debug("Unknown register {}", coilAddress);
         }
+
+        VariableInformation variableInfo = coilState.variableInfo;
+        double val = (double) value / (double) variableInfo.factor;
+        logger.debug("{} = {}", coilAddress + ":" + variableInfo.variable, val);
+
+        State state = convertNibeValueToState(variableInfo.dataType, val, coilState.acceptedItemType);
+        updateState(coilState.channelUID, state);
     }
 }
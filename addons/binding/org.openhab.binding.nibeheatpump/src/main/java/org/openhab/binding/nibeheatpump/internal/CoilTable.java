@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.nibeheatpump.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@link CoilTable} is an open addressing hash table keyed by coil address. It avoids boxing the coil
+ * addresses for every value received from the heat pump.
+ *
+ * @author agent - Initial contribution
+ */
+public class CoilTable<T> {
+
+    private static final int EMPTY = -1;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+
+    public CoilTable() {
+        this(64);
+    }
+
+    public CoilTable(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(initialCapacity, 4) - 1) << 1;
+        keys = new int[capacity];
+        values = new Object[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    @SuppressWarnings("unchecked")
+    public synchronized T get(int coilAddress) {
+        int mask = keys.length - 1;
+        for (int i = index(coilAddress, mask);; i = (i + 1) & mask) {
+            if (keys[i] == coilAddress) {
+                return (T) values[i];
+            }
+            if (keys[i] == EMPTY) {
+                return null;
+            }
+        }
+    }
+
+    public synchronized void put(int coilAddress, T value) {
+        if (coilAddress < 0) {
+            throw new IllegalArgumentException("Illegal coil address " + coilAddress);
+        }
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        for (int i = index(coilAddress, mask);; i = (i + 1) & mask) {
+            if (keys[i] == coilAddress) {
+                values[i] = value;
+                return;
+            }
+            if (keys[i] == EMPTY) {
+                keys[i] = coilAddress;
+                values[i] = value;
+                size++;
+                return;
+            }
+        }
+    }
+
+    public synchronized void remove(int coilAddress) {
+        int mask = keys.length - 1;
+        int i = index(coilAddress, mask);
+        while (keys[i] != coilAddress) {
+            if (keys[i] == EMPTY) {
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = EMPTY;
+        values[i] = null;
+        size--;
+
+        // move following entries of the probe sequence into the gap
+        for (int j = (i + 1) & mask; keys[j] != EMPTY; j = (j + 1) & mask) {
+            int home = index(keys[j], mask);
+            if (((j - home) & mask) >= ((j - i) & mask)) {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                keys[j] = EMPTY;
+                values[j] = null;
+                i = j;
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns a snapshot of all values in the table.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized List<T> values() {
+        List<T> result = new ArrayList<>(size);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                result.add((T) values[i]);
+            }
+        }
+        return result;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[capacity];
+        values = new Object[capacity];
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+        int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != EMPTY) {
+                int i = index(oldKeys[j], mask);
+                while (keys[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+                size++;
+            }
+        }
+    }
+
+    private static int index(int coilAddress, int mask) {
+        // coil addresses are mostly sequential, spread them over the table
+        return (coilAddress * 0x9E3779B9 >>> 16) & mask;
+    }
+}
@@ -141,9 +141,7 @@ public class SimulatorConnector extends NibeHeatPumpBaseConnector {
                     if (i++ % 60 == 0) {
 
                         // simulate CRC error ones a while
-                        ModbusDataReadOutMessage dataReadOut = new ModbusDataReadOutMessage.MessageBuilder()
-                                .values(dataReadoutValues).build();
-                        byte[] data = dataReadOut.decodeMessage();
+                        byte[] data = createDataReadOut();
                         // create CRC error
                         data[data.length - 1] = (byte) (data[data.length - 1] + 1);
                         sendMsgToListeners(data);
@@ -159,11 +157,7 @@ public class SimulatorConnector extends NibeHeatPumpBaseConnector {
                     } else if (i % 10 == 0) {
 
                         // ok data
-                        ModbusDataReadOutMessage dataReadOut = new ModbusDataReadOutMessage.MessageBuilder()
-                                .values(dataReadoutValues).build();
-                        updateData();
-                        updateCache();
-                        sendMsgToListeners(dataReadOut.decodeMessage());
+                        sendMsgToListeners(nextDataReadOut());
                     }
 
                     if (!writeQueue.isEmpty()) {
@@ -210,6 +204,22 @@ public class SimulatorConnector extends NibeHeatPumpBaseConnector {
         }
     }
 
+    /**
+     * Creates data read out message from the current simulated values.
+     */
+    byte[] createDataReadOut() {
+        return new ModbusDataReadOutMessage.MessageBuilder().values(dataReadoutValues).build().decodeMessage();
+    }
+
+    /**
+     * Updates simulated values and creates data read out message from them.
+     */
+    byte[] nextDataReadOut() {
+        updateData();
+        updateCache();
+        return createDataReadOut();
+    }
+
     private void updateCache() {
         for (ModbusValue val : dataReadoutValues) {
             cache.put(val.getCoilAddress(), val.getValue());
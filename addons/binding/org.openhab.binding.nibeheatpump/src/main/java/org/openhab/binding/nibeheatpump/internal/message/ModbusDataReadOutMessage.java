@@ -21,8 +21,19 @@ import org.openhab.binding.nibeheatpump.internal.protocol.NibeHeatPumpProtocol;
  */
 public class ModbusDataReadOutMessage extends NibeHeatPumpBaseMessage {
 
+    /**
+     * Receives the values of a data read out message without creating {@link ModbusValue} objects.
+     */
+    @FunctionalInterface
+    public interface ValueConsumer {
+        void accept(int coilAddress, int value);
+    }
+
     private List<ModbusValue> values;
 
+    // length of the received message, values are decoded from the raw message on demand
+    private int msglen;
+
     private ModbusDataReadOutMessage(MessageBuilder builder) {
         super.msgType = MessageType.MODBUS_DATA_READ_OUT_MSG;
         this.values = builder.values;
@@ -33,17 +44,46 @@ public class ModbusDataReadOutMessage extends NibeHeatPumpBaseMessage {
     }
 
     public List<ModbusValue> getValues() {
+        if (values == null) {
+            List<ModbusValue> vals = new ArrayList<>();
+            forEachValue((coilAddress, value) -> vals.add(new ModbusValue(coilAddress, value)));
+            values = vals;
+        }
         return values;
     }
 
+    /**
+     * Passes all values of the message to the consumer. Values of a received message are decoded directly from the
+     * raw message.
+     *
+     * @param consumer consumer of the values
+     */
+    public void forEachValue(ValueConsumer consumer) {
+        if (values != null) {
+            for (ModbusValue value : values) {
+                consumer.accept(value.getCoilAddress(), value.getValue());
+            }
+            return;
+        }
+
+        for (int i = NibeHeatPumpProtocol.OFFSET_DATA; i < (msglen - 1); i += 4) {
+            int id = ((rawMessage[i + 1] & 0xFF) << 8 | (rawMessage[i + 0] & 0xFF));
+            int value = (short) ((rawMessage[i + 3] & 0xFF) << 8 | (rawMessage[i + 2] & 0xFF));
+
+            if (id != 0xFFFF) {
+                consumer.accept(id, value);
+            }
+        }
+    }
+
     @Override
     public void encodeMessage(byte[] data) throws NibeHeatPumpException {
-        values = parseMessage(data);
+        parseMessage(data);
     }
 
     @Override
     public byte[] decodeMessage() {
-        return createDataReadOutPdu(values);
+        return createDataReadOutPdu(getValues());
     }
 
     private byte[] createDataReadOutPdu(List<ModbusValue> values) {
@@ -82,33 +122,22 @@ public class ModbusDataReadOutMessage extends NibeHeatPumpBaseMessage {
     public String toString() {
         String str = super.toString();
         str += ", Values: ";
-        str += values.toString();
+        str += getValues().toString();
         return str;
     }
 
-    private List<ModbusValue> parseMessage(byte[] data) throws NibeHeatPumpException {
+    private void parseMessage(byte[] data) throws NibeHeatPumpException {
         if (NibeHeatPumpProtocol.isModbus40DataReadOut(data)) {
             super.encodeMessage(data);
-            final int msglen = 5 + rawMessage[NibeHeatPumpProtocol.OFFSET_LEN];
-
-            List<ModbusValue> vals = new ArrayList<>();
-
-            try {
-                for (int i = NibeHeatPumpProtocol.OFFSET_DATA; i < (msglen - 1); i += 4) {
-
-                    int id = ((rawMessage[i + 1] & 0xFF) << 8 | (rawMessage[i + 0] & 0xFF));
-                    int value = (short) ((rawMessage[i + 3] & 0xFF) << 8 | (rawMessage[i + 2] & 0xFF));
-
-                    if (id != 0xFFFF) {
-                        vals.add(new ModbusValue(id, value));
-                    }
-                }
-            } catch (ArrayIndexOutOfBoundsException e) {
-                throw new NibeHeatPumpException("Error occurred during data parsing", e);
+            values = null;
+            msglen = 5 + rawMessage[NibeHeatPumpProtocol.OFFSET_LEN];
+
+            // the last value must be within the message, values are decoded later
+            int dataEnd = NibeHeatPumpProtocol.OFFSET_DATA
+                    + ((msglen - 1 - NibeHeatPumpProtocol.OFFSET_DATA + 3) / 4) * 4;
+            if (dataEnd > rawMessage.length) {
+                throw new NibeHeatPumpException("Error occurred during data parsing");
             }
-
-            return vals;
-
         } else {
             throw new NibeHeatPumpException("Not Modbus data readout message");
         }
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.onkyo.internal.eiscp;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link EiscpFrameReader} by replaying eISCP frames.
+ *
+ * @author agent - Initial contribution
+ */
+public class EiscpFrameReaderTest {
+
+    private static final String EOF = "\u001A";
+
+    @Test
+    public void readsFramesWithAllEndSequences() throws Exception {
+        byte[] stream = concat(frame("!1PWR01" + EOF), frame("!1MVL2A" + EOF + "\r"),
+                frame("!1SLI10" + EOF + "\r\n"), frame("!1AMT00" + EOF + "\r\n\u0000"),
+                frame("!1NTM00:01:02/00:03:04" + EOF + "\n\n\r\n"));
+
+        try (EiscpFrameReader reader = new EiscpFrameReader(new ByteArrayInputStream(stream))) {
+            assertMessage("PWR", "01", reader.getNextMessage());
+            assertMessage("MVL", "2A", reader.getNextMessage());
+            assertMessage("SLI", "10", reader.getNextMessage());
+            assertMessage("AMT", "00", reader.getNextMessage());
+            assertMessage("NTM", "00:01:02/00:03:04", reader.getNextMessage());
+        }
+    }
+
+    @Test
+    public void readsFramesArrivingInPartialReads() throws Exception {
+        byte[] stream = concat(frame("!1PWR01" + EOF + "\r\n"), frame("!1MVL2A" + EOF + "\r\n"));
+
+        try (EiscpFrameReader reader = new EiscpFrameReader(new TrickleInputStream(stream))) {
+            assertMessage("PWR", "01", reader.getNextMessage());
+            assertMessage("MVL", "2A", reader.getNextMessage());
+        }
+    }
+
+    @Test
+    public void readsDataLargerThanTheInitialBuffer() throws Exception {
+        char[] title = new char[1000];
+        Arrays.fill(title, 'x');
+        String value = new String(title);
+        byte[] stream = concat(frame("!1NTI" + value + EOF + "\r\n"), frame("!1PWR01" + EOF));
+
+        try (EiscpFrameReader reader = new EiscpFrameReader(new ByteArrayInputStream(stream))) {
+            assertMessage("NTI", value, reader.getNextMessage());
+            assertMessage("PWR", "01", reader.getNextMessage());
+        }
+    }
+
+    @Test
+    public void skipsBytesBeforeTheLeadIn() throws Exception {
+        byte[] stream = concat("IS\r\nIISC".getBytes(StandardCharsets.US_ASCII), frame("!1PWR01" + EOF));
+
+        try (EiscpFrameReader reader = new EiscpFrameReader(new ByteArrayInputStream(stream))) {
+            assertMessage("PWR", "01", reader.getNextMessage());
+        }
+    }
+
+    @Test(expected = EOFException.class)
+    public void endOfStreamBetweenFramesThrowsEOFException() throws Exception {
+        try (EiscpFrameReader reader = new EiscpFrameReader(new ByteArrayInputStream(frame("!1PWR01" + EOF)))) {
+            assertMessage("PWR", "01", reader.getNextMessage());
+            reader.getNextMessage();
+        }
+    }
+
+    @Test(expected = EOFException.class)
+    public void endOfStreamInHeaderThrowsEOFException() throws Exception {
+        byte[] stream = Arrays.copyOf(frame("!1PWR01" + EOF), 10);
+
+        try (EiscpFrameReader reader = new EiscpFrameReader(new ByteArrayInputStream(stream))) {
+            reader.getNextMessage();
+        }
+    }
+
+    @Test
+    public void endOfStreamInDataThrowsEiscpException() throws Exception {
+        byte[] frame = frame("!1PWR01" + EOF + "\r\n");
+        byte[] stream = Arrays.copyOf(frame, frame.length - 4);
+
+        try (EiscpFrameReader reader = new EiscpFrameReader(new TrickleInputStream(stream))) {
+            reader.getNextMessage();
+            fail("Expected an EiscpException");
+        } catch (EiscpException e) {
+            assertEquals("Data missing, expected 10 bytes", e.getMessage());
+        }
+    }
+
+    @Test(expected = EiscpException.class)
+    public void missingEndOfFileThrowsEiscpException() throws Exception {
+        try (EiscpFrameReader reader = new EiscpFrameReader(new ByteArrayInputStream(frame("!1PWR01\r\n")))) {
+            reader.getNextMessage();
+        }
+    }
+
+    private static void assertMessage(String command, String value, EiscpMessage message) {
+        assertEquals(command, message.getCommand());
+        assertEquals(value, message.getValue());
+    }
+
+    private static byte[] frame(String data) {
+        byte[] bytes = data.getBytes(StandardCharsets.ISO_8859_1);
+        ByteBuffer frame = ByteBuffer.allocate(16 + bytes.length);
+        frame.put("ISCP".getBytes(StandardCharsets.US_ASCII));
+        frame.putInt(16);
+        frame.putInt(bytes.length);
+        frame.put(new byte[] { 1, 0, 0, 0 });
+        frame.put(bytes);
+        return frame.array();
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.write(part, 0, part.length);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns at most one byte per read, like a socket delivering a frame in several segments.
+     */
+    private static class TrickleInputStream extends InputStream {
+
+        private final ByteArrayInputStream stream;
+
+        TrickleInputStream(byte[] bytes) {
+            stream = new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public int read() throws IOException {
+            return stream.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return stream.read(b, off, Math.min(len, 1));
+        }
+
+        @Override
+        public int available() {
+            return 0;
+        }
+    }
+}
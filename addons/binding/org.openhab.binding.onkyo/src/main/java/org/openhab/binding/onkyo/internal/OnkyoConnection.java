@@ -8,7 +8,6 @@
  */
 package org.openhab.binding.onkyo.internal;
 
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.net.InetSocketAddress;
@@ -24,6 +23,7 @@ import org.apache.commons.io.IOUtils;
 import org.eclipse.smarthome.core.util.HexUtils;
 import org.openhab.binding.onkyo.internal.eiscp.EiscpCommand;
 import org.openhab.binding.onkyo.internal.eiscp.EiscpException;
+import org.openhab.binding.onkyo.internal.eiscp.EiscpFrameReader;
 import org.openhab.binding.onkyo.internal.eiscp.EiscpMessage;
 import org.openhab.binding.onkyo.internal.eiscp.EiscpProtocol;
 import org.slf4j.Logger;
@@ -62,7 +62,7 @@ public class OnkyoConnection {
     private Socket eiscpSocket;
     private DataListener dataListener;
     private DataOutputStream outStream;
-    private DataInputStream inStream;
+    private EiscpFrameReader inStream;
     private boolean connected;
     private List<OnkyoEventListener> listeners = new ArrayList<>();
     private int retryCount = 1;
@@ -177,7 +177,7 @@ public class OnkyoConnection {
 
                 // Get Input and Output streams
                 outStream = new DataOutputStream(eiscpSocket.getOutputStream());
-                inStream = new DataInputStream(eiscpSocket.getInputStream());
+                inStream = new EiscpFrameReader(eiscpSocket.getInputStream());
 
                 eiscpSocket.setSoTimeout(SOCKET_TIMEOUT);
                 outStream.flush();
@@ -252,7 +252,7 @@ public class OnkyoConnection {
             logger.trace("Waiting status messages");
 
             while (true) {
-                EiscpMessage message = EiscpProtocol.getNextMessage(inStream);
+                EiscpMessage message = inStream.getNextMessage();
                 sendMessageEvent(message);
             }
         } else {
@@ -8,6 +8,10 @@
  */
 package org.openhab.binding.onkyo.internal.eiscp;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Represents all possible eISCP commands.
  *
@@ -195,12 +199,11 @@ public enum EiscpCommand {
      * @return the commandName that is associated with the passed command.
      */
     public static EiscpCommand getCommandByCommandStr(String command) throws IllegalArgumentException {
-        for (EiscpCommand candidate : values()) {
-            if (candidate.getCommand().equals(command)) {
-                return candidate;
-            }
+        Map<String, EiscpCommand> candidates = Index.COMMANDS.get(command);
+        if (candidates == null) {
+            throw new IllegalArgumentException("There is no matching commandName for command '" + command + "'");
         }
-        throw new IllegalArgumentException("There is no matching commandName for command '" + command + "'");
+        return candidates.values().iterator().next();
     }
 
     /**
@@ -211,12 +214,26 @@ public enum EiscpCommand {
      */
     public static EiscpCommand getCommandByCommandAndValueStr(String command, String value)
             throws IllegalArgumentException {
-        for (EiscpCommand candidate : values()) {
-            if (candidate.getCommand().equals(command) && candidate.getValue().equals(value)) {
-                return candidate;
+        Map<String, EiscpCommand> candidates = Index.COMMANDS.get(command);
+        EiscpCommand candidate = candidates == null ? null : candidates.get(value);
+        if (candidate == null) {
+            throw new IllegalArgumentException(
+                    "There is no matching commandName for command '" + command + "' and value '" + value + "'");
+        }
+        return candidate;
+    }
+
+    /**
+     * Index of the commands by command and value string, the first declared command wins for duplicates.
+     */
+    private static class Index {
+        private static final Map<String, Map<String, EiscpCommand>> COMMANDS = new HashMap<>();
+
+        static {
+            for (EiscpCommand candidate : values()) {
+                COMMANDS.computeIfAbsent(candidate.getCommand(), command -> new LinkedHashMap<>())
+                        .putIfAbsent(candidate.getValue(), candidate);
             }
         }
-        throw new IllegalArgumentException(
-                "There is no matching commandName for command '" + command + "' and value '" + value + "'");
     }
 }
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.onkyo.internal.eiscp;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.smarthome.core.util.HexUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads eISCP messages from a buffered input stream. The header and the data of the messages are read in blocks into
+ * buffers which are reused for all messages of the connection.
+ *
+ * @author agent - Initial contribution
+ */
+public class EiscpFrameReader implements Closeable {
+
+    private final Logger logger = LoggerFactory.getLogger(EiscpFrameReader.class);
+
+    private static final int HEADER_SIZE = 16;
+    private static final int INITIAL_DATA_BUFFER_SIZE = 256;
+
+    private final DataInputStream stream;
+
+    /** header after the 'ISCP' lead in: header size, data size, version and 3 reserved bytes */
+    private final byte[] header = new byte[HEADER_SIZE - 4];
+
+    private byte[] data = new byte[INITIAL_DATA_BUFFER_SIZE];
+
+    public EiscpFrameReader(InputStream stream) {
+        this.stream = new DataInputStream(new BufferedInputStream(stream));
+    }
+
+    /**
+     * Method to read eISCP message from input stream.
+     *
+     * @return message
+     *
+     * @throws IOException
+     * @throws EiscpException
+     */
+    public EiscpMessage getNextMessage() throws IOException, EiscpException {
+        // 1st 4 chars are the lead in
+        waitForLeadIn();
+
+        stream.readFully(header);
+
+        // header size
+        final int headerSize = readInt(header, 0);
+        if (headerSize != HEADER_SIZE) {
+            throw new EiscpException("Unsupported header size: " + headerSize);
+        }
+
+        // data size
+        final int dataSize = readInt(header, 4);
+        logger.trace("Data size: {}", dataSize);
+
+        // version
+        final byte versionChar = header[8];
+        if (versionChar != 1) {
+            throw new EiscpException("Unsupported version " + String.valueOf(versionChar));
+        }
+
+        // reserved bytes 9 - 11 are ignored
+
+        if (dataSize < 3) {
+            throw new EiscpException("Illegal data size " + dataSize);
+        }
+        if (data.length < dataSize) {
+            data = new byte[Math.max(dataSize, data.length * 2)];
+        }
+
+        try {
+            stream.readFully(data, 0, dataSize);
+        } catch (EOFException e) {
+            throw new EiscpException("Data missing, expected " + dataSize + " bytes");
+        }
+
+        if (logger.isTraceEnabled()) {
+            // create header for debugging purposes
+            final StringBuilder sb = new StringBuilder("ISCP");
+            for (byte b : header) {
+                sb.append((char) b);
+            }
+            sb.append(new String(data, 0, dataSize, StandardCharsets.UTF_8));
+            logger.trace("Received eISCP message, {} -> {}", HexUtils.bytesToHex(sb.toString().getBytes()),
+                    EiscpProtocol.toPrintable(sb.toString()));
+        }
+
+        // start char
+        final byte startChar = data[0];
+
+        if (startChar != '!') {
+            throw new EiscpException("Illegal start char " + startChar);
+        }
+
+        // unit type is data[1]
+
+        // data should be end to "[EOF]" or "[EOF][CR]" or "[EOF][CR][LF]" characters depend on model
+        // [EOF] End of File ASCII Code 0x1A
+        // [CR] Carriage Return ASCII Code 0x0D (\r)
+        // [LF] Line Feed ASCII Code 0x0A (\n)
+
+        int endBytes = getEndBytes(dataSize);
+
+        try {
+            String command = new String(data, 2, 3);
+            String value = new String(data, 5, dataSize - 5 - endBytes);
+            return new EiscpMessage.MessageBuilder().command(command).value(value).build();
+        } catch (Exception e) {
+            throw new EiscpException("Fatal error occurred when parsing eISCP message, cause=" + e.getCause());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        stream.close();
+    }
+
+    private void waitForLeadIn() throws IOException {
+        int matched = 0;
+        while (matched < 4) {
+            byte b = stream.readByte();
+            if (b == "ISCP".charAt(matched)) {
+                matched++;
+            } else {
+                if (matched == 0) {
+                    logger.trace("Expected character 'I', received '{}'",
+                            EiscpProtocol.toPrintable(new String(new byte[] { b })));
+                }
+                matched = b == 'I' ? 1 : 0;
+            }
+        }
+    }
+
+    private int getEndBytes(int dataSize) throws EiscpException {
+        if (dataSize >= 10 && data[dataSize - 5] == (byte) 0x1A && data[dataSize - 4] == '\n'
+                && data[dataSize - 3] == '\n' && data[dataSize - 2] == '\r' && data[dataSize - 1] == '\n') {
+            // skip "[EOF][LF][LF][CR][LF]"
+            return 5;
+        } else if (dataSize >= 9 && data[dataSize - 4] == (byte) 0x1A && data[dataSize - 3] == '\r'
+                && data[dataSize - 2] == '\n' && data[dataSize - 1] == 0x00) {
+            // skip "[EOF][CR][LF][NULL]"
+            return 4;
+        } else if (dataSize >= 8 && data[dataSize - 3] == (byte) 0x1A && data[dataSize - 2] == '\r'
+                && data[dataSize - 1] == '\n') {
+            // skip "[EOF][CR][LF]"
+            return 3;
+        } else if (dataSize >= 7 && data[dataSize - 2] == (byte) 0x1A && data[dataSize - 1] == '\r') {
+            // "[EOF][CR]"
+            return 2;
+        } else if (dataSize >= 6 && data[dataSize - 1] == (byte) 0x1A) {
+            // "[EOF]"
+            return 1;
+        } else {
+            throw new EiscpException("Illegal end of message");
+        }
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) << 24 | (bytes[offset + 1] & 0xFF) << 16 | (bytes[offset + 2] & 0xFF) << 8
+                | (bytes[offset + 3] & 0xFF);
+    }
+}
@@ -8,10 +8,6 @@
  */
 package org.openhab.binding.onkyo.internal.eiscp;
 
-import java.io.DataInputStream;
-import java.io.IOException;
-import java.util.Arrays;
-
 import org.eclipse.smarthome.core.util.HexUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -86,154 +82,6 @@ public class EiscpProtocol {
         return sb.toString();
     }
 
-    /**
-     * Method to read eISCP message from input stream.
-     *
-     * @return message
-     *
-     * @throws IOException
-     * @throws InterruptedException
-     * @throws EiscpException
-     */
-    public static EiscpMessage getNextMessage(DataInputStream stream)
-            throws IOException, InterruptedException, EiscpException {
-        while (true) {
-            // 1st 4 chars are the lead in
-
-            byte firstByte = stream.readByte();
-            if (firstByte != 'I') {
-                LOGGER.trace("Expected character 'I', received '{}'",
-                        toPrintable(new String(new byte[] { firstByte })));
-                continue;
-            }
-            if (stream.readByte() != 'S') {
-                continue;
-            }
-            if (stream.readByte() != 'C') {
-                continue;
-            }
-            if (stream.readByte() != 'P') {
-                continue;
-            }
-
-            // header size
-            final int headerSize = (stream.readByte() & 0xFF) << 24 | (stream.readByte() & 0xFF) << 16
-                    | (stream.readByte() & 0xFF) << 8 | (stream.readByte() & 0xFF);
-
-            if (headerSize != 16) {
-                throw new EiscpException("Unsupported header size: " + headerSize);
-            }
-
-            // data size
-            final int dataSize = (stream.readByte() & 0xFF) << 24 | (stream.readByte() & 0xFF) << 16
-                    | (stream.readByte() & 0xFF) << 8 | (stream.readByte() & 0xFF);
-
-            LOGGER.trace("Data size: {}", dataSize);
-
-            // version
-            final byte versionChar = stream.readByte();
-            if (versionChar != 1) {
-                throw new EiscpException("Unsupported version " + String.valueOf(versionChar));
-            }
-
-            // skip 3 reserved bytes
-            byte b1 = stream.readByte();
-            byte b2 = stream.readByte();
-            byte b3 = stream.readByte();
-
-            byte[] data = new byte[dataSize];
-            int bytesReceived = 0;
-
-            try {
-                while (bytesReceived < dataSize) {
-                    bytesReceived = bytesReceived + stream.read(data, bytesReceived, data.length - bytesReceived);
-
-                    if (LOGGER.isTraceEnabled()) {
-                        // create header for debugging purposes
-                        final StringBuilder sb = new StringBuilder();
-                        sb.append("ISCP");
-                        sb.append((char) 0x00);
-                        sb.append((char) 0x00);
-                        sb.append((char) 0x00);
-                        sb.append((char) 0x10);
-                        // 4 char Big Endian data size
-                        sb.append((char) ((dataSize >> 24) & 0xFF));
-                        sb.append((char) ((dataSize >> 16) & 0xFF));
-                        sb.append((char) ((dataSize >> 8) & 0xFF));
-                        sb.append((char) (dataSize & 0xFF));
-                        // eiscp version;
-                        sb.append((char) versionChar);
-                        // reserved bytes
-                        sb.append((char) b1).append((char) b2).append((char) b3);
-                        // data
-                        sb.append(new String(data, "UTF-8"));
-                        LOGGER.trace("Received eISCP message, {} -> {}", HexUtils.bytesToHex(sb.toString().getBytes()),
-                                toPrintable(sb.toString()));
-                    }
-                }
-            } catch (IOException t) {
-                if (bytesReceived != dataSize) {
-                    LOGGER.debug("Received bad data: '{}'", toPrintable(new String(data, "UTF-8")));
-                    throw new EiscpException(
-                            "Data missing, expected + " + dataSize + " received " + bytesReceived + " bytes");
-                } else {
-                    throw t;
-                }
-            }
-
-            // start char
-            final byte startChar = data[0];
-
-            if (startChar != '!') {
-                throw new EiscpException("Illegal start char " + startChar);
-            }
-
-            // unit type
-            @SuppressWarnings("unused")
-            final byte unitType = data[1];
-
-            // data should be end to "[EOF]" or "[EOF][CR]" or "[EOF][CR][LF]" characters depend on model
-            // [EOF] End of File ASCII Code 0x1A
-            // [CR] Carriage Return ASCII Code 0x0D (\r)
-            // [LF] Line Feed ASCII Code 0x0A (\n)
-
-            int endBytes = 0;
-
-            // TODO: Simplify this by implementation, which find [EOF] character and ignore rest of the bytes after
-            // that. But before that, proper junit test should be implement to be sure that it does not broke
-            // anything.
-
-            if (data[dataSize - 5] == (byte) 0x1A && data[dataSize - 4] == '\n' && data[dataSize - 3] == '\n'
-                    && data[dataSize - 2] == '\r' && data[dataSize - 1] == '\n') {
-                // skip "[EOF][LF][LF][CR][LF]"
-                endBytes = 5;
-            } else if (data[dataSize - 4] == (byte) 0x1A && data[dataSize - 3] == '\r' && data[dataSize - 2] == '\n'
-                    && data[dataSize - 1] == 0x00) {
-                // skip "[EOF][CR][LF][NULL]"
-                endBytes = 4;
-            } else if (data[dataSize - 3] == (byte) 0x1A && data[dataSize - 2] == '\r' && data[dataSize - 1] == '\n') {
-                // skip "[EOF][CR][LF]"
-                endBytes = 3;
-            } else if (data[dataSize - 2] == (byte) 0x1A && data[dataSize - 1] == '\r') {
-                // "[EOF][CR]"
-                endBytes = 2;
-            } else if (data[dataSize - 1] == (byte) 0x1A) {
-                // "[EOF]"
-                endBytes = 1;
-            } else {
-                throw new EiscpException("Illegal end of message");
-            }
-
-            try {
-                String command = new String(Arrays.copyOfRange(data, 2, 5));
-                String value = new String(Arrays.copyOfRange(data, 5, data.length - endBytes));
-                return new EiscpMessage.MessageBuilder().command(command).value(value).build();
-            } catch (Exception e) {
-                throw new EiscpException("Fatal error occurred when parsing eISCP message, cause=" + e.getCause());
-            }
-        }
-    }
-
     public static String toPrintable(final String rawData) {
         final StringBuilder sb = new StringBuilder();
 
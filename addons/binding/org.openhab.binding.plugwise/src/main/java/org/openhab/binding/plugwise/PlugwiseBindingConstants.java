@@ -26,6 +26,7 @@ public class PlugwiseBindingConstants {
     public static final String BINDING_ID = "plugwise";
 
     // List of all Channel IDs
+    public static final String CHANNEL_ACK_LATENCY = "acklatency";
     public static final String CHANNEL_CLOCK = "clock";
     public static final String CHANNEL_ENERGY = "energy";
     public static final String CHANNEL_ENERGY_STAMP = "energystamp";
@@ -35,6 +36,7 @@ public class PlugwiseBindingConstants {
     public static final String CHANNEL_POWER = "power";
     public static final String CHANNEL_REAL_TIME_CLOCK = "realtimeclock";
     public static final String CHANNEL_RIGHT_BUTTON_STATE = "rightbuttonstate";
+    public static final String CHANNEL_SEND_QUEUE_SIZE = "sendqueuesize";
     public static final String CHANNEL_STATE = "state";
     public static final String CHANNEL_TEMPERATURE = "temperature";
     public static final String CHANNEL_TRIGGERED = "triggered";
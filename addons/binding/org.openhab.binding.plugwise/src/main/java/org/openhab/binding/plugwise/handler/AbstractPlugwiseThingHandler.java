@@ -71,9 +71,9 @@ public abstract class AbstractPlugwiseThingHandler extends BaseThingHandler impl
         }
 
         @Override
-        public void start() {
+        public void start(Duration initialDelay) {
             unansweredPings = 0;
-            super.start();
+            super.start(initialDelay);
         }
     };
 
@@ -282,18 +282,23 @@ public abstract class AbstractPlugwiseThingHandler extends BaseThingHandler impl
 
     protected void updateTask(PlugwiseDeviceTask task) {
         if (task.shouldBeScheduled()) {
-            if (!task.isScheduled() || task.getConfiguredInterval() != task.getInterval()) {
+            if (!task.isScheduled() || !task.getConfiguredInterval().equals(task.getInterval())) {
                 if (task.isScheduled()) {
                     task.stop();
                 }
                 task.update(getDeviceType(), getMACAddress());
-                task.start();
+                task.start(getTaskStartDelay(task.getConfiguredInterval()));
             }
         } else if (!task.shouldBeScheduled() && task.isScheduled()) {
             task.stop();
         }
     }
 
+    private Duration getTaskStartDelay(Duration interval) {
+        PlugwiseStickHandler localStickHandler = stickHandler;
+        return localStickHandler != null ? localStickHandler.getTaskStartDelay(interval) : Duration.ZERO;
+    }
+
     protected void updateTasks(List<PlugwiseDeviceTask> tasks) {
         for (PlugwiseDeviceTask task : tasks) {
             updateTask(task);
@@ -89,6 +89,15 @@ public class PlugwiseRelayDeviceHandler extends AbstractPlugwiseThingHandler {
     private static final int INVALID_WATT_THRESHOLD = 10000;
     private static final int POWER_STATE_RETRIES = 3;
 
+    // Adaptive power polling: circles with changing power are polled twice as often (but not more often than every
+    // 5 seconds), circles with stable power are polled up to 4 times less often
+    private static final Duration MIN_POWER_UPDATE_INTERVAL = Duration.ofSeconds(5);
+    private static final double POWER_CHANGE_MIN_WATT = 2;
+    private static final double POWER_CHANGE_MIN_FRACTION = 0.05;
+    private static final int STABLE_POWER_UPDATES_PER_STEP = 5;
+    private static final int MAX_STABLE_POWER_INTERVAL_FACTOR = 4;
+    private static final Duration POWER_UPDATE_DELAY_AFTER_SWITCHING = Duration.ofSeconds(2);
+
     private class PendingPowerStateChange {
         final OnOffType onOff;
         int retries;
@@ -122,6 +131,20 @@ public class PlugwiseRelayDeviceHandler extends AbstractPlugwiseThingHandler {
             return getChannelUpdateInterval(CHANNEL_POWER);
         }
 
+        @Override
+        protected Duration getNextInterval() {
+            Duration configuredInterval = getConfiguredInterval();
+            int localStablePowerUpdates = stablePowerUpdates;
+            if (localStablePowerUpdates == 0) {
+                Duration fasterInterval = PlugwiseUtils.maxComparable(configuredInterval.dividedBy(2),
+                        MIN_POWER_UPDATE_INTERVAL);
+                return PlugwiseUtils.minComparable(configuredInterval, fasterInterval);
+            }
+            int factor = Math.min(1 << (localStablePowerUpdates / STABLE_POWER_UPDATES_PER_STEP),
+                    MAX_STABLE_POWER_INTERVAL_FACTOR);
+            return configuredInterval.multipliedBy(factor);
+        }
+
         @Override
         public void runTask() {
             if (isCalibrated()) {
@@ -225,6 +248,9 @@ public class PlugwiseRelayDeviceHandler extends AbstractPlugwiseThingHandler {
 
     private int recentLogAddress = -1;
 
+    private double lastWatt = Double.NaN;
+    private volatile int stablePowerUpdates;
+
     private @NonNullByDefault({}) PlugwiseRelayConfig configuration;
     private @NonNullByDefault({}) MACAddress macAddress;
 
@@ -294,6 +320,7 @@ public class PlugwiseRelayDeviceHandler extends AbstractPlugwiseThingHandler {
             case ON_ACK:
                 logger.debug("Received ACK for switching on {} ({})", deviceType, macAddress);
                 updateState(CHANNEL_STATE, OnOffType.ON);
+                updatePowerAfterSwitching();
                 break;
             case ON_OFF_NACK:
                 logger.debug("Received NACK for switching on/off {} ({})", deviceType, macAddress);
@@ -301,6 +328,7 @@ public class PlugwiseRelayDeviceHandler extends AbstractPlugwiseThingHandler {
             case OFF_ACK:
                 logger.debug("Received ACK for switching off {} ({})", deviceType, macAddress);
                 updateState(CHANNEL_STATE, OnOffType.OFF);
+                updatePowerAfterSwitching();
                 break;
             case POWER_LOG_INTERVAL_SET_ACK:
                 logger.debug("Received ACK for power log interval set of {} ({})", deviceType, macAddress);
@@ -458,9 +486,26 @@ public class PlugwiseRelayDeviceHandler extends AbstractPlugwiseThingHandler {
             return;
         }
 
+        updatePowerStability(watt);
         updateState(CHANNEL_POWER, new QuantityType<>(correctSign(watt), SmartHomeUnits.WATT));
     }
 
+    private void updatePowerStability(double watt) {
+        double threshold = Math.max(POWER_CHANGE_MIN_WATT, Math.abs(lastWatt) * POWER_CHANGE_MIN_FRACTION);
+        if (Double.isNaN(lastWatt) || Math.abs(watt - lastWatt) > threshold) {
+            stablePowerUpdates = 0;
+        } else if (stablePowerUpdates < STABLE_POWER_UPDATES_PER_STEP * MAX_STABLE_POWER_INTERVAL_FACTOR) {
+            stablePowerUpdates++;
+        }
+        lastWatt = watt;
+    }
+
+    private void updatePowerAfterSwitching() {
+        // The power changes when switching, so poll it soon instead of waiting for a (slowed down) interval
+        stablePowerUpdates = 0;
+        currentPowerUpdateTask.reschedule(POWER_UPDATE_DELAY_AFTER_SWITCHING);
+    }
+
     private void handleRealTimeClockGetResponse(RealTimeClockGetResponseMessage message) {
         updateState(CHANNEL_REAL_TIME_CLOCK, PlugwiseUtils.newDateTimeType(message.getDateTime()));
     }
@@ -9,6 +9,7 @@
 package org.openhab.binding.plugwise.handler;
 
 import static org.eclipse.smarthome.core.thing.ThingStatus.*;
+import static org.openhab.binding.plugwise.PlugwiseBindingConstants.*;
 import static org.openhab.binding.plugwise.internal.protocol.field.DeviceType.STICK;
 
 import java.io.IOException;
@@ -16,15 +17,18 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
+import org.eclipse.smarthome.core.types.UnDefType;
 import org.openhab.binding.plugwise.internal.PlugwiseCommunicationHandler;
 import org.openhab.binding.plugwise.internal.PlugwiseDeviceTask;
 import org.openhab.binding.plugwise.internal.PlugwiseInitializationException;
@@ -59,6 +63,14 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public class PlugwiseStickHandler extends BaseBridgeHandler implements PlugwiseMessageListener {
 
+    /** The fractional part of the golden ratio, used for spreading the device tasks evenly */
+    private static final double GOLDEN_RATIO_FRACTION = 0.6180339887;
+
+    /** The window in which the first runs of device tasks are spread */
+    private static final Duration MAX_TASK_START_DELAY = Duration.ofMinutes(1);
+
+    private static final Duration STATISTICS_UPDATE_INTERVAL = Duration.ofSeconds(30);
+
     private final PlugwiseDeviceTask onlineStateUpdateTask = new PlugwiseDeviceTask("Online state update", scheduler) {
         @Override
         public Duration getConfiguredInterval() {
@@ -76,9 +88,27 @@ public class PlugwiseStickHandler extends BaseBridgeHandler implements PlugwiseM
         }
     };
 
+    private final PlugwiseDeviceTask statisticsUpdateTask = new PlugwiseDeviceTask("Statistics update", scheduler) {
+        @Override
+        public Duration getConfiguredInterval() {
+            return STATISTICS_UPDATE_INTERVAL;
+        }
+
+        @Override
+        public void runTask() {
+            updateStatistics();
+        }
+
+        @Override
+        public boolean shouldBeScheduled() {
+            return thing.getStatus() == ONLINE && (isLinked(CHANNEL_ACK_LATENCY) || isLinked(CHANNEL_SEND_QUEUE_SIZE));
+        }
+    };
+
     private final Logger logger = LoggerFactory.getLogger(PlugwiseStickHandler.class);
     private final PlugwiseCommunicationHandler communicationHandler = new PlugwiseCommunicationHandler();
     private final List<PlugwiseStickStatusListener> statusListeners = new CopyOnWriteArrayList<>();
+    private final AtomicInteger startedTaskCount = new AtomicInteger();
 
     private @NonNullByDefault({}) PlugwiseStickConfig configuration;
 
@@ -102,11 +132,24 @@ public class PlugwiseStickHandler extends BaseBridgeHandler implements PlugwiseM
         listener.stickStatusChanged(thing.getStatus());
     }
 
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        super.channelLinked(channelUID);
+        updateTask(statisticsUpdateTask);
+    }
+
+    @Override
+    public void channelUnlinked(ChannelUID channelUID) {
+        super.channelUnlinked(channelUID);
+        updateTask(statisticsUpdateTask);
+    }
+
     @Override
     public void dispose() {
         communicationHandler.stop();
         communicationHandler.removeMessageListener(this);
         onlineStateUpdateTask.stop();
+        statisticsUpdateTask.stop();
     }
 
     public @Nullable MACAddress getCirclePlusMAC() {
@@ -117,6 +160,20 @@ public class PlugwiseStickHandler extends BaseBridgeHandler implements PlugwiseM
         return stickMAC;
     }
 
+    /**
+     * Returns the delay for the first run of a device task. The first runs of the device tasks are spread over the
+     * task interval (or at most a minute), so the ZigBee network is not flooded with requests at the same moment.
+     * Every call returns the next element of a low-discrepancy sequence which spreads any number of tasks evenly.
+     *
+     * @param interval the interval of the task
+     * @return the delay before the first run of the task
+     */
+    public Duration getTaskStartDelay(Duration interval) {
+        double fraction = (startedTaskCount.getAndIncrement() * GOLDEN_RATIO_FRACTION) % 1;
+        Duration window = PlugwiseUtils.minComparable(interval, MAX_TASK_START_DELAY);
+        return Duration.ofMillis((long) (fraction * window.toMillis()));
+    }
+
     private void handleAcknowledgement(AcknowledgementMessage acknowledge) {
         if (acknowledge.isExtended() && acknowledge.getExtensionCode() == ExtensionCode.CIRCLE_PLUS) {
             circlePlusMAC = acknowledge.getMACAddress();
@@ -188,7 +245,7 @@ public class PlugwiseStickHandler extends BaseBridgeHandler implements PlugwiseM
     }
 
     public void removeMessageListener(PlugwiseMessageListener listener, MACAddress macAddress) {
-        communicationHandler.addMessageListener(listener, macAddress);
+        communicationHandler.removeMessageListener(listener, macAddress);
     }
 
     public void removeStickStatusListener(PlugwiseStickStatusListener listener) {
@@ -230,12 +287,23 @@ public class PlugwiseStickHandler extends BaseBridgeHandler implements PlugwiseM
                 listener.stickStatusChanged(status);
             }
             updateTask(onlineStateUpdateTask);
+            updateTask(statisticsUpdateTask);
+        }
+    }
+
+    private void updateStatistics() {
+        if (isLinked(CHANNEL_SEND_QUEUE_SIZE)) {
+            updateState(CHANNEL_SEND_QUEUE_SIZE, new DecimalType(communicationHandler.getSendQueueSize()));
+        }
+        if (isLinked(CHANNEL_ACK_LATENCY)) {
+            double latency = communicationHandler.getAverageAcknowledgementLatency();
+            updateState(CHANNEL_ACK_LATENCY, Double.isNaN(latency) ? UnDefType.UNDEF : new DecimalType(latency));
         }
     }
 
     protected void updateTask(PlugwiseDeviceTask task) {
         if (task.shouldBeScheduled()) {
-            if (!task.isScheduled() || task.getConfiguredInterval() != task.getInterval()) {
+            if (!task.isScheduled() || !task.getConfiguredInterval().equals(task.getInterval())) {
                 if (task.isScheduled()) {
                     task.stop();
                 }
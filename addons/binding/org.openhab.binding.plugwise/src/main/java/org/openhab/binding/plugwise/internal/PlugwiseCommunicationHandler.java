@@ -38,14 +38,30 @@ public class PlugwiseCommunicationHandler {
         context.getFilteredListeners().addListener(listener, macAddress);
     }
 
+    /**
+     * Returns the moving average of the time it takes the Stick to acknowledge a message in milliseconds or NaN when
+     * no message has been acknowledged yet.
+     */
+    public double getAverageAcknowledgementLatency() {
+        return messageSender.getAverageAcknowledgementLatency();
+    }
+
     public PlugwiseStickConfig getConfiguration() {
         return context.getConfiguration();
     }
 
+    public int getSendQueueSize() {
+        return messageSender.getSendQueueSize();
+    }
+
     public void removeMessageListener(PlugwiseMessageListener listener) {
         context.getFilteredListeners().removeListener(listener);
     }
 
+    public void removeMessageListener(PlugwiseMessageListener listener, MACAddress macAddress) {
+        context.getFilteredListeners().removeListener(listener, macAddress);
+    }
+
     public void sendMessage(Message message, PlugwiseMessagePriority priority) throws IOException {
         if (initialized) {
             messageSender.sendMessage(message, priority);
@@ -23,6 +23,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A recurring Plugwise device task that can for instance be extended for updating a channel or setting the clock.
+ * The task is rescheduled after each run using {@link #getNextInterval()}, so subclasses can adapt the polling interval
+ * to the state of the device.
  *
  * @author Wouter Born - Initial contribution
  */
@@ -41,20 +43,8 @@ public abstract class PlugwiseDeviceTask {
 
     private @Nullable ScheduledFuture<?> future;
 
-    private Runnable scheduledRunnable = new Runnable() {
-        @Override
-        public void run() {
-            try {
-                lock.lock();
-                logger.debug("Running '{}' Plugwise task for {} ({})", name, deviceType, macAddress);
-                runTask();
-            } catch (Exception e) {
-                logger.warn("Error while running '{}' Plugwise task for {} ({})", name, deviceType, macAddress, e);
-            } finally {
-                lock.unlock();
-            }
-        }
-    };
+    // Incremented when the task is started or stopped, so runs scheduled before that are ignored
+    private long generation;
 
     public PlugwiseDeviceTask(String name, ScheduledExecutorService scheduler) {
         this.name = name;
@@ -67,6 +57,13 @@ public abstract class PlugwiseDeviceTask {
         return interval;
     }
 
+    /**
+     * Returns the delay until the next run of the task. By default this is the configured interval.
+     */
+    protected Duration getNextInterval() {
+        return getConfiguredInterval();
+    }
+
     public String getName() {
         return name;
     }
@@ -75,17 +72,71 @@ public abstract class PlugwiseDeviceTask {
         return future != null && !future.isCancelled();
     }
 
+    private void run(long scheduledGeneration) {
+        try {
+            lock.lock();
+            if (scheduledGeneration != generation) {
+                return;
+            }
+            try {
+                logger.debug("Running '{}' Plugwise task for {} ({})", name, deviceType, macAddress);
+                runTask();
+            } catch (Exception e) {
+                logger.warn("Error while running '{}' Plugwise task for {} ({})", name, deviceType, macAddress, e);
+            }
+            if (scheduledGeneration == generation) {
+                schedule(getNextInterval());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves the next run of a scheduled task forward (or backward) so it runs after the given delay.
+     *
+     * @param delay the delay before the next run
+     */
+    public void reschedule(Duration delay) {
+        try {
+            lock.lock();
+            ScheduledFuture<?> localFuture = future;
+            if (localFuture != null && !localFuture.isCancelled()) {
+                generation++;
+                localFuture.cancel(false);
+                schedule(delay);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
     public abstract void runTask();
 
+    private void schedule(Duration delay) {
+        long scheduledGeneration = generation;
+        future = scheduler.schedule(() -> run(scheduledGeneration), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
     public abstract boolean shouldBeScheduled();
 
     public void start() {
+        start(Duration.ZERO);
+    }
+
+    /**
+     * Starts the task. The first run is delayed by the given initial delay, which is used for spreading the requests
+     * of all devices over the interval.
+     *
+     * @param initialDelay the delay before the first run
+     */
+    public void start(Duration initialDelay) {
         try {
             lock.lock();
             if (!isScheduled()) {
                 Duration configuredInterval = getConfiguredInterval();
-                future = scheduler.scheduleWithFixedDelay(scheduledRunnable, 0, configuredInterval.getSeconds(),
-                        TimeUnit.SECONDS);
+                generation++;
+                schedule(initialDelay);
                 interval = configuredInterval;
                 logger.debug("Scheduled '{}' Plugwise task for {} ({}) with {} seconds interval", name, deviceType,
                         macAddress, configuredInterval.getSeconds());
@@ -99,6 +150,7 @@ public abstract class PlugwiseDeviceTask {
         try {
             lock.lock();
             if (isScheduled()) {
+                generation++;
                 ScheduledFuture<?> localFuture = future;
                 if (localFuture != null) {
                     localFuture.cancel(true);
@@ -8,11 +8,13 @@
  */
 package org.openhab.binding.plugwise.internal;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.plugwise.internal.listener.PlugwiseMessageListener;
 import org.openhab.binding.plugwise.internal.protocol.Message;
 import org.openhab.binding.plugwise.internal.protocol.field.MACAddress;
@@ -21,7 +23,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * The {@link PlugwiseFilteredMessageListenerList} keeps track of a list of {@link PlugwiseFilteredMessageListener}s and
- * facilitates listener operations such as message notification.
+ * facilitates listener operations such as message notification. Listeners filtering on a MAC address are indexed by
+ * that address, so a message is only matched against the listeners of the device that sent it.
  *
  * @author Wouter Born - Initial contribution
  */
@@ -30,50 +33,86 @@ public class PlugwiseFilteredMessageListenerList {
 
     private final Logger logger = LoggerFactory.getLogger(PlugwiseFilteredMessageListenerList.class);
 
-    private final List<PlugwiseFilteredMessageListener> filteredListeners = new CopyOnWriteArrayList<>();
+    private final List<PlugwiseFilteredMessageListener> unfilteredListeners = new CopyOnWriteArrayList<>();
+    private final Map<MACAddress, List<PlugwiseFilteredMessageListener>> macAddressListeners = new ConcurrentHashMap<>();
 
     public void addListener(PlugwiseMessageListener listener) {
-        if (!isExistingListener(listener)) {
-            filteredListeners.add(new PlugwiseFilteredMessageListener(listener));
+        synchronized (unfilteredListeners) {
+            if (!isExistingListener(listener)) {
+                unfilteredListeners.add(new PlugwiseFilteredMessageListener(listener));
+            }
         }
     }
 
     public void addListener(PlugwiseMessageListener listener, MACAddress macAddress) {
-        if (!isExistingListener(listener, macAddress)) {
-            filteredListeners.add(new PlugwiseFilteredMessageListener(listener, macAddress));
+        // the list is updated within compute, so it cannot be pruned by a concurrent removal meanwhile
+        macAddressListeners.compute(macAddress, (address, listeners) -> {
+            List<PlugwiseFilteredMessageListener> result = listeners != null ? listeners
+                    : new CopyOnWriteArrayList<>();
+            if (indexOf(result, listener) == -1) {
+                result.add(new PlugwiseFilteredMessageListener(listener, macAddress));
+            }
+            return result;
+        });
+    }
+
+    private static int indexOf(@Nullable List<PlugwiseFilteredMessageListener> filteredListeners,
+            PlugwiseMessageListener listener) {
+        if (filteredListeners != null) {
+            for (int i = 0; i < filteredListeners.size(); i++) {
+                if (filteredListeners.get(i).getListener().equals(listener)) {
+                    return i;
+                }
+            }
         }
+        return -1;
     }
 
     public boolean isExistingListener(PlugwiseMessageListener listener) {
-        return filteredListeners.stream().anyMatch(filteredListener -> filteredListener.getListener().equals(listener));
+        return indexOf(unfilteredListeners, listener) != -1;
     }
 
     public boolean isExistingListener(PlugwiseMessageListener listener, MACAddress macAddress) {
-        return filteredListeners.stream().anyMatch(filteredListener -> filteredListener.getListener().equals(listener)
-                && macAddress.equals(filteredListener.getMACAddress()));
+        return indexOf(macAddressListeners.get(macAddress), listener) != -1;
     }
 
     public void notifyListeners(Message message) {
-        for (PlugwiseFilteredMessageListener filteredListener : filteredListeners) {
-            if (filteredListener.matches(message)) {
-                try {
-                    filteredListener.getListener().handleReponseMessage(message);
-                } catch (Exception e) {
-                    logger.warn("Listener failed to handle message: {}", message, e);
+        for (PlugwiseFilteredMessageListener filteredListener : unfilteredListeners) {
+            notifyListener(filteredListener, message);
+        }
+
+        @Nullable MACAddress macAddress = message.getMACAddress();
+        if (macAddress != null) {
+            List<PlugwiseFilteredMessageListener> listeners = macAddressListeners.get(macAddress);
+            if (listeners != null) {
+                for (PlugwiseFilteredMessageListener filteredListener : listeners) {
+                    notifyListener(filteredListener, message);
                 }
             }
         }
     }
 
+    private void notifyListener(PlugwiseFilteredMessageListener filteredListener, Message message) {
+        try {
+            filteredListener.getListener().handleReponseMessage(message);
+        } catch (Exception e) {
+            logger.warn("Listener failed to handle message: {}", message, e);
+        }
+    }
+
     public void removeListener(PlugwiseMessageListener listener) {
-        List<PlugwiseFilteredMessageListener> removedListeners = new ArrayList<>();
-        for (PlugwiseFilteredMessageListener filteredListener : filteredListeners) {
-            if (filteredListener.getListener().equals(listener)) {
-                removedListeners.add(filteredListener);
-            }
+        unfilteredListeners.removeIf(filteredListener -> filteredListener.getListener().equals(listener));
+        for (MACAddress macAddress : macAddressListeners.keySet()) {
+            removeListener(listener, macAddress);
         }
+    }
 
-        filteredListeners.removeAll(removedListeners);
+    public void removeListener(PlugwiseMessageListener listener, MACAddress macAddress) {
+        // lists without listeners are removed, so devices that are gone do not leave entries behind
+        macAddressListeners.computeIfPresent(macAddress, (address, listeners) -> {
+            listeners.removeIf(filteredListener -> filteredListener.getListener().equals(listener));
+            return listeners.isEmpty() ? null : listeners;
+        });
     }
 
 }
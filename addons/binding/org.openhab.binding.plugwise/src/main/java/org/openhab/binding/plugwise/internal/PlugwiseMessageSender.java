@@ -69,6 +69,9 @@ public class PlugwiseMessageSender {
     /** Default maximum number of attempts to send a message */
     private static final int MAX_RETRIES = 1;
 
+    /** Weight of a new acknowledgement latency in the moving average */
+    private static final double ACK_LATENCY_SMOOTHING = 0.2;
+
     /** After exceeding this threshold the Stick is set offline */
     private static final int MAX_SEQUENTIAL_WRITE_ERRORS = 15;
 
@@ -77,6 +80,9 @@ public class PlugwiseMessageSender {
 
     private int sequentialWriteErrors;
 
+    // Moving average of the time between writing a message and receiving its acknowledgement
+    private volatile double averageAcknowledgementLatency = Double.NaN;
+
     private @Nullable WritableByteChannel outputChannel;
     private @Nullable MessageSenderThread thread;
 
@@ -84,6 +90,24 @@ public class PlugwiseMessageSender {
         this.context = context;
     }
 
+    /**
+     * Returns the moving average of the acknowledgement latency in milliseconds or NaN when no message has been
+     * acknowledged yet.
+     */
+    public double getAverageAcknowledgementLatency() {
+        return averageAcknowledgementLatency;
+    }
+
+    public int getSendQueueSize() {
+        return context.getSendQueue().size();
+    }
+
+    private void updateAcknowledgementLatency(long latency) {
+        double average = averageAcknowledgementLatency;
+        averageAcknowledgementLatency = Double.isNaN(average) ? latency
+                : average + ACK_LATENCY_SMOOTHING * (latency - average);
+    }
+
     public void sendMessage(Message message, PlugwiseMessagePriority priority) throws IOException {
         if (sequentialWriteErrors > MAX_SEQUENTIAL_WRITE_ERRORS) {
             throw new IOException("Error writing to serial port " + context.getConfiguration().getSerialPort() + " ("
@@ -126,8 +150,12 @@ public class PlugwiseMessageSender {
             }
 
             // Poll the acknowledgement message for at most 1 second, normally it is received within 75ms
+            long sendTime = System.nanoTime();
             AcknowledgementMessage ack = context.getAcknowledgedQueue().poll(1, TimeUnit.SECONDS);
             logger.debug("Removing from acknowledgedQueue: {}", ack);
+            if (ack != null) {
+                updateAcknowledgementLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sendTime));
+            }
 
             if (ack == null) {
                 String logMsg = "Error sending: No ACK received after 1 second: {}";
@@ -180,6 +208,7 @@ public class PlugwiseMessageSender {
         }
 
         sequentialWriteErrors = 0;
+        averageAcknowledgementLatency = Double.NaN;
         thread = new MessageSenderThread(context.getConfiguration().getMessageWaitTime());
         thread.start();
     }
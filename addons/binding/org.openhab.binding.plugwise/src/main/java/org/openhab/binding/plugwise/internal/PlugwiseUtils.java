@@ -74,6 +74,10 @@ public final class PlugwiseUtils {
         }
     }
 
+    public static <T extends Comparable<T>> T maxComparable(T first, T second) {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+
     public static <T extends Comparable<T>> T minComparable(T first, T second) {
         return first.compareTo(second) <= 0 ? first : second;
     }
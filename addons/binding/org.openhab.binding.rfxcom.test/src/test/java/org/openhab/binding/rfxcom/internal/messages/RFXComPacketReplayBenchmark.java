@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.rfxcom.internal.messages;
+
+import static org.junit.Assert.assertNotNull;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.openhab.binding.rfxcom.internal.exceptions.RFXComException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the decoding of the packets of the {@link RFXComPacketReplayTest}. It is not part of the default test run,
+ * run it with <code>mvn test -Dtest=RFXComPacketReplayBenchmark</code>.
+ *
+ * @author agent - Initial contribution
+ */
+public class RFXComPacketReplayBenchmark {
+    private static final int WARMUP_PASSES = 10000;
+    private static final int MEASURED_PASSES = 100000;
+
+    private final Logger logger = LoggerFactory.getLogger(RFXComPacketReplayBenchmark.class);
+
+    @Test
+    public void replayPackets() throws RFXComException {
+        byte[][] packets = RFXComPacketReplayTest.recordedPackets();
+
+        replay(packets, WARMUP_PASSES);
+        long start = System.nanoTime();
+        replay(packets, MEASURED_PASSES);
+        long nanos = System.nanoTime() - start;
+
+        logger.info("Replayed {} packets in {} ms, {} ns per packet", MEASURED_PASSES * packets.length,
+                TimeUnit.NANOSECONDS.toMillis(nanos), nanos / ((long) MEASURED_PASSES * packets.length));
+    }
+
+    private static void replay(byte[][] packets, int passes) throws RFXComException {
+        for (int pass = 0; pass < passes; pass++) {
+            for (byte[] packet : packets) {
+                RFXComDeviceMessage message = (RFXComDeviceMessage) RFXComMessageFactory.createMessage(packet);
+                assertNotNull(message.getDeviceId());
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.rfxcom.internal.messages;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.smarthome.core.util.HexUtils;
+import org.junit.Test;
+import org.openhab.binding.rfxcom.internal.exceptions.RFXComException;
+
+/**
+ * Replays recorded packets through the {@link RFXComMessageFactory}, as received from a busy 433 MHz environment.
+ *
+ * @author agent - Initial contribution
+ */
+public class RFXComPacketReplayTest {
+    private static final String[] PACKETS = { "08500110000180BC69", "0850021DFB0100D770", "0A5201800F0201294C0349",
+            "0A520211700200A72D0089", "105601122F000087000000140000000079", "0B550217B6000000004D3C69",
+            "0B11000600109B520B000080", "115A01071A7300000003F600000000350B89", "085101027700360189",
+            "0820004DD3DC540089", "08200A0E8000200650", "091300E1D8AD59018F70" };
+
+    static byte[][] recordedPackets() {
+        byte[][] packets = new byte[PACKETS.length][];
+        for (int i = 0; i < PACKETS.length; i++) {
+            packets[i] = HexUtils.hexToBytes(PACKETS[i]);
+        }
+        return packets;
+    }
+
+    @Test
+    public void testAllPacketsDecoded() throws RFXComException {
+        for (byte[] packet : recordedPackets()) {
+            RFXComMessage message = RFXComMessageFactory.createMessage(packet);
+            assertTrue("Device message", message instanceof RFXComDeviceMessage);
+            assertEquals("Packet type", packet[1], ((RFXComBaseMessage) message).getPacketType().toByte());
+            assertNotNull("Device id", ((RFXComDeviceMessage) message).getDeviceId());
+        }
+    }
+}
@@ -10,7 +10,9 @@ package org.openhab.binding.rfxcom.handler;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
@@ -22,9 +24,11 @@ import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
+import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.util.HexUtils;
+import org.openhab.binding.rfxcom.RFXComBindingConstants;
 import org.openhab.binding.rfxcom.internal.DeviceMessageListener;
 import org.openhab.binding.rfxcom.internal.config.RFXComBridgeConfiguration;
 import org.openhab.binding.rfxcom.internal.connector.RFXComConnectorInterface;
@@ -63,6 +67,9 @@ public class RFXComBridgeHandler extends BaseBridgeHandler {
 
     private List<DeviceMessageListener> deviceStatusListeners = new CopyOnWriteArrayList<>();
 
+    // Listeners of a single device, by thing type and device id
+    private Map<String, DeviceMessageListener> deviceMessageListeners = new ConcurrentHashMap<>();
+
     private RFXComBridgeConfiguration configuration = null;
     private ScheduledFuture<?> connectorTask;
 
@@ -120,6 +127,7 @@ public class RFXComBridgeHandler extends BaseBridgeHandler {
         for (DeviceMessageListener deviceStatusListener : deviceStatusListeners) {
             unregisterDeviceStatusListener(deviceStatusListener);
         }
+        deviceMessageListeners.clear();
 
         if (connector != null) {
             connector.removeEventListener(eventListener);
@@ -286,13 +294,27 @@ public class RFXComBridgeHandler extends BaseBridgeHandler {
 
                     transmitQueue.sendNext();
                 } else if (message instanceof RFXComDeviceMessage) {
-                    for (DeviceMessageListener deviceStatusListener : deviceStatusListeners) {
+                    RFXComDeviceMessage deviceMessage = (RFXComDeviceMessage) message;
+                    ThingTypeUID thingTypeUID = RFXComBindingConstants.PACKET_TYPE_THING_TYPE_UID_MAP
+                            .get(deviceMessage.getPacketType());
+                    DeviceMessageListener deviceMessageListener = thingTypeUID == null ? null
+                            : deviceMessageListeners.get(getDeviceKey(thingTypeUID, deviceMessage.getDeviceId()));
+
+                    if (deviceMessageListener != null) {
                         try {
-                            deviceStatusListener.onDeviceMessageReceived(getThing().getUID(),
-                                    (RFXComDeviceMessage) message);
+                            deviceMessageListener.onDeviceMessageReceived(getThing().getUID(), deviceMessage);
                         } catch (Exception e) {
-                            // catch all exceptions give all handlers a fair chance of handling the messages
-                            logger.error("An exception occurred while calling the DeviceStatusListener", e);
+                            logger.error("An exception occurred while calling the DeviceMessageListener", e);
+                        }
+                    } else {
+                        // message of a device without thing, give the other listeners (discovery) a chance
+                        for (DeviceMessageListener deviceStatusListener : deviceStatusListeners) {
+                            try {
+                                deviceStatusListener.onDeviceMessageReceived(getThing().getUID(), deviceMessage);
+                            } catch (Exception e) {
+                                // catch all exceptions give all handlers a fair chance of handling the messages
+                                logger.error("An exception occurred while calling the DeviceStatusListener", e);
+                            }
                         }
                     }
                 } else {
@@ -315,6 +337,10 @@ public class RFXComBridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Registers a listener for the messages of all devices which are not handled by a listener registered with
+     * {@link #registerDeviceMessageListener(ThingTypeUID, String, DeviceMessageListener)}.
+     */
     public boolean registerDeviceStatusListener(DeviceMessageListener deviceStatusListener) {
         if (deviceStatusListener == null) {
             throw new IllegalArgumentException("It's not allowed to pass a null deviceStatusListener.");
@@ -330,6 +356,36 @@ public class RFXComBridgeHandler extends BaseBridgeHandler {
         return deviceStatusListeners.remove(deviceStatusListener);
     }
 
+    /**
+     * Registers a listener for the messages of a single device. The messages of the device are only sent to this
+     * listener.
+     *
+     * @param thingTypeUID thing type of the device
+     * @param deviceId id of the device
+     * @param deviceMessageListener listener to register
+     */
+    public void registerDeviceMessageListener(ThingTypeUID thingTypeUID, String deviceId,
+            DeviceMessageListener deviceMessageListener) {
+        if (deviceMessageListener == null) {
+            throw new IllegalArgumentException("It's not allowed to pass a null deviceMessageListener.");
+        }
+        DeviceMessageListener previous = deviceMessageListeners.put(getDeviceKey(thingTypeUID, deviceId),
+                deviceMessageListener);
+        if (previous != null && previous != deviceMessageListener) {
+            logger.warn("More than one {} with device id '{}', messages are only sent to the last one", thingTypeUID,
+                    deviceId);
+        }
+    }
+
+    public void unregisterDeviceMessageListener(ThingTypeUID thingTypeUID, String deviceId,
+            DeviceMessageListener deviceMessageListener) {
+        deviceMessageListeners.remove(getDeviceKey(thingTypeUID, deviceId), deviceMessageListener);
+    }
+
+    private static String getDeviceKey(ThingTypeUID thingTypeUID, String deviceId) {
+        return thingTypeUID.getId() + ":" + deviceId;
+    }
+
     public RFXComBridgeConfiguration getConfiguration() {
         return configuration;
     }
@@ -103,7 +103,7 @@ public class RFXComHandler extends BaseThingHandler implements DeviceMessageList
                     "RFXCOM device missing deviceId or subType");
         } else if (thingHandler != null && bridgeStatus != null) {
             bridgeHandler = (RFXComBridgeHandler) thingHandler;
-            bridgeHandler.registerDeviceStatusListener(this);
+            bridgeHandler.registerDeviceMessageListener(getThing().getThingTypeUID(), config.deviceId, this);
 
             if (bridgeStatus == ThingStatus.ONLINE) {
                 updateStatus(ThingStatus.ONLINE);
@@ -118,8 +118,8 @@ public class RFXComHandler extends BaseThingHandler implements DeviceMessageList
     @Override
     public void dispose() {
         logger.debug("Thing {} disposed.", getThing().getUID());
-        if (bridgeHandler != null) {
-            bridgeHandler.unregisterDeviceStatusListener(this);
+        if (bridgeHandler != null && config != null) {
+            bridgeHandler.unregisterDeviceMessageListener(getThing().getThingTypeUID(), config.deviceId, this);
         }
         bridgeHandler = null;
         super.dispose();
@@ -127,28 +127,22 @@ public class RFXComHandler extends BaseThingHandler implements DeviceMessageList
 
     @Override
     public void onDeviceMessageReceived(ThingUID bridge, RFXComDeviceMessage message) {
+        // the bridge only sends the messages with the device id and packet type of this thing
         try {
-            String id = message.getDeviceId();
-            if (config.deviceId.equals(id)) {
-                String receivedId = PACKET_TYPE_THING_TYPE_UID_MAP.get(message.getPacketType()).getId();
-                logger.debug("Received message from bridge: {} message: {}", bridge, message);
-
-                if (receivedId.equals(getThing().getThingTypeUID().getId())) {
-                    updateStatus(ThingStatus.ONLINE);
-
-                    for (Channel channel : getThing().getChannels()) {
-                        String channelId = channel.getUID().getId();
-
-                        try {
-                            if (channelId.equals(CHANNEL_LOW_BATTERY)) {
-                                updateState(channelId, isLowBattery(message.convertToState(CHANNEL_BATTERY_LEVEL)));
-                            } else {
-                                updateState(channelId, message.convertToState(channelId));
-                            }
-                        } catch (RFXComException e) {
-                            logger.trace("{} does not handle {}", channelId, message);
-                        }
+            logger.debug("Received message from bridge: {} message: {}", bridge, message);
+            updateStatus(ThingStatus.ONLINE);
+
+            for (Channel channel : getThing().getChannels()) {
+                String channelId = channel.getUID().getId();
+
+                try {
+                    if (channelId.equals(CHANNEL_LOW_BATTERY)) {
+                        updateState(channelId, isLowBattery(message.convertToState(CHANNEL_BATTERY_LEVEL)));
+                    } else {
+                        updateState(channelId, message.convertToState(channelId));
                     }
+                } catch (RFXComException e) {
+                    logger.trace("{} does not handle {}", channelId, message);
                 }
             }
         } catch (Exception e) {
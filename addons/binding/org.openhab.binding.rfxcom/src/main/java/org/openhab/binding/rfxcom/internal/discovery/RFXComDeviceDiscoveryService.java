@@ -10,7 +10,10 @@ package org.openhab.binding.rfxcom.internal.discovery;
 
 import static org.openhab.binding.rfxcom.internal.messages.RFXComBaseMessage.ID_DELIMITER;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.smarthome.config.discovery.AbstractDiscoveryService;
 import org.eclipse.smarthome.config.discovery.DiscoveryResultBuilder;
@@ -34,8 +37,13 @@ import org.slf4j.LoggerFactory;
  */
 public class RFXComDeviceDiscoveryService extends AbstractDiscoveryService
         implements ExtendedDiscoveryService, DeviceMessageListener {
+    // Unknown devices keep sending, only report them to the inbox once within this time
+    private static final long DISCOVERY_THROTTLE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
     private final Logger logger = LoggerFactory.getLogger(RFXComDeviceDiscoveryService.class);
 
+    private final Map<ThingUID, Long> lastDiscoveryTimes = new ConcurrentHashMap<>();
+
     private RFXComBridgeHandler bridgeHandler;
     private DiscoveryServiceCallback callback;
 
@@ -76,6 +84,16 @@ public class RFXComDeviceDiscoveryService extends AbstractDiscoveryService
         ThingTypeUID uid = RFXComBindingConstants.PACKET_TYPE_THING_TYPE_UID_MAP.get(message.getPacketType());
         ThingUID thingUID = new ThingUID(uid, bridge, id.replace(ID_DELIMITER, "_"));
 
+        long now = System.currentTimeMillis();
+        Long lastDiscoveryTime = lastDiscoveryTimes.get(thingUID);
+        if (lastDiscoveryTime != null && now - lastDiscoveryTime < DISCOVERY_THROTTLE_MILLIS) {
+            logger.trace("Ignoring recently discovered RFXCOM {} with id '{}'", thingUID, id);
+            return;
+        }
+        // drop expired entries, devices with random ids would otherwise fill the map
+        lastDiscoveryTimes.values().removeIf(time -> now - time >= DISCOVERY_THROTTLE_MILLIS);
+        lastDiscoveryTimes.put(thingUID, now);
+
         if (callback.getExistingThing(thingUID) == null) {
             if (!bridgeHandler.getConfiguration().disableDiscovery) {
                 logger.trace("Adding new RFXCOM {} with id '{}' to smarthome inbox", thingUID, id);
@@ -14,8 +14,10 @@ import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousCloseException;
 import java.nio.channels.SocketChannel;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -58,6 +60,16 @@ public class SocketChannelSession implements SocketSession {
      */
     private List<SocketSessionListener> sessionListeners = new CopyOnWriteArrayList<>();
 
+    /**
+     * The {@link SocketSessionListener} that will be called for all responses
+     */
+    private final List<SocketSessionListener> unkeyedListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The {@link SocketSessionListener} that will only be called for the responses of their response key
+     */
+    private final Map<String, List<SocketSessionListener>> keyedListeners = new ConcurrentHashMap<>();
+
     /**
      * The thread dispatching responses - will be null if not connected
      */
@@ -92,18 +104,94 @@ public class SocketChannelSession implements SocketSession {
             throw new IllegalArgumentException("listener cannot be null");
         }
         sessionListeners.add(listener);
+        unkeyedListeners.add(listener);
+    }
+
+    @Override
+    public void addListener(String responseKey, SocketSessionListener listener) {
+        if (responseKey == null || responseKey.isEmpty()) {
+            throw new IllegalArgumentException("responseKey cannot be null or empty");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("listener cannot be null");
+        }
+        keyedListeners.computeIfAbsent(responseKey, k -> new CopyOnWriteArrayList<>()).add(listener);
+        if (!sessionListeners.contains(listener)) {
+            sessionListeners.add(listener);
+        }
     }
 
     @Override
     public void clearListeners() {
         sessionListeners.clear();
+        unkeyedListeners.clear();
+        keyedListeners.clear();
     }
 
     @Override
     public boolean removeListener(SocketSessionListener listener) {
+        unkeyedListeners.remove(listener);
+        for (List<SocketSessionListener> listeners : keyedListeners.values()) {
+            listeners.remove(listener);
+        }
         return sessionListeners.remove(listener);
     }
 
+    /**
+     * Returns the key of the entity a response is about. The key consists of the leading indexed entities of the
+     * response (like "C[1].Z[2]" for "N C[1].Z[2].volume="10"" or "S[3]" for "S S[3].name="Tuner"") or the leading
+     * name for responses about a named entity (like "System" for "N System.status="ON""). Indexed attributes (like
+     * "favorite[1]") are not part of the key.
+     *
+     * @param response a non-null response
+     * @return the response key or null if the response is not about an entity (like "S VERSION="1.0"")
+     */
+    static String getResponseKey(String response) {
+        final int len = response.length();
+        if (len < 3 || response.charAt(1) != ' ') {
+            return null;
+        }
+        final char type = Character.toUpperCase(response.charAt(0));
+        if (type != 'S' && type != 'N') {
+            return null;
+        }
+
+        int keyEnd = -1;
+        int pos = 2;
+        while (true) {
+            final int nameStart = pos;
+            boolean upperCase = true;
+            while (pos < len && Character.isLetter(response.charAt(pos))) {
+                upperCase &= Character.isUpperCase(response.charAt(pos));
+                pos++;
+            }
+            if (pos == nameStart || pos == len) {
+                break;
+            }
+
+            if (response.charAt(pos) == '[' && upperCase) {
+                // indexed entity like C[1]
+                final int indexStart = ++pos;
+                while (pos < len && Character.isDigit(response.charAt(pos))) {
+                    pos++;
+                }
+                if (pos == indexStart || pos + 1 >= len || response.charAt(pos) != ']'
+                        || response.charAt(pos + 1) != '.') {
+                    break;
+                }
+                keyEnd = ++pos;
+                pos++;
+            } else {
+                // named entity like System, only if it is the first part
+                if (keyEnd == -1 && response.charAt(pos) == '.') {
+                    keyEnd = pos;
+                }
+                break;
+            }
+        }
+        return keyEnd == -1 ? null : response.substring(2, keyEnd);
+    }
+
     @Override
     public void connect() throws IOException {
         connect(2000);
@@ -277,10 +365,8 @@ public class SocketChannelSession implements SocketSession {
         public void run() {
             while (!Thread.currentThread().isInterrupted()) {
                 try {
-                    final SocketSessionListener[] listeners = sessionListeners.toArray(new SocketSessionListener[0]);
-
                     // if no listeners, we don't want to start dispatching yet.
-                    if (listeners.length == 0) {
+                    if (sessionListeners.isEmpty()) {
                         Thread.sleep(250);
                         continue;
                     }
@@ -290,12 +376,10 @@ public class SocketChannelSession implements SocketSession {
                     if (response != null) {
                         if (response instanceof String) {
                             logger.debug("Dispatching response: {}", response);
-                            for (SocketSessionListener listener : listeners) {
-                                listener.responseReceived((String) response);
-                            }
+                            dispatchResponse((String) response);
                         } else if (response instanceof IOException) {
                             logger.debug("Dispatching exception: {}", response);
-                            for (SocketSessionListener listener : listeners) {
+                            for (SocketSessionListener listener : sessionListeners) {
                                 listener.responseException((IOException) response);
                             }
                         } else {
@@ -311,5 +395,29 @@ public class SocketChannelSession implements SocketSession {
                 }
             }
         }
+
+        /**
+         * Dispatches the response to the listeners of its response key and to the listeners of all responses. If no
+         * listener is registered for the response key, the response is dispatched to all listeners.
+         *
+         * @param response a non-null response
+         * @throws InterruptedException if a listener was interrupted
+         */
+        private void dispatchResponse(String response) throws InterruptedException {
+            final String key = getResponseKey(response);
+            final List<SocketSessionListener> listeners = key == null ? null : keyedListeners.get(key);
+            if (listeners == null || listeners.isEmpty()) {
+                for (SocketSessionListener listener : sessionListeners) {
+                    listener.responseReceived(response);
+                }
+            } else {
+                for (SocketSessionListener listener : listeners) {
+                    listener.responseReceived(response);
+                }
+                for (SocketSessionListener listener : unkeyedListeners) {
+                    listener.responseReceived(response);
+                }
+            }
+        }
     }
 }
@@ -25,6 +25,15 @@ public interface SocketSession {
      */
     void addListener(SocketSessionListener listener);
 
+    /**
+     * Adds a {@link SocketSessionListener} to call only for the responses of the given response key (see
+     * {@link SocketChannelSession#getResponseKey(String)}) and for responses without a registered key
+     *
+     * @param responseKey a non-null, non-empty response key (like "C[1].Z[2]")
+     * @param listener a non-null {@link SocketSessionListener} to use
+     */
+    void addListener(String responseKey, SocketSessionListener listener);
+
     /**
      * Clears all listeners
      */
@@ -37,12 +37,14 @@ public abstract class AbstractRioProtocol implements SocketSessionListener {
     /**
      * Constructs the protocol handler from given parameters and will add this handler as a
      * {@link SocketSessionListener} to the specified {@link SocketSession} via
-     * {@link SocketSession#addListener(SocketSessionListener)}
+     * {@link SocketSession#addListener(SocketSessionListener)} or, if response keys are given, via
+     * {@link SocketSession#addListener(String, SocketSessionListener)} for each response key
      *
      * @param session a non-null {@link SocketSession} (may be connected or disconnected)
      * @param callback a non-null {@link RioHandlerCallback} to update state and status
+     * @param responseKeys the possibly empty keys of the responses this handler processes
      */
-    protected AbstractRioProtocol(SocketSession session, RioHandlerCallback callback) {
+    protected AbstractRioProtocol(SocketSession session, RioHandlerCallback callback, String... responseKeys) {
         if (session == null) {
             throw new IllegalArgumentException("session cannot be null");
         }
@@ -52,7 +54,13 @@ public abstract class AbstractRioProtocol implements SocketSessionListener {
         }
 
         this.session = session;
-        this.session.addListener(this);
+        if (responseKeys.length == 0) {
+            this.session.addListener(this);
+        } else {
+            for (String responseKey : responseKeys) {
+                this.session.addListener(responseKey, this);
+            }
+        }
         this.callback = callback;
     }
 
@@ -99,6 +99,21 @@ class RioSourceProtocol extends AbstractRioProtocol {
     private static final Pattern RSP_PRESETNOTIFICATION = Pattern
             .compile("(?i)^[SN] S\\[(\\d+)\\].B\\[(\\d+)\\].P\\[(\\d+)\\].(\\w+)=\"(.*)\"$");
 
+    /**
+     * Returns the keys of the source and bank responses for the given source
+     *
+     * @param source the source identifier
+     * @return the non-null response keys
+     */
+    private static String[] getResponseKeys(int source) {
+        final String[] keys = new String[7];
+        keys[0] = "S[" + source + "]";
+        for (int b = 1; b <= 6; b++) {
+            keys[b] = keys[0] + ".B[" + b + "]";
+        }
+        return keys;
+    }
+
     /**
      * Current banks
      */
@@ -152,7 +167,7 @@ class RioSourceProtocol extends AbstractRioProtocol {
      * @throws Exception exception when starting the {@link HttpClient}
      */
     RioSourceProtocol(int source, SocketSession session, RioHandlerCallback callback) throws Exception {
-        super(session, callback);
+        super(session, callback, getResponseKeys(source));
         if (source < 1 || source > 12) {
             throw new IllegalArgumentException("Source must be between 1-12: " + source);
         }
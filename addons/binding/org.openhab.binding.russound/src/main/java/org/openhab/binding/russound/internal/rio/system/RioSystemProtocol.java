@@ -61,7 +61,7 @@ class RioSystemProtocol extends AbstractRioProtocol {
      * @param callback a non-null {@link RioHandlerCallback} to callback
      */
     RioSystemProtocol(SocketSession session, RioHandlerCallback callback) {
-        super(session, callback);
+        super(session, callback, "System");
     }
 
     /**
@@ -116,7 +116,7 @@ class RioZoneProtocol extends AbstractRioProtocol
      */
     RioZoneProtocol(int zone, int controller, RioSystemFavoritesProtocol favoritesProtocol,
             RioPresetsProtocol presetsProtocol, SocketSession session, RioHandlerCallback callback) {
-        super(session, callback);
+        super(session, callback, "C[" + controller + "].Z[" + zone + "]");
 
         if (controller < 1 || controller > 6) {
             throw new IllegalArgumentException("Controller must be between 1-6: " + controller);
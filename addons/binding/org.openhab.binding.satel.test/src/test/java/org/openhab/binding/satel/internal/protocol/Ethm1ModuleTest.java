@@ -0,0 +1,226 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.satel.internal.protocol;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.satel.internal.command.ClearTroublesCommand;
+import org.openhab.binding.satel.internal.command.IntegraStateCommand;
+import org.openhab.binding.satel.internal.command.IntegraVersionCommand;
+import org.openhab.binding.satel.internal.command.NewStatesCommand;
+import org.openhab.binding.satel.internal.types.OutputState;
+import org.openhab.binding.satel.internal.types.PartitionState;
+
+/**
+ * Tests the command handling of {@link Ethm1Module} against a local stand-in of the ETHM-1 module.
+ *
+ * @author agent - Initial contribution
+ */
+public class Ethm1ModuleTest {
+
+    private static final int TIMEOUT = 5000;
+    private static final byte RESULT_CODE = (byte) 0xef;
+
+    private ServerSocket serverSocket;
+    private Thread standInThread;
+    private Ethm1Module module;
+
+    /** codes of the commands received by the stand-in, in order */
+    private final BlockingQueue<Byte> receivedCommands = new LinkedBlockingQueue<>();
+
+    /** the stand-in waits for this gate before answering a command other than the version command */
+    private volatile CountDownLatch responseGate = new CountDownLatch(0);
+
+    @Before
+    public void setUp() throws Exception {
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        standInThread = new Thread(this::runStandIn, "ETHM-1 stand-in");
+        standInThread.setDaemon(true);
+        standInThread.start();
+
+        module = new Ethm1Module(InetAddress.getLoopbackAddress().getHostAddress(), serverSocket.getLocalPort(),
+                TIMEOUT, "");
+        module.open();
+
+        assertEquals(Byte.valueOf(IntegraVersionCommand.COMMAND_CODE), nextCommand());
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (!module.isInitialized() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue("Module initialized", module.isInitialized());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        releaseResponses();
+        module.close();
+        serverSocket.close();
+        standInThread.interrupt();
+    }
+
+    @Test
+    public void controlCommandIsSentBeforeQueuedRefreshes() throws InterruptedException {
+        holdResponses();
+
+        // the first command is in flight while the others are queued
+        module.sendCommand(new NewStatesCommand(false));
+        assertEquals(Byte.valueOf(NewStatesCommand.COMMAND_CODE), nextCommand());
+
+        IntegraStateCommand armedState = new IntegraStateCommand(PartitionState.ARMED, false);
+        IntegraStateCommand outputState = new IntegraStateCommand(OutputState.STATE, false);
+        ClearTroublesCommand clearTroubles = new ClearTroublesCommand("1234");
+        module.sendCommand(armedState);
+        module.sendCommand(outputState);
+        module.sendCommand(clearTroubles);
+
+        releaseResponses();
+
+        assertEquals(Byte.valueOf(clearTroubles.getCommand()), nextCommand());
+        assertEquals(Byte.valueOf(armedState.getCommand()), nextCommand());
+        assertEquals(Byte.valueOf(outputState.getCommand()), nextCommand());
+    }
+
+    @Test
+    public void queuedRefreshesAreSentOnce() throws InterruptedException {
+        holdResponses();
+
+        module.sendCommand(new IntegraStateCommand(OutputState.STATE, false));
+        assertEquals(Byte.valueOf(OutputState.STATE.getRefreshCommand()), nextCommand());
+
+        for (int i = 0; i < 5; i++) {
+            module.sendCommand(new NewStatesCommand(false));
+        }
+
+        releaseResponses();
+
+        assertEquals(Byte.valueOf(NewStatesCommand.COMMAND_CODE), nextCommand());
+        assertNull("No further command sent", receivedCommands.poll(500, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void roundTripTimesAreCollectedByCommandType() throws InterruptedException {
+        module.sendCommand(new NewStatesCommand(false));
+        assertEquals(Byte.valueOf(NewStatesCommand.COMMAND_CODE), nextCommand());
+
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (!module.getCommandStatistics().containsKey("NewStatesCommand")
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertTrue(module.getCommandStatistics().get("IntegraVersionCommand").startsWith("1 sent"));
+        assertTrue(module.getCommandStatistics().get("NewStatesCommand").startsWith("1 sent"));
+    }
+
+    private Byte nextCommand() throws InterruptedException {
+        Byte command = receivedCommands.poll(TIMEOUT, TimeUnit.MILLISECONDS);
+        assertNotNull("Command received", command);
+        return command;
+    }
+
+    private void holdResponses() {
+        responseGate = new CountDownLatch(1);
+    }
+
+    private void releaseResponses() {
+        responseGate.countDown();
+    }
+
+    private void runStandIn() {
+        try (Socket socket = serverSocket.accept()) {
+            InputStream in = socket.getInputStream();
+            OutputStream out = socket.getOutputStream();
+            while (!Thread.currentThread().isInterrupted()) {
+                byte[] frame = readFrame(in);
+                if (frame == null) {
+                    return;
+                }
+                byte command = frame[0];
+                receivedCommands.add(command);
+
+                if (command != IntegraVersionCommand.COMMAND_CODE) {
+                    responseGate.await();
+                }
+                writeFrame(out, createResponse(command));
+            }
+        } catch (IOException | InterruptedException e) {
+            // module or test closed
+        }
+    }
+
+    private static SatelMessage createResponse(byte command) {
+        if (command == IntegraVersionCommand.COMMAND_CODE) {
+            byte[] payload = new byte[14];
+            System.arraycopy("12320180101".getBytes(StandardCharsets.US_ASCII), 0, payload, 1, 11);
+            payload[13] = (byte) 0xff;
+            return new SatelMessage(command, payload);
+        } else if (command == NewStatesCommand.COMMAND_CODE) {
+            return new SatelMessage(command, new byte[5]);
+        } else {
+            // command accepted
+            return new SatelMessage(RESULT_CODE, new byte[] { (byte) 0xff });
+        }
+    }
+
+    private static byte[] readFrame(InputStream in) throws IOException {
+        ByteArrayOutputStream frame = new ByteArrayOutputStream();
+        int syncBytes = 0;
+        boolean inFrame = false;
+        int b;
+        while ((b = in.read()) >= 0) {
+            if (b == 0xfe) {
+                ++syncBytes;
+            } else if (!inFrame) {
+                if (syncBytes >= 2) {
+                    inFrame = true;
+                    frame.write(b);
+                }
+                syncBytes = 0;
+            } else if (syncBytes == 0) {
+                frame.write(b);
+            } else if (b == 0xf0) {
+                frame.write(0xfe);
+                syncBytes = 0;
+            } else if (b == 0x0d) {
+                return frame.toByteArray();
+            }
+        }
+        return null;
+    }
+
+    private static void writeFrame(OutputStream out, SatelMessage message) throws IOException {
+        out.write(0xfe);
+        out.write(0xfe);
+        for (byte b : message.getBytes()) {
+            out.write(b);
+            if (b == (byte) 0xfe) {
+                out.write(0xf0);
+            }
+        }
+        out.write(0xfe);
+        out.write(0x0d);
+        out.flush();
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.satel.internal.protocol;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.openhab.binding.satel.internal.command.ClearTroublesCommand;
+import org.openhab.binding.satel.internal.command.IntegraStateCommand;
+import org.openhab.binding.satel.internal.command.NewStatesCommand;
+import org.openhab.binding.satel.internal.command.SatelCommand;
+import org.openhab.binding.satel.internal.types.OutputState;
+import org.openhab.binding.satel.internal.types.PartitionState;
+
+/**
+ * Tests the ordering and de-duplication of {@link SatelCommandQueue}.
+ *
+ * @author agent - Initial contribution
+ */
+public class SatelCommandQueueTest {
+
+    private final SatelCommandQueue queue = new SatelCommandQueue();
+
+    @Test
+    public void controlCommandsAreTakenFirst() throws InterruptedException {
+        SatelCommand newStates = new NewStatesCommand(false);
+        SatelCommand outputState = new IntegraStateCommand(OutputState.STATE, false);
+        SatelCommand clearTroubles = new ClearTroublesCommand("1234");
+
+        assertTrue(queue.add(newStates, false));
+        assertTrue(queue.add(outputState, false));
+        assertTrue(queue.add(clearTroubles, false));
+
+        assertSame(clearTroubles, queue.take());
+        assertSame(newStates, queue.take());
+        assertSame(outputState, queue.take());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void stateRefreshesAreCoalescedByCommandCode() {
+        assertTrue(queue.add(new NewStatesCommand(false), false));
+        assertFalse(queue.add(new NewStatesCommand(false), false));
+        assertTrue(queue.add(new IntegraStateCommand(PartitionState.ARMED, false), false));
+        assertFalse(queue.add(new IntegraStateCommand(PartitionState.ARMED, false), false));
+        assertTrue(queue.add(new IntegraStateCommand(PartitionState.ALARM, false), false));
+
+        assertEquals(3, queue.size());
+    }
+
+    @Test
+    public void sameCommandIsQueuedOnce() {
+        SatelCommand clearTroubles = new ClearTroublesCommand("1234");
+
+        assertTrue(queue.add(clearTroubles, false));
+        assertFalse(queue.add(clearTroubles, false));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void forcedCommandsAreAlwaysQueued() {
+        assertTrue(queue.add(new NewStatesCommand(false), false));
+        assertTrue(queue.add(new NewStatesCommand(false), true));
+
+        assertEquals(2, queue.size());
+    }
+
+    @Test
+    public void forcedCommandReplacesWaitingCommand() {
+        SatelCommand first = new NewStatesCommand(false);
+        SatelCommand forced = new NewStatesCommand(false);
+        assertTrue(queue.add(first, false));
+        assertTrue(queue.add(forced, true));
+
+        assertSame(first, queue.poll());
+        // the forced command is still waiting
+        assertFalse(queue.add(new NewStatesCommand(false), false));
+
+        assertSame(forced, queue.poll());
+        assertTrue(queue.add(new NewStatesCommand(false), false));
+    }
+
+    @Test
+    public void refreshCanBeQueuedAgainAfterTaken() {
+        assertTrue(queue.add(new NewStatesCommand(false), false));
+        assertNotNull(queue.poll());
+
+        assertTrue(queue.add(new NewStatesCommand(false), false));
+    }
+}
@@ -58,4 +58,7 @@ public class SatelBindingConstants {
     public static final String CHANNEL_GRADE23_SET = "grade23_set";
     public static final String CHANNEL_USER_CODE = "user_code";
 
+    // Prefix of the bridge properties holding command round trip times
+    public static final String PROPERTY_ROUND_TRIP_TIME_PREFIX = "round_trip_time_";
+
 }
@@ -8,6 +8,9 @@
  */
 package org.openhab.binding.satel.handler;
 
+import static org.openhab.binding.satel.SatelBindingConstants.PROPERTY_ROUND_TRIP_TIME_PREFIX;
+
+import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -51,6 +54,7 @@ public abstract class SatelBridgeHandler extends ConfigStatusBridgeHandler imple
     public void incomingEvent(SatelEvent event) {
         if (event instanceof ConnectionStatusEvent) {
             ConnectionStatusEvent statusEvent = (ConnectionStatusEvent) event;
+            updateCommandStatistics();
             // update bridge status and get new states from the system
             if (statusEvent.isConnected()) {
                 updateStatus(ThingStatus.ONLINE);
@@ -110,6 +114,21 @@ public abstract class SatelBridgeHandler extends ConfigStatusBridgeHandler imple
         }
     }
 
+    private void updateCommandStatistics() {
+        SatelModule satelModule = this.satelModule;
+        if (satelModule == null) {
+            return;
+        }
+
+        // expose round trip times as properties, one for each command type. Properties are persisted with the
+        // thing, so they are only written when the connection status changes.
+        Map<String, String> properties = editProperties();
+        for (Map.Entry<String, String> entry : satelModule.getCommandStatistics().entrySet()) {
+            properties.put(PROPERTY_ROUND_TRIP_TIME_PREFIX + entry.getKey(), entry.getValue());
+        }
+        updateProperties(properties);
+    }
+
     /**
      * Adds given listener to list of event receivers.
      *
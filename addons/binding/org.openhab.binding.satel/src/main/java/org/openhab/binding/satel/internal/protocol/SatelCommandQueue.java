@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.satel.internal.protocol;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openhab.binding.satel.internal.command.ControlCommand;
+import org.openhab.binding.satel.internal.command.IntegraStateCommand;
+import org.openhab.binding.satel.internal.command.IntegraStatusCommand;
+import org.openhab.binding.satel.internal.command.NewStatesCommand;
+import org.openhab.binding.satel.internal.command.SatelCommand;
+
+/**
+ * Queue of commands waiting to be sent to the module. Control commands are
+ * taken before any other command, so user actions do not wait behind state
+ * refresh commands. Commands already waiting in the queue are found by hash
+ * lookup, state refresh commands are coalesced by their command code.
+ *
+ * @author agent - Initial contribution
+ */
+class SatelCommandQueue {
+
+    private final Deque<SatelCommand> controlCommands = new ArrayDeque<>();
+    private final Deque<SatelCommand> otherCommands = new ArrayDeque<>();
+    private final Map<Object, SatelCommand> queuedCommands = new HashMap<>();
+
+    /**
+     * Adds command to the queue.
+     *
+     * @param cmd
+     *            command to add
+     * @param force
+     *            if <code>true</code> adds the command even if the same
+     *            command is already waiting in the queue
+     * @return <code>true</code> if command has been added
+     */
+    public synchronized boolean add(SatelCommand cmd, boolean force) {
+        Object key = getKey(cmd);
+        if (!force && this.queuedCommands.containsKey(key)) {
+            return false;
+        }
+        // a forced command replaces the waiting one, which is then sent as well
+        this.queuedCommands.put(key, cmd);
+        if (cmd instanceof ControlCommand) {
+            this.controlCommands.add(cmd);
+        } else {
+            this.otherCommands.add(cmd);
+        }
+        this.notifyAll();
+        return true;
+    }
+
+    /**
+     * Removes next command from the queue, waiting for it if the queue is
+     * empty.
+     *
+     * @return next command to send
+     * @throws InterruptedException
+     *             if interrupted while waiting
+     */
+    public synchronized SatelCommand take() throws InterruptedException {
+        while (isEmpty()) {
+            this.wait();
+        }
+        return poll();
+    }
+
+    /**
+     * Removes next command from the queue.
+     *
+     * @return next command or <code>null</code> if the queue is empty
+     */
+    public synchronized SatelCommand poll() {
+        SatelCommand cmd = this.controlCommands.poll();
+        if (cmd == null) {
+            cmd = this.otherCommands.poll();
+        }
+        if (cmd != null) {
+            Object key = getKey(cmd);
+            if (this.queuedCommands.get(key) == cmd) {
+                this.queuedCommands.remove(key);
+            }
+        }
+        return cmd;
+    }
+
+    public synchronized boolean isEmpty() {
+        return this.controlCommands.isEmpty() && this.otherCommands.isEmpty();
+    }
+
+    public synchronized int size() {
+        return this.controlCommands.size() + this.otherCommands.size();
+    }
+
+    private static Object getKey(SatelCommand cmd) {
+        if (cmd instanceof NewStatesCommand || cmd instanceof IntegraStateCommand
+                || cmd instanceof IntegraStatusCommand) {
+            // a single refresh of given state is enough
+            return Byte.valueOf(cmd.getRequest().getCommand());
+        }
+        return cmd;
+    }
+}
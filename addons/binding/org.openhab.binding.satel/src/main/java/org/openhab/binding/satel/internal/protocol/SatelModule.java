@@ -12,10 +12,11 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 
 import org.openhab.binding.satel.internal.command.IntegraVersionCommand;
 import org.openhab.binding.satel.internal.command.SatelCommand;
@@ -46,7 +47,9 @@ public abstract class SatelModule extends EventDispatcher implements SatelEventL
     private static final byte[] FRAME_START = { FRAME_SYNC, FRAME_SYNC };
     private static final byte[] FRAME_END = { FRAME_SYNC, (byte) 0x0d };
 
-    private final BlockingQueue<SatelCommand> sendQueue = new LinkedBlockingQueue<SatelCommand>();
+    private final SatelCommandQueue sendQueue = new SatelCommandQueue();
+
+    private final Map<String, RoundTripTime> roundTripTimes = new TreeMap<>();
 
     private IntegraType integraType;
     private int timeout;
@@ -79,6 +82,27 @@ public abstract class SatelModule extends EventDispatcher implements SatelEventL
         void stop();
     }
 
+    /*
+     * Round trip times of one command type.
+     */
+    private static class RoundTripTime {
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        void add(long nanos) {
+            ++count;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d sent, average %d ms, max %d ms", count,
+                    TimeUnit.NANOSECONDS.toMillis(totalNanos / count), TimeUnit.NANOSECONDS.toMillis(maxNanos));
+        }
+    }
+
     /*
      * Thrown on connection failures.
      */
@@ -202,17 +226,35 @@ public abstract class SatelModule extends EventDispatcher implements SatelEventL
      * @return <code>true</code> if operation succeeded
      */
     public boolean sendCommand(SatelCommand cmd, boolean force) {
-        try {
-            if (force || !this.sendQueue.contains(cmd)) {
-                this.sendQueue.put(cmd);
-                cmd.setState(State.ENQUEUED);
-                logger.trace("Command enqueued: {}", cmd);
-            } else {
-                logger.debug("Command already in the queue: {}", cmd);
+        if (this.sendQueue.add(cmd, force)) {
+            cmd.setState(State.ENQUEUED);
+            logger.trace("Command enqueued: {}", cmd);
+        } else {
+            logger.debug("Command already in the queue: {}", cmd);
+        }
+        return true;
+    }
+
+    /**
+     * Returns round trip times of commands sent to the module, by command
+     * type.
+     *
+     * @return map of command class names to round trip times as text
+     */
+    public Map<String, String> getCommandStatistics() {
+        Map<String, String> result = new TreeMap<>();
+        synchronized (this.roundTripTimes) {
+            for (Map.Entry<String, RoundTripTime> entry : this.roundTripTimes.entrySet()) {
+                result.put(entry.getKey(), entry.getValue().toString());
             }
-            return true;
-        } catch (InterruptedException e) {
-            return false;
+        }
+        return result;
+    }
+
+    private void addRoundTripTime(SatelCommand command, long nanos) {
+        synchronized (this.roundTripTimes) {
+            this.roundTripTimes.computeIfAbsent(command.getClass().getSimpleName(), key -> new RoundTripTime())
+                    .add(nanos);
         }
     }
 
@@ -370,6 +412,7 @@ public abstract class SatelModule extends EventDispatcher implements SatelEventL
                 // get next command and send it
                 command = this.sendQueue.take();
                 logger.debug("Sending message: {}", command.getRequest());
+                long sendTime = System.nanoTime();
                 timeoutTimer.start();
                 boolean sent = this.writeMessage(command.getRequest());
                 timeoutTimer.stop();
@@ -400,6 +443,7 @@ public abstract class SatelModule extends EventDispatcher implements SatelEventL
                 } else {
                     command.setState(State.FAILED);
                 }
+                addRoundTripTime(command, System.nanoTime() - sendTime);
 
                 command = null;
             }
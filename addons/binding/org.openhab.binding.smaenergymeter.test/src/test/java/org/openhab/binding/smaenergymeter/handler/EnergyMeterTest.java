@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.smaenergymeter.handler;
+
+import static org.junit.Assert.*;
+import static org.openhab.binding.smaenergymeter.SMAEnergyMeterBindingConstants.*;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.smarthome.core.util.HexUtils;
+import org.junit.Test;
+
+/**
+ * Tests the decoding of SMA Energy Meter telegrams by {@link EnergyMeter}.
+ *
+ * @author agent - Initial contribution
+ */
+public class EnergyMeterTest {
+
+    private static final float DELTA = 0.0001f;
+
+    /**
+     * Telegram of an Energy Meter (SUSy ID 349) with the serial number 1900123456. Besides the supported fields it
+     * contains reactive and apparent power, the grid frequency and the software version.
+     */
+    private static final String TELEGRAM = "534d4100000402a000000001016000106069015d7141954000258d9b00010400"
+            + "000030390001080000000003d406892000020400000000000002080000000001"
+            + "08e51c4000030400000011d7000308000000001cbe991a080004040000000000"
+            + "0004080000000000001e848000090400000031860009080000000003f5476a00"
+            + "000a040000000000000a0800000000010c388d00000d0400000003ce000e0400"
+            + "0000c35a00150400000010e1001508000000000141dd76000016040000000000"
+            + "001608000000000055d4a800001f040000000753002004000003843800210400"
+            + "000003e60029040000000fac002908000000000147d35700002a040000000000"
+            + "002a08000000000059682f0000330400000006d000340400000381ef00350400"
+            + "000003c5003d040000000fac003d0800000000014a55bc20003e04000000000f"
+            + "003e08000000000059a8454000470400000006fe004804000003872400490400"
+            + "000003b7900000000200125200000000";
+
+    @Test
+    public void recognizesEnergyMeterTelegram() {
+        ByteBuffer telegram = telegram();
+
+        assertTrue(EnergyMeter.isEnergyMeterTelegram(telegram, telegram.limit()));
+        assertEquals(1900123456, EnergyMeter.readSerialNumber(telegram));
+    }
+
+    @Test
+    public void rejectsOtherTelegrams() {
+        ByteBuffer telegram = telegram();
+        telegram.putShort(0x10, (short) 0x6065);
+
+        assertFalse(EnergyMeter.isEnergyMeterTelegram(telegram, telegram.limit()));
+        assertFalse(EnergyMeter.isEnergyMeterTelegram(telegram(), 0x1B));
+    }
+
+    @Test
+    public void decodesAllFields() {
+        ByteBuffer telegram = telegram();
+        EnergyMeter energyMeter = new EnergyMeter("1900123456");
+
+        energyMeter.update(telegram, telegram.limit());
+
+        Map<String, Float> values = values(energyMeter);
+        assertEquals(1234.5f, values.get(CHANNEL_POWER_IN), DELTA);
+        assertEquals(4567.25f, values.get(CHANNEL_ENERGY_IN), DELTA);
+        assertEquals(0f, values.get(CHANNEL_POWER_OUT), DELTA);
+        assertEquals(1234.5f, values.get(CHANNEL_ENERGY_OUT), DELTA);
+        assertEquals(0.974f, values.get(CHANNEL_POWER_FACTOR), DELTA);
+        assertEquals(432.1f, values.get(CHANNEL_POWER_IN_L1), DELTA);
+        assertEquals(0f, values.get(CHANNEL_POWER_OUT_L1), DELTA);
+        assertEquals(1.875f, values.get(CHANNEL_CURRENT_L1), DELTA);
+        assertEquals(230.456f, values.get(CHANNEL_VOLTAGE_L1), DELTA);
+        assertEquals(0.998f, values.get(CHANNEL_POWER_FACTOR_L1), DELTA);
+        assertEquals(401.2f, values.get(CHANNEL_POWER_IN_L2), DELTA);
+        assertEquals(1.744f, values.get(CHANNEL_CURRENT_L2), DELTA);
+        assertEquals(229.871f, values.get(CHANNEL_VOLTAGE_L2), DELTA);
+        assertEquals(0.965f, values.get(CHANNEL_POWER_FACTOR_L2), DELTA);
+        assertEquals(401.2f, values.get(CHANNEL_POWER_IN_L3), DELTA);
+        assertEquals(1.5f, values.get(CHANNEL_POWER_OUT_L3), DELTA);
+        assertEquals(1.79f, values.get(CHANNEL_CURRENT_L3), DELTA);
+        assertEquals(231.204f, values.get(CHANNEL_VOLTAGE_L3), DELTA);
+        assertEquals(0.951f, values.get(CHANNEL_POWER_FACTOR_L3), DELTA);
+        assertNotNull(energyMeter.getLastUpdate());
+    }
+
+    @Test
+    public void truncatedTelegramUpdatesCompleteRecordsOnly() {
+        ByteBuffer telegram = telegram();
+        EnergyMeter energyMeter = new EnergyMeter("1900123456");
+
+        // the telegram ends within the energy in counter, which follows the power in record
+        energyMeter.update(telegram, 0x1C + 8 + 6);
+
+        Map<String, Float> values = values(energyMeter);
+        assertEquals(1234.5f, values.get(CHANNEL_POWER_IN), DELTA);
+        assertEquals(0f, values.get(CHANNEL_ENERGY_IN), DELTA);
+        assertEquals(0f, values.get(CHANNEL_VOLTAGE_L1), DELTA);
+    }
+
+    @Test
+    public void laterTelegramReplacesValues() {
+        ByteBuffer telegram = telegram();
+        EnergyMeter energyMeter = new EnergyMeter("1900123456");
+        energyMeter.update(telegram, telegram.limit());
+
+        // power in 1000.0 W
+        telegram.putInt(0x1C + 4, 10000);
+        energyMeter.update(telegram, telegram.limit());
+
+        assertEquals(1000f, values(energyMeter).get(CHANNEL_POWER_IN), DELTA);
+    }
+
+    private static ByteBuffer telegram() {
+        return ByteBuffer.wrap(HexUtils.hexToBytes(TELEGRAM));
+    }
+
+    private static Map<String, Float> values(EnergyMeter energyMeter) {
+        Map<String, Float> values = new HashMap<>();
+        for (FieldDTO field : energyMeter.getFields()) {
+            values.put(field.getChannelId(), field.getValue());
+        }
+        return values;
+    }
+}
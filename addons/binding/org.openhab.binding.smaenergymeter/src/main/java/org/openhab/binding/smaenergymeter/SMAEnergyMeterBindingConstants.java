@@ -35,5 +35,21 @@ public class SMAEnergyMeterBindingConstants {
     public static final String CHANNEL_POWER_OUT = "powerOut";
     public static final String CHANNEL_ENERGY_IN = "energyIn";
     public static final String CHANNEL_ENERGY_OUT = "energyOut";
+    public static final String CHANNEL_POWER_FACTOR = "powerFactor";
+    public static final String CHANNEL_POWER_IN_L1 = "powerInL1";
+    public static final String CHANNEL_POWER_OUT_L1 = "powerOutL1";
+    public static final String CHANNEL_CURRENT_L1 = "currentL1";
+    public static final String CHANNEL_VOLTAGE_L1 = "voltageL1";
+    public static final String CHANNEL_POWER_FACTOR_L1 = "powerFactorL1";
+    public static final String CHANNEL_POWER_IN_L2 = "powerInL2";
+    public static final String CHANNEL_POWER_OUT_L2 = "powerOutL2";
+    public static final String CHANNEL_CURRENT_L2 = "currentL2";
+    public static final String CHANNEL_VOLTAGE_L2 = "voltageL2";
+    public static final String CHANNEL_POWER_FACTOR_L2 = "powerFactorL2";
+    public static final String CHANNEL_POWER_IN_L3 = "powerInL3";
+    public static final String CHANNEL_POWER_OUT_L3 = "powerOutL3";
+    public static final String CHANNEL_CURRENT_L3 = "currentL3";
+    public static final String CHANNEL_VOLTAGE_L3 = "voltageL3";
+    public static final String CHANNEL_POWER_FACTOR_L3 = "powerFactorL3";
 
 }
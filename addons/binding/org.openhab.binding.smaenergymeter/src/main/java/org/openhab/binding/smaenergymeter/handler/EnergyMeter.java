@@ -8,74 +8,126 @@
  */
 package org.openhab.binding.smaenergymeter.handler;
 
-import java.io.IOException;
-import java.net.DatagramPacket;
-import java.net.InetAddress;
-import java.net.MulticastSocket;
+import static org.openhab.binding.smaenergymeter.SMAEnergyMeterBindingConstants.*;
+
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
-
-import org.eclipse.smarthome.core.library.types.DecimalType;
+import java.util.List;
 
 /**
- * The {@link EnergyMeter} class is responsible for communication with the SMA device
- * and extracting the data fields out of the received telegrams.
+ * The {@link EnergyMeter} class holds the data of a SMA device and extracts the data fields
+ * out of the received telegrams.
+ *
+ * A telegram consists of a header with the serial number followed by OBIS records. Each record starts with
+ * 4 bytes (channel, measurement index, type, tariff) followed by the value, which has a length of 4 bytes for
+ * actual values and 8 bytes for counters.
  *
  * @author Osman Basha - Initial contribution
  */
 public class EnergyMeter {
 
-    private String multicastGroup;
-    private int port;
-
-    private String serialNumber;
-    private Date lastUpdate;
-
-    private final FieldDTO powerIn;
-    private final FieldDTO energyIn;
-    private final FieldDTO powerOut;
-    private final FieldDTO energyOut;
-
     public static final String DEFAULT_MCAST_GRP = "239.12.255.254";
     public static final int DEFAULT_MCAST_PORT = 9522;
 
-    public EnergyMeter(String multicastGroup, int port) {
-        this.multicastGroup = multicastGroup;
-        this.port = port;
+    private static final int PROTOCOL_ID_POSITION = 0x10;
+    private static final int PROTOCOL_ID_ENERGY_METER = 0x6069;
+    private static final int DATA_LENGTH_POSITION = 0x0C;
+    private static final int DATA_POSITION = 0x10;
+    private static final int SERIAL_NUMBER_POSITION = 0x14;
+    private static final int RECORDS_POSITION = 0x1C;
+    private static final int OBIS_CHANNEL_VERSION = 0x90;
+
+    private final String serialNumber;
+    private Date lastUpdate;
 
-        powerIn = new FieldDTO(0x20, 4, 10);
-        energyIn = new FieldDTO(0x28, 8, 3600000);
-        powerOut = new FieldDTO(0x34, 4, 10);
-        energyOut = new FieldDTO(0x3C, 8, 3600000);
+    private final List<FieldDTO> fields;
+    private final FieldDTO[] actualFields = new FieldDTO[256];
+    private final FieldDTO[] counterFields = new FieldDTO[256];
+
+    public EnergyMeter(String serialNumber) {
+        this.serialNumber = serialNumber;
+
+        fields = Collections.unmodifiableList(Arrays.asList(new FieldDTO(CHANNEL_POWER_IN, 1, 4, 10),
+                new FieldDTO(CHANNEL_ENERGY_IN, 1, 8, 3600000), new FieldDTO(CHANNEL_POWER_OUT, 2, 4, 10),
+                new FieldDTO(CHANNEL_ENERGY_OUT, 2, 8, 3600000), new FieldDTO(CHANNEL_POWER_FACTOR, 13, 4, 1000),
+                new FieldDTO(CHANNEL_POWER_IN_L1, 21, 4, 10), new FieldDTO(CHANNEL_POWER_OUT_L1, 22, 4, 10),
+                new FieldDTO(CHANNEL_CURRENT_L1, 31, 4, 1000), new FieldDTO(CHANNEL_VOLTAGE_L1, 32, 4, 1000),
+                new FieldDTO(CHANNEL_POWER_FACTOR_L1, 33, 4, 1000), new FieldDTO(CHANNEL_POWER_IN_L2, 41, 4, 10),
+                new FieldDTO(CHANNEL_POWER_OUT_L2, 42, 4, 10), new FieldDTO(CHANNEL_CURRENT_L2, 51, 4, 1000),
+                new FieldDTO(CHANNEL_VOLTAGE_L2, 52, 4, 1000), new FieldDTO(CHANNEL_POWER_FACTOR_L2, 53, 4, 1000),
+                new FieldDTO(CHANNEL_POWER_IN_L3, 61, 4, 10), new FieldDTO(CHANNEL_POWER_OUT_L3, 62, 4, 10),
+                new FieldDTO(CHANNEL_CURRENT_L3, 71, 4, 1000), new FieldDTO(CHANNEL_VOLTAGE_L3, 72, 4, 1000),
+                new FieldDTO(CHANNEL_POWER_FACTOR_L3, 73, 4, 1000)));
+
+        for (FieldDTO field : fields) {
+            if (field.isCounter()) {
+                counterFields[field.getIndex()] = field;
+            } else {
+                actualFields[field.getIndex()] = field;
+            }
+        }
     }
 
-    public void update() throws IOException {
-        byte[] bytes = new byte[600];
-        try (MulticastSocket socket = new MulticastSocket(port)) {
-            socket.setSoTimeout(5000);
-            InetAddress address = InetAddress.getByName(multicastGroup);
-            socket.joinGroup(address);
+    /**
+     * Checks if the received data is a SMA Energy Meter telegram.
+     *
+     * @param telegram buffer with the received data
+     * @param length length of the received data
+     * @return true if the data is a SMA Energy Meter telegram
+     */
+    public static boolean isEnergyMeterTelegram(ByteBuffer telegram, int length) {
+        return length >= RECORDS_POSITION && telegram.get(0) == 'S' && telegram.get(1) == 'M'
+                && telegram.get(2) == 'A' && telegram.get(3) == 0
+                && (telegram.getShort(PROTOCOL_ID_POSITION) & 0xFFFF) == PROTOCOL_ID_ENERGY_METER;
+    }
 
-            DatagramPacket msgPacket = new DatagramPacket(bytes, bytes.length);
-            socket.receive(msgPacket);
+    /**
+     * Reads the serial number of a SMA Energy Meter telegram.
+     *
+     * @param telegram buffer with the received telegram
+     * @return the serial number
+     */
+    public static int readSerialNumber(ByteBuffer telegram) {
+        return telegram.getInt(SERIAL_NUMBER_POSITION);
+    }
+
+    /**
+     * Updates the fields from a received telegram of this device.
+     *
+     * @param telegram buffer with the received telegram
+     * @param length length of the received telegram
+     */
+    public void update(ByteBuffer telegram, int length) {
+        int end = Math.min(length, DATA_POSITION + (telegram.getShort(DATA_LENGTH_POSITION) & 0xFFFF));
+        int position = RECORDS_POSITION;
+
+        while (position + 4 <= end) {
+            int header = telegram.getInt(position);
+            if (header == 0) {
+                // end of data
+                break;
+            }
 
-            String sma = new String(Arrays.copyOfRange(bytes, 0x00, 0x03));
-            if (!sma.equals("SMA")) {
-                throw new IOException("Not a SMA telegram." + sma);
+            int channel = (header >>> 24) & 0xFF;
+            int index = (header >>> 16) & 0xFF;
+            int type = (header >>> 8) & 0xFF;
+            int valueLength = (channel == OBIS_CHANNEL_VERSION) ? 4 : type;
+            if ((valueLength != 4 && valueLength != 8) || position + 4 + valueLength > end) {
+                break;
             }
 
-            ByteBuffer buffer = ByteBuffer.wrap(Arrays.copyOfRange(bytes, 0x14, 0x18));
-            serialNumber = String.valueOf(buffer.getInt());
+            FieldDTO field = (type == 8) ? counterFields[index] : (type == 4) ? actualFields[index] : null;
+            if (field != null && channel != OBIS_CHANNEL_VERSION) {
+                field.updateValue(telegram, position + 4);
+            }
 
-            powerIn.updateValue(bytes);
-            energyIn.updateValue(bytes);
-            powerOut.updateValue(bytes);
-            energyOut.updateValue(bytes);
+            position += 4 + valueLength;
+        }
 
+        synchronized (this) {
             lastUpdate = new Date(System.currentTimeMillis());
-        } catch (Exception e) {
-            throw new IOException(e);
         }
     }
 
@@ -83,24 +135,12 @@ public class EnergyMeter {
         return serialNumber;
     }
 
-    public Date getLastUpdate() {
+    public synchronized Date getLastUpdate() {
         return lastUpdate;
     }
 
-    public DecimalType getPowerIn() {
-        return new DecimalType(powerIn.getValue());
-    }
-
-    public DecimalType getPowerOut() {
-        return new DecimalType(powerOut.getValue());
-    }
-
-    public DecimalType getEnergyIn() {
-        return new DecimalType(energyIn.getValue());
-    }
-
-    public DecimalType getEnergyOut() {
-        return new DecimalType(energyOut.getValue());
+    public List<FieldDTO> getFields() {
+        return fields;
     }
 
 }
@@ -9,22 +9,25 @@
 package org.openhab.binding.smaenergymeter.handler;
 
 import java.nio.ByteBuffer;
-import java.util.Arrays;
 
 /**
  * The {@link FieldDTO} class holds the data for a single field (i.e. the power purchased).
+ * The field is identified by the measurement index of its OBIS identifier and its length,
+ * which is 4 bytes for actual values and 8 bytes for counters.
  *
  * @author Osman Basha - Initial contribution
  */
 public class FieldDTO {
 
-    private final int address;
+    private final String channelId;
+    private final int index;
     private final int length;
     private final int divisor;
-    private float value;
+    private volatile float value;
 
-    public FieldDTO(int address, int length, int divisor) {
-        this.address = address;
+    public FieldDTO(String channelId, int index, int length, int divisor) {
+        this.channelId = channelId;
+        this.index = index;
         if ((length != 4) && (length != 8)) {
             throw new IllegalArgumentException("length should be 4 or 8 bytes");
         }
@@ -32,26 +35,32 @@ public class FieldDTO {
         this.divisor = divisor;
     }
 
+    public String getChannelId() {
+        return channelId;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public boolean isCounter() {
+        return length == 8;
+    }
+
     public float getValue() {
         return value;
     }
 
-    public void updateValue(byte[] bytes) {
+    public void updateValue(ByteBuffer buffer, int position) {
         if (length == 4) {
-            value = (float) bytesToUInt16(Arrays.copyOfRange(bytes, address, address + 4)) / divisor;
+            value = (float) (buffer.getInt(position) & 0xFFFFFFFFL) / divisor;
         } else {
-            value = (float) bytesToUInt32(Arrays.copyOfRange(bytes, address, address + 8)) / divisor;
+            value = (float) buffer.getLong(position) / divisor;
         }
     }
 
-    private int bytesToUInt16(byte[] bytes) {
-        ByteBuffer buffer = ByteBuffer.wrap(bytes);
-        return buffer.getInt();
-    }
-
-    private long bytesToUInt32(byte[] bytes) {
-        ByteBuffer buffer = ByteBuffer.wrap(bytes);
-        return buffer.getLong();
-    }
-
 }
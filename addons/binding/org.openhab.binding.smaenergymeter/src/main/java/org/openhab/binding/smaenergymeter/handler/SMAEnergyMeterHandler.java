@@ -8,12 +8,14 @@
  */
 package org.openhab.binding.smaenergymeter.handler;
 
-import static org.openhab.binding.smaenergymeter.SMAEnergyMeterBindingConstants.*;
-
 import java.io.IOException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
@@ -21,6 +23,7 @@ import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
+import org.openhab.binding.smaenergymeter.internal.EnergyMeterReceiver;
 import org.openhab.binding.smaenergymeter.internal.configuration.EnergyMeterConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,13 +32,30 @@ import org.slf4j.LoggerFactory;
  * The {@link SMAEnergyMeterHandler} is responsible for handling commands, which are
  * sent to one of the channels.
  *
+ * The telegrams of the energy meter are received by a shared {@link EnergyMeterReceiver}, the channels are updated
+ * when the first telegram is received and then every polling period with the latest values or, if averaging is
+ * enabled, with the average of the actual values received since the last polling period. A refresh publishes the
+ * current values without starting a new averaging period.
+ *
  * @author Osman Basha - Initial contribution
  */
-public class SMAEnergyMeterHandler extends BaseThingHandler {
+public class SMAEnergyMeterHandler extends BaseThingHandler implements EnergyMeterReceiver.Listener {
+
+    private static final int MIN_TIMEOUT_SECONDS = 10;
 
     private final Logger logger = LoggerFactory.getLogger(SMAEnergyMeterHandler.class);
-    private EnergyMeter energyMeter;
+    private volatile EnergyMeterReceiver receiver;
+    private volatile String serialNumber;
+    private volatile EnergyMeter energyMeter;
+    private volatile long initializeTime;
     private ScheduledFuture<?> pollingJob;
+    private int pollingPeriod;
+    private boolean averaging;
+
+    private final Object averageLock = new Object();
+    private final Map<String, Double> sums = new HashMap<>();
+    private int sampleCount;
+    private Map<String, Double> lastAverages;
 
     public SMAEnergyMeterHandler(Thing thing) {
         super(thing);
@@ -45,7 +65,7 @@ public class SMAEnergyMeterHandler extends BaseThingHandler {
     public void handleCommand(ChannelUID channelUID, Command command) {
         if (command == RefreshType.REFRESH) {
             logger.debug("Refreshing {}", channelUID);
-            updateData();
+            updateData(false);
         } else {
             logger.warn("This binding is a read-only binding and cannot handle commands");
         }
@@ -58,23 +78,26 @@ public class SMAEnergyMeterHandler extends BaseThingHandler {
         EnergyMeterConfig config = getConfigAs(EnergyMeterConfig.class);
 
         int port = (config.getPort() == null) ? EnergyMeter.DEFAULT_MCAST_PORT : config.getPort();
-        energyMeter = new EnergyMeter(config.getMcastGroup(), port);
-        try {
-            energyMeter.update();
+        String mcastGroup = (config.getMcastGroup() == null) ? EnergyMeter.DEFAULT_MCAST_GRP : config.getMcastGroup();
+        pollingPeriod = (config.getPollingPeriod() == null) ? 30 : config.getPollingPeriod();
+        averaging = Boolean.TRUE.equals(config.getAveraging());
+        serialNumber = getThing().getProperties().get(Thing.PROPERTY_SERIAL_NUMBER);
+        energyMeter = null;
+        initializeTime = System.currentTimeMillis();
+        resetAverages();
 
-            updateProperty(Thing.PROPERTY_VENDOR, "SMA");
-            updateProperty(Thing.PROPERTY_SERIAL_NUMBER, energyMeter.getSerialNumber());
-            logger.debug("Found a SMA Energy Meter with S/N '{}'", energyMeter.getSerialNumber());
+        try {
+            receiver = EnergyMeterReceiver.acquire(mcastGroup, port);
         } catch (IOException e) {
-            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.CONFIGURATION_ERROR, e.getMessage());
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
             return;
         }
+        receiver.addListener(serialNumber, this);
+        updateStatus(ThingStatus.UNKNOWN);
 
-        int pollingPeriod = (config.getPollingPeriod() == null) ? 30 : config.getPollingPeriod();
-        pollingJob = scheduler.scheduleWithFixedDelay(this::updateData, 0, pollingPeriod, TimeUnit.SECONDS);
+        pollingJob = scheduler.scheduleWithFixedDelay(() -> updateData(true), pollingPeriod, pollingPeriod,
+                TimeUnit.SECONDS);
         logger.debug("Polling job scheduled to run every {} sec. for '{}'", pollingPeriod, getThing().getUID());
-
-        updateStatus(ThingStatus.ONLINE);
     }
 
     @Override
@@ -85,25 +108,111 @@ public class SMAEnergyMeterHandler extends BaseThingHandler {
             pollingJob.cancel(true);
             pollingJob = null;
         }
+        if (receiver != null) {
+            receiver.removeListener(serialNumber, this);
+            EnergyMeterReceiver.release(receiver);
+            receiver = null;
+        }
         energyMeter = null;
     }
 
-    private synchronized void updateData() {
+    @Override
+    public void energyMeterUpdated(EnergyMeter energyMeter) {
+        EnergyMeterReceiver receiver = this.receiver;
+        if (receiver == null) {
+            return;
+        }
+        if (serialNumber == null) {
+            // thing without serial number, bind it to the first energy meter found
+            serialNumber = energyMeter.getSerialNumber();
+            receiver.removeListener(null, this);
+            receiver.addListener(serialNumber, this);
+        } else if (!serialNumber.equals(energyMeter.getSerialNumber())) {
+            return;
+        }
+
+        if (averaging) {
+            synchronized (averageLock) {
+                for (FieldDTO field : energyMeter.getFields()) {
+                    if (!field.isCounter()) {
+                        sums.merge(field.getChannelId(), (double) field.getValue(), Double::sum);
+                    }
+                }
+                sampleCount++;
+            }
+        }
+
+        if (this.energyMeter == null) {
+            this.energyMeter = energyMeter;
+            updateProperty(Thing.PROPERTY_VENDOR, "SMA");
+            updateProperty(Thing.PROPERTY_SERIAL_NUMBER, energyMeter.getSerialNumber());
+            logger.debug("Found a SMA Energy Meter with S/N '{}'", energyMeter.getSerialNumber());
+            updateData(false);
+        }
+    }
+
+    /**
+     * Updates the channels with the latest values or the averages of the actual values.
+     *
+     * @param endAveragingPeriod true to start a new averaging period after the update, false to publish the average
+     *            of the current averaging period only
+     */
+    private synchronized void updateData(boolean endAveragingPeriod) {
         logger.debug("Update SMAEnergyMeter data '{}'", getThing().getUID());
 
-        try {
-            energyMeter.update();
+        long timeoutMillis = TimeUnit.SECONDS.toMillis(Math.max(2 * pollingPeriod, MIN_TIMEOUT_SECONDS));
+        EnergyMeter energyMeter = this.energyMeter;
+        if (energyMeter == null) {
+            if (System.currentTimeMillis() - initializeTime > timeoutMillis) {
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
+                        "No telegram received since initialization");
+            }
+            return;
+        }
 
-            updateState(CHANNEL_POWER_IN, energyMeter.getPowerIn());
-            updateState(CHANNEL_POWER_OUT, energyMeter.getPowerOut());
-            updateState(CHANNEL_ENERGY_IN, energyMeter.getEnergyIn());
-            updateState(CHANNEL_ENERGY_OUT, energyMeter.getEnergyOut());
+        Date lastUpdate = energyMeter.getLastUpdate();
+        if (lastUpdate == null || System.currentTimeMillis() - lastUpdate.getTime() > timeoutMillis) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
+                    "No telegram received since " + lastUpdate);
+            return;
+        }
 
-            if (getThing().getStatus().equals(ThingStatus.OFFLINE)) {
-                updateStatus(ThingStatus.ONLINE);
+        Map<String, Double> averages = null;
+        if (averaging) {
+            synchronized (averageLock) {
+                if (sampleCount > 0) {
+                    averages = new HashMap<>();
+                    for (Map.Entry<String, Double> entry : sums.entrySet()) {
+                        averages.put(entry.getKey(), entry.getValue() / sampleCount);
+                    }
+                    lastAverages = averages;
+                } else {
+                    // no telegram since the start of the averaging period, keep the last published averages
+                    averages = lastAverages;
+                }
+                if (endAveragingPeriod) {
+                    sums.clear();
+                    sampleCount = 0;
+                }
             }
-        } catch (IOException e) {
-            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.COMMUNICATION_ERROR, e.getMessage());
+        }
+
+        for (FieldDTO field : energyMeter.getFields()) {
+            Double average = (averages == null) ? null : averages.get(field.getChannelId());
+            updateState(field.getChannelId(),
+                    new DecimalType(average == null ? field.getValue() : average.floatValue()));
+        }
+
+        if (getThing().getStatus() != ThingStatus.ONLINE) {
+            updateStatus(ThingStatus.ONLINE);
+        }
+    }
+
+    private void resetAverages() {
+        synchronized (averageLock) {
+            sums.clear();
+            sampleCount = 0;
+            lastAverages = null;
         }
     }
 
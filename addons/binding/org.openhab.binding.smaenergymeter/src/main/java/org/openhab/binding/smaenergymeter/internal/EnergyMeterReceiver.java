@@ -0,0 +1,250 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.smaenergymeter.internal;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.MulticastSocket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.openhab.binding.smaenergymeter.handler.EnergyMeter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link EnergyMeterReceiver} receives the telegrams of all SMA Energy Meters sent to a multicast group.
+ * A single receiver per multicast group and port is shared by all things and the discovery service; it stays
+ * joined to the group and passes every telegram to the listeners registered for the serial number of the sender.
+ *
+ * @author agent - Initial contribution
+ */
+public class EnergyMeterReceiver {
+
+    /**
+     * Listener for telegrams of SMA Energy Meters.
+     */
+    public interface Listener {
+        /**
+         * Called by the receiver thread after the fields of an energy meter have been updated.
+         *
+         * @param energyMeter the updated energy meter
+         */
+        void energyMeterUpdated(EnergyMeter energyMeter);
+    }
+
+    private static final int BUFFER_SIZE = 1024;
+    private static final int SOCKET_TIMEOUT_MILLIS = 1000;
+    private static final int RECONNECT_DELAY_MILLIS = 10000;
+
+    private static final Map<String, EnergyMeterReceiver> RECEIVERS = new HashMap<>();
+
+    private final Logger logger = LoggerFactory.getLogger(EnergyMeterReceiver.class);
+
+    private final String key;
+    private final InetAddress group;
+    private final int port;
+    private int references;
+
+    private final Map<Integer, EnergyMeter> energyMeters = new ConcurrentHashMap<>();
+    private final Map<String, Set<Listener>> listeners = new ConcurrentHashMap<>();
+    private final Set<Listener> anyListeners = new CopyOnWriteArraySet<>();
+
+    private volatile boolean running;
+    private Thread thread;
+    private MulticastSocket socket;
+
+    private EnergyMeterReceiver(String key, InetAddress group, int port) {
+        this.key = key;
+        this.group = group;
+        this.port = port;
+    }
+
+    /**
+     * Returns the receiver for the multicast group and port and starts it if necessary. Every call must be
+     * balanced by a call of {@link #release(EnergyMeterReceiver)}.
+     *
+     * @param mcastGroup the multicast group
+     * @param port the port
+     * @return the receiver
+     * @throws IOException if the multicast group is invalid
+     */
+    public static EnergyMeterReceiver acquire(String mcastGroup, int port) throws IOException {
+        InetAddress group = InetAddress.getByName(mcastGroup);
+        if (!group.isMulticastAddress()) {
+            throw new IOException("'" + mcastGroup + "' is not a multicast address");
+        }
+
+        String key = group.getHostAddress() + ":" + port;
+        synchronized (RECEIVERS) {
+            EnergyMeterReceiver receiver = RECEIVERS.get(key);
+            if (receiver == null) {
+                receiver = new EnergyMeterReceiver(key, group, port);
+                receiver.start();
+                RECEIVERS.put(key, receiver);
+            }
+            receiver.references++;
+            return receiver;
+        }
+    }
+
+    /**
+     * Releases a receiver returned by {@link #acquire(String, int)} and stops it if it is not used anymore.
+     *
+     * @param receiver the receiver
+     */
+    public static void release(EnergyMeterReceiver receiver) {
+        synchronized (RECEIVERS) {
+            if (--receiver.references <= 0) {
+                RECEIVERS.remove(receiver.key);
+                receiver.stop();
+            }
+        }
+    }
+
+    /**
+     * Adds a listener for the telegrams of an energy meter.
+     *
+     * @param serialNumber the serial number of the energy meter or null for the telegrams of all energy meters
+     * @param listener the listener
+     */
+    public void addListener(String serialNumber, Listener listener) {
+        if (serialNumber == null) {
+            anyListeners.add(listener);
+        } else {
+            listeners.compute(serialNumber, (k, serialListeners) -> {
+                Set<Listener> result = (serialListeners == null) ? new CopyOnWriteArraySet<>() : serialListeners;
+                result.add(listener);
+                return result;
+            });
+        }
+    }
+
+    /**
+     * Removes a listener added by {@link #addListener(String, Listener)}.
+     *
+     * @param serialNumber the serial number of the energy meter or null
+     * @param listener the listener
+     */
+    public void removeListener(String serialNumber, Listener listener) {
+        if (serialNumber == null) {
+            anyListeners.remove(listener);
+        } else {
+            // drop the set of the serial number with its last listener, compute keeps this atomic with addListener
+            listeners.computeIfPresent(serialNumber, (k, serialListeners) -> {
+                serialListeners.remove(listener);
+                return serialListeners.isEmpty() ? null : serialListeners;
+            });
+        }
+    }
+
+    /**
+     * Returns the energy meters from which telegrams have been received.
+     */
+    public Collection<EnergyMeter> getEnergyMeters() {
+        return energyMeters.values();
+    }
+
+    private void start() {
+        running = true;
+        thread = new Thread(this::receive, "SMAEnergyMeter-" + key);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void stop() {
+        running = false;
+        MulticastSocket socket = this.socket;
+        if (socket != null) {
+            socket.close();
+        }
+        thread.interrupt();
+    }
+
+    private void receive() {
+        byte[] bytes = new byte[BUFFER_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        DatagramPacket packet = new DatagramPacket(bytes, bytes.length);
+
+        while (running) {
+            try (MulticastSocket socket = new MulticastSocket(port)) {
+                this.socket = socket;
+                socket.setSoTimeout(SOCKET_TIMEOUT_MILLIS);
+                socket.joinGroup(group);
+                logger.debug("Joined multicast group {}", key);
+
+                try {
+                    while (running) {
+                        packet.setLength(bytes.length);
+                        try {
+                            socket.receive(packet);
+                        } catch (SocketTimeoutException e) {
+                            continue;
+                        }
+                        handleTelegram(buffer, packet.getLength());
+                    }
+                } finally {
+                    if (!socket.isClosed()) {
+                        socket.leaveGroup(group);
+                    }
+                }
+            } catch (IOException e) {
+                if (!running) {
+                    break;
+                }
+                logger.debug("Error receiving telegrams from multicast group {}: {}", key, e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            } finally {
+                this.socket = null;
+            }
+        }
+        logger.debug("Stopped receiving telegrams from multicast group {}", key);
+    }
+
+    private void handleTelegram(ByteBuffer telegram, int length) {
+        if (!EnergyMeter.isEnergyMeterTelegram(telegram, length)) {
+            logger.trace("Ignoring telegram of length {} from multicast group {}", length, key);
+            return;
+        }
+
+        EnergyMeter energyMeter = energyMeters.computeIfAbsent(EnergyMeter.readSerialNumber(telegram),
+                serialNumber -> new EnergyMeter(String.valueOf(serialNumber)));
+        energyMeter.update(telegram, length);
+
+        Set<Listener> serialListeners = listeners.get(energyMeter.getSerialNumber());
+        if (serialListeners != null) {
+            notifyListeners(serialListeners, energyMeter);
+        }
+        notifyListeners(anyListeners, energyMeter);
+    }
+
+    private void notifyListeners(Set<Listener> listeners, EnergyMeter energyMeter) {
+        for (Listener listener : listeners) {
+            try {
+                listener.energyMeterUpdated(energyMeter);
+            } catch (RuntimeException e) {
+                logger.warn("Listener failed to handle telegram of SMA Energy Meter '{}'",
+                        energyMeter.getSerialNumber(), e);
+            }
+        }
+    }
+
+}
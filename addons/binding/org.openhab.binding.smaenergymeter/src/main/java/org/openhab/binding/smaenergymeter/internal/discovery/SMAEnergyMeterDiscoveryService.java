@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.smarthome.config.discovery.AbstractDiscoveryService;
@@ -24,6 +25,7 @@ import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.ThingUID;
 import org.openhab.binding.smaenergymeter.handler.EnergyMeter;
+import org.openhab.binding.smaenergymeter.internal.EnergyMeterReceiver;
 import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +39,8 @@ import org.slf4j.LoggerFactory;
 @Component(service = DiscoveryService.class, immediate = true, configurationPid = "discovery.smaenergymeter")
 public class SMAEnergyMeterDiscoveryService extends AbstractDiscoveryService {
 
+    private static final int DISCOVERY_TIME_MILLIS = 5000;
+
     private final Logger logger = LoggerFactory.getLogger(SMAEnergyMeterDiscoveryService.class);
 
     public SMAEnergyMeterDiscoveryService() {
@@ -63,15 +67,41 @@ public class SMAEnergyMeterDiscoveryService extends AbstractDiscoveryService {
     private synchronized void discover() {
         logger.debug("Try to discover a SMA Energy Meter device");
 
-        EnergyMeter energyMeter = new EnergyMeter(EnergyMeter.DEFAULT_MCAST_GRP, EnergyMeter.DEFAULT_MCAST_PORT);
+        EnergyMeterReceiver receiver;
         try {
-            energyMeter.update();
+            receiver = EnergyMeterReceiver.acquire(EnergyMeter.DEFAULT_MCAST_GRP, EnergyMeter.DEFAULT_MCAST_PORT);
         } catch (IOException e) {
             logger.debug("No SMA Energy Meter found.");
             logger.debug("Diagnostic: ", e);
             return;
         }
 
+        Set<String> serialNumbers = ConcurrentHashMap.newKeySet();
+        EnergyMeterReceiver.Listener listener = energyMeter -> {
+            if (serialNumbers.add(energyMeter.getSerialNumber())) {
+                energyMeterDiscovered(energyMeter);
+            }
+        };
+
+        receiver.addListener(null, listener);
+        try {
+            for (EnergyMeter energyMeter : receiver.getEnergyMeters()) {
+                listener.energyMeterUpdated(energyMeter);
+            }
+            Thread.sleep(DISCOVERY_TIME_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            receiver.removeListener(null, listener);
+            EnergyMeterReceiver.release(receiver);
+        }
+
+        if (serialNumbers.isEmpty()) {
+            logger.debug("No SMA Energy Meter found.");
+        }
+    }
+
+    private void energyMeterDiscovered(EnergyMeter energyMeter) {
         logger.debug("Adding a new SMA Engergy Meter with S/N '{}' to inbox", energyMeter.getSerialNumber());
         Map<String, Object> properties = new HashMap<>();
         properties.put(Thing.PROPERTY_VENDOR, "SMA");
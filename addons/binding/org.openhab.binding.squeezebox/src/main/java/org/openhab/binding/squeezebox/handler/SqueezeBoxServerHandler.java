@@ -21,12 +21,11 @@ import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 
 import org.apache.commons.lang.StringUtils;
@@ -42,8 +41,10 @@ import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.UnDefType;
+import org.openhab.binding.squeezebox.internal.config.SqueezeBoxPlayerConfig;
 import org.openhab.binding.squeezebox.internal.config.SqueezeBoxServerConfig;
 import org.openhab.binding.squeezebox.internal.model.Favorite;
+import org.openhab.binding.squeezebox.internal.utils.SqueezeBoxMessageTokenizer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -81,11 +82,15 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
 
     private static final String CHANNEL_CONFIG_QUOTE_LIST = "quoteList";
 
-    private List<SqueezeBoxPlayerEventListener> squeezeBoxPlayerListeners = Collections
-            .synchronizedList(new ArrayList<SqueezeBoxPlayerEventListener>());
+    private Set<SqueezeBoxPlayerEventListener> squeezeBoxPlayerListeners = ConcurrentHashMap.newKeySet();
 
-    private Map<String, SqueezeBoxPlayer> players = Collections
-            .synchronizedMap(new HashMap<String, SqueezeBoxPlayer>());
+    private Map<String, SqueezeBoxPlayer> players = new ConcurrentHashMap<>();
+
+    // player thing handlers by mac address
+    private Map<String, SqueezeBoxPlayerEventListener> playerHandlers = new ConcurrentHashMap<>();
+
+    // last values received from the server by mac address, used to skip unchanged values
+    private Map<String, Map<String, Object>> playerValues = new ConcurrentHashMap<>();
 
     // client socket and listener thread
     private Socket clientSocket;
@@ -387,6 +392,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             listener = null;
         }
         players.clear();
+        playerValues.clear();
         logger.trace("Squeeze Server connection stopped.");
     }
 
@@ -482,87 +488,91 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         }
 
         private void handlePlayersList(String message) {
-            // Split out players
-            String[] playersList = message.split("playerindex\\S*\\s");
-            for (String playerParams : playersList) {
-
-                // For each player, split out parameters and decode parameter
-                String[] parameterList = playerParams.split("\\s");
-                for (int i = 0; i < parameterList.length; i++) {
-                    parameterList[i] = decode(parameterList[i]);
+            // Split out players, each player starts with a 'playerindex' parameter
+            SqueezeBoxMessageTokenizer tokens = new SqueezeBoxMessageTokenizer(message);
+            List<String> parameterList = new ArrayList<>();
+            while (tokens.next()) {
+                if (tokens.startsWith("playerindex")) {
+                    handlePlayerParameters(parameterList);
+                    parameterList.clear();
+                } else {
+                    parameterList.add(decode(tokens.token()));
                 }
+            }
+            handlePlayerParameters(parameterList);
+        }
 
-                // parse out the MAC address first
-                String macAddress = null;
-                for (String parameter : parameterList) {
-                    if (parameter.contains("playerid")) {
-                        macAddress = parameter.substring(parameter.indexOf(":") + 1);
-                        break;
-                    }
+        private void handlePlayerParameters(List<String> parameterList) {
+            // parse out the MAC address first
+            String macAddress = null;
+            for (String parameter : parameterList) {
+                if (parameter.contains("playerid")) {
+                    macAddress = parameter.substring(parameter.indexOf(":") + 1);
+                    break;
                 }
+            }
 
-                // if none found then ignore this set of params
-                if (macAddress == null) {
-                    continue;
-                }
+            // if none found then ignore this set of params
+            if (macAddress == null) {
+                return;
+            }
 
-                final SqueezeBoxPlayer player = new SqueezeBoxPlayer();
-                player.setMacAddress(macAddress);
-                // populate the player state
-                for (String parameter : parameterList) {
-                    if (parameter.contains("ip")) {
-                        player.setIpAddr(parameter.substring(parameter.indexOf(":") + 1));
-                    } else if (parameter.contains("uuid")) {
-                        player.setUuid(parameter.substring(parameter.indexOf(":") + 1));
-                    } else if (parameter.contains("name")) {
-                        player.setName(parameter.substring(parameter.indexOf(":") + 1));
-                    } else if (parameter.contains("model")) {
-                        player.setModel(parameter.substring(parameter.indexOf(":") + 1));
-                    }
+            final SqueezeBoxPlayer player = new SqueezeBoxPlayer();
+            player.setMacAddress(macAddress);
+            // populate the player state
+            for (String parameter : parameterList) {
+                if (parameter.contains("ip")) {
+                    player.setIpAddr(parameter.substring(parameter.indexOf(":") + 1));
+                } else if (parameter.contains("uuid")) {
+                    player.setUuid(parameter.substring(parameter.indexOf(":") + 1));
+                } else if (parameter.contains("name")) {
+                    player.setName(parameter.substring(parameter.indexOf(":") + 1));
+                } else if (parameter.contains("model")) {
+                    player.setModel(parameter.substring(parameter.indexOf(":") + 1));
                 }
+            }
 
-                // Save player if we haven't seen it yet
-                if (!players.containsKey(macAddress)) {
-                    players.put(macAddress, player);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.playerAdded(player);
-                        }
-                    });
-                    // tell the server we want to subscribe to player updates
-                    sendCommand(player.getMacAddress() + " status - 1 subscribe:10 tags:yagJlNKjc");
-                }
+            // Save player if we haven't seen it yet
+            if (players.putIfAbsent(macAddress, player) == null) {
+                updatePlayer(new PlayerUpdateEvent() {
+                    @Override
+                    public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                        listener.playerAdded(player);
+                    }
+                });
+                // tell the server we want to subscribe to player updates
+                sendCommand(player.getMacAddress() + " status - 1 subscribe:10 tags:yagJlNKjc");
             }
         }
 
         private void handlePlayerUpdate(String message) {
-            String[] messageParts = message.split("\\s");
-            if (messageParts.length < 2) {
+            SqueezeBoxMessageTokenizer tokens = new SqueezeBoxMessageTokenizer(message);
+            String encodedMac = tokens.nextToken();
+            String messageType = tokens.nextToken();
+            if (messageType == null) {
                 logger.warn("Invalid message - expecting at least 2 parts. Ignoring.");
                 return;
             }
 
-            final String mac = decode(messageParts[0]);
+            final String mac = decode(encodedMac);
 
             // get the message type
-            String messageType = messageParts[1];
             switch (messageType) {
                 case "status":
-                    handleStatusMessage(mac, messageParts);
+                    handleStatusMessage(mac, tokens);
                     break;
                 case "playlist":
-                    handlePlaylistMessage(mac, messageParts);
+                    handlePlaylistMessage(mac, tokens, message);
                     break;
                 case "prefset":
-                    handlePrefsetMessage(mac, messageParts);
+                    handlePrefsetMessage(mac, tokens);
                     break;
                 case "mixer":
-                    handleMixerMessage(mac, messageParts);
+                    handleMixerMessage(mac, tokens, message);
                     break;
                 case "ir":
-                    final String ircode = messageParts[2];
-                    updatePlayer(new PlayerUpdateEvent() {
+                    final String ircode = tokens.nextToken();
+                    updatePlayer(mac, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.irCodeChangeEvent(mac, ircode);
@@ -575,50 +585,52 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             }
         }
 
-        private void handleMixerMessage(String mac, String[] messageParts) {
-            String action = messageParts[2];
-
-            switch (action) {
-                case "volume":
-                    String volumeStringValue = decode(messageParts[3]);
-
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            try {
-                                int volume = Integer.parseInt(volumeStringValue);
-
-                                // Check if we received a relative volume change, or an absolute
-                                // volume value.
-                                if (volumeStringValue.contains("+") || (volumeStringValue.contains("-"))) {
-                                    listener.relativeVolumeChangeEvent(mac, volume);
-                                } else {
-                                    listener.absoluteVolumeChangeEvent(mac, volume);
-                                }
-                            } catch (NumberFormatException e) {
-                                logger.warn("Unable to parse volume [{}] received from mixer message.",
-                                        volumeStringValue, e);
+        private void handleMixerMessage(String mac, SqueezeBoxMessageTokenizer tokens, String message) {
+            String action = tokens.nextToken();
+
+            if ("volume".equals(action) && tokens.next()) {
+                String volumeStringValue = decode(tokens.token());
+                try {
+                    int volume = Integer.parseInt(volumeStringValue);
+
+                    // Check if we received a relative volume change, or an absolute
+                    // volume value.
+                    if (volumeStringValue.contains("+") || (volumeStringValue.contains("-"))) {
+                        // listeners calculate the new volume themselves
+                        invalidatePlayerValue(mac, "volume");
+                        updatePlayer(mac, new PlayerUpdateEvent() {
+                            @Override
+                            public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                                listener.relativeVolumeChangeEvent(mac, volume);
                             }
-                        }
-                    });
-                    break;
-                default:
-                    logger.trace("Unhandled mixer message type '{}'", Arrays.toString(messageParts));
-
+                        });
+                    } else {
+                        updatePlayer(mac, "volume", volume, new PlayerUpdateEvent() {
+                            @Override
+                            public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                                listener.absoluteVolumeChangeEvent(mac, volume);
+                            }
+                        });
+                    }
+                } catch (NumberFormatException e) {
+                    logger.warn("Unable to parse volume [{}] received from mixer message.", volumeStringValue, e);
+                }
+            } else {
+                logger.trace("Unhandled mixer message type '{}'", message);
             }
         }
 
-        private void handleStatusMessage(final String mac, String[] messageParts) {
+        private void handleStatusMessage(final String mac, SqueezeBoxMessageTokenizer tokens) {
             String remoteTitle = "", artist = "", album = "", genre = "", year = "";
             boolean coverart = false;
             String coverid = null;
             String artworkUrl = null;
 
-            for (String messagePart : messageParts) {
+            while (tokens.next()) {
                 // Parameter Power
-                if (messagePart.startsWith("power%3A")) {
-                    final boolean power = "1".matches(messagePart.substring("power%3A".length()));
-                    updatePlayer(new PlayerUpdateEvent() {
+                if (tokens.startsWith("power%3A")) {
+                    final boolean power = tokens.valueEquals("power%3A", "1");
+                    updatePlayer(mac, "power", power, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.powerChangeEvent(mac, power);
@@ -626,10 +638,10 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 }
                 // Parameter Volume
-                else if (messagePart.startsWith("mixer%20volume%3A")) {
-                    String value = messagePart.substring("mixer%20volume%3A".length());
+                else if (tokens.startsWith("mixer%20volume%3A")) {
+                    String value = tokens.value("mixer%20volume%3A");
                     final int volume = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, "volume", volume, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.absoluteVolumeChangeEvent(mac, volume);
@@ -637,9 +649,9 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 }
                 // Parameter Mode
-                else if (messagePart.startsWith("mode%3A")) {
-                    final String mode = messagePart.substring("mode%3A".length());
-                    updatePlayer(new PlayerUpdateEvent() {
+                else if (tokens.startsWith("mode%3A")) {
+                    final String mode = tokens.value("mode%3A");
+                    updatePlayer(mac, "mode", mode, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.modeChangeEvent(mac, mode);
@@ -647,10 +659,10 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 }
                 // Parameter Playing Time
-                else if (messagePart.startsWith("time%3A")) {
-                    String value = messagePart.substring("time%3A".length());
+                else if (tokens.startsWith("time%3A")) {
+                    String value = tokens.value("time%3A");
                     final int time = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, "time", time, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.currentPlayingTimeEvent(mac, time);
@@ -658,10 +670,10 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 }
                 // Parameter duration
-                else if (messagePart.startsWith("duration%3A")) {
-                    String value = messagePart.substring("duration%3A".length());
+                else if (tokens.startsWith("duration%3A")) {
+                    String value = tokens.value("duration%3A");
                     final int duration = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, "duration", duration, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.durationEvent(mac, duration);
@@ -669,10 +681,10 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 }
                 // Parameter Playing Playlist Index
-                else if (messagePart.startsWith("playlist_cur_index%3A")) {
-                    String value = messagePart.substring("playlist_cur_index%3A".length());
+                else if (tokens.startsWith("playlist_cur_index%3A")) {
+                    String value = tokens.value("playlist_cur_index%3A");
                     final int index = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, "playlist_cur_index", index, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.currentPlaylistIndexEvent(mac, index);
@@ -680,10 +692,10 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 }
                 // Parameter Playlist Number Tracks
-                else if (messagePart.startsWith("playlist_tracks%3A")) {
-                    String value = messagePart.substring("playlist_tracks%3A".length());
+                else if (tokens.startsWith("playlist_tracks%3A")) {
+                    String value = tokens.value("playlist_tracks%3A");
                     final int track = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, "playlist_tracks", track, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.numberPlaylistTracksEvent(mac, track);
@@ -691,10 +703,10 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 }
                 // Parameter Playlist Repeat Mode
-                else if (messagePart.startsWith("playlist%20repeat%3A")) {
-                    String value = messagePart.substring("playlist%20repeat%3A".length());
+                else if (tokens.startsWith("playlist%20repeat%3A")) {
+                    String value = tokens.value("playlist%20repeat%3A");
                     final int repeat = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, "playlist_repeat", repeat, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.currentPlaylistRepeatEvent(mac, repeat);
@@ -702,10 +714,10 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 }
                 // Parameter Playlist Shuffle Mode
-                else if (messagePart.startsWith("playlist%20shuffle%3A")) {
-                    String value = messagePart.substring("playlist%20shuffle%3A".length());
+                else if (tokens.startsWith("playlist%20shuffle%3A")) {
+                    String value = tokens.value("playlist%20shuffle%3A");
                     final int shuffle = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, "playlist_shuffle", shuffle, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.currentPlaylistShuffleEvent(mac, shuffle);
@@ -713,70 +725,108 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 }
                 // Parameter Title
-                else if (messagePart.startsWith("title%3A")) {
-                    final String value = messagePart.substring("title%3A".length());
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.titleChangeEvent(mac, decode(value));
-                        }
-                    });
+                else if (tokens.startsWith("title%3A")) {
+                    final String value = tokens.value("title%3A");
+                    if (isPlayerValueChanged(mac, "title", value)) {
+                        final String title = decode(value);
+                        updatePlayer(mac, new PlayerUpdateEvent() {
+                            @Override
+                            public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                                listener.titleChangeEvent(mac, title);
+                            }
+                        });
+                    }
                 }
                 // Parameter Remote Title (radio)
-                else if (messagePart.startsWith("remote_title%3A")) {
-                    remoteTitle = messagePart.substring("remote_title%3A".length());
+                else if (tokens.startsWith("remote_title%3A")) {
+                    remoteTitle = tokens.value("remote_title%3A");
                 }
                 // Parameter Artist
-                else if (messagePart.startsWith("artist%3A")) {
-                    artist = messagePart.substring("artist%3A".length());
+                else if (tokens.startsWith("artist%3A")) {
+                    artist = tokens.value("artist%3A");
                 }
                 // Parameter Album
-                else if (messagePart.startsWith("album%3A")) {
-                    album = messagePart.substring("album%3A".length());
+                else if (tokens.startsWith("album%3A")) {
+                    album = tokens.value("album%3A");
                 }
                 // Parameter Genre
-                else if (messagePart.startsWith("genre%3A")) {
-                    genre = messagePart.substring("genre%3A".length());
+                else if (tokens.startsWith("genre%3A")) {
+                    genre = tokens.value("genre%3A");
                 }
                 // Parameter Year
-                else if (messagePart.startsWith("year%3A")) {
-                    year = messagePart.substring("year%3A".length());
+                else if (tokens.startsWith("year%3A")) {
+                    year = tokens.value("year%3A");
                 }
                 // Parameter artwork_url contains url to cover art
-                else if (messagePart.startsWith("artwork_url%3A")) {
-                    artworkUrl = messagePart.substring("artwork_url%3A".length());
+                else if (tokens.startsWith("artwork_url%3A")) {
+                    artworkUrl = tokens.value("artwork_url%3A");
                 }
                 // When coverart is "1" coverid will contain a unique coverart id
-                else if (messagePart.startsWith("coverart%3A")) {
-                    coverart = "1".matches(messagePart.substring("coverart%3A".length()));
+                else if (tokens.startsWith("coverart%3A")) {
+                    coverart = tokens.valueEquals("coverart%3A", "1");
                 }
                 // Id for covert art (only valid when coverart is "1")
-                else if (messagePart.startsWith("coverid%3A")) {
-                    coverid = messagePart.substring("coverid%3A".length());
-                } else {
+                else if (tokens.startsWith("coverid%3A")) {
+                    coverid = tokens.value("coverid%3A");
+                } else if (logger.isTraceEnabled()) {
                     // Added to be able to see additional status message types
-                    logger.trace("Unhandled status message type '{}'", messagePart);
+                    logger.trace("Unhandled status message type '{}'", tokens.token());
                 }
             }
 
             final String finalUrl = constructCoverArtUrl(mac, coverart, coverid, artworkUrl);
-            final String finalRemoteTitle = remoteTitle;
-            final String finalArtist = artist;
-            final String finalAlbum = album;
-            final String finalGenre = genre;
-            final String finalYear = year;
-
-            updatePlayer(new PlayerUpdateEvent() {
+            updatePlayer(mac, "coverart", finalUrl, new PlayerUpdateEvent() {
                 @Override
                 public void updateListener(SqueezeBoxPlayerEventListener listener) {
                     listener.coverArtChangeEvent(mac, finalUrl);
-                    listener.remoteTitleChangeEvent(mac, decode(finalRemoteTitle));
-                    listener.artistChangeEvent(mac, decode(finalArtist));
-                    listener.albumChangeEvent(mac, decode(finalAlbum));
-                    listener.genreChangeEvent(mac, decode(finalGenre));
-                    listener.yearChangeEvent(mac, decode(finalYear));
                 }
             });
+
+            if (isPlayerValueChanged(mac, "remote_title", remoteTitle)) {
+                final String finalRemoteTitle = decode(remoteTitle);
+                updatePlayer(mac, new PlayerUpdateEvent() {
+                    @Override
+                    public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                        listener.remoteTitleChangeEvent(mac, finalRemoteTitle);
+                    }
+                });
+            }
+            if (isPlayerValueChanged(mac, "artist", artist)) {
+                final String finalArtist = decode(artist);
+                updatePlayer(mac, new PlayerUpdateEvent() {
+                    @Override
+                    public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                        listener.artistChangeEvent(mac, finalArtist);
+                    }
+                });
+            }
+            if (isPlayerValueChanged(mac, "album", album)) {
+                final String finalAlbum = decode(album);
+                updatePlayer(mac, new PlayerUpdateEvent() {
+                    @Override
+                    public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                        listener.albumChangeEvent(mac, finalAlbum);
+                    }
+                });
+            }
+            if (isPlayerValueChanged(mac, "genre", genre)) {
+                final String finalGenre = decode(genre);
+                updatePlayer(mac, new PlayerUpdateEvent() {
+                    @Override
+                    public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                        listener.genreChangeEvent(mac, finalGenre);
+                    }
+                });
+            }
+            if (isPlayerValueChanged(mac, "year", year)) {
+                final String finalYear = decode(year);
+                updatePlayer(mac, new PlayerUpdateEvent() {
+                    @Override
+                    public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                        listener.yearChangeEvent(mac, finalYear);
+                    }
+                });
+            }
         }
 
         private String constructCoverArtUrl(String mac, boolean coverart, String coverid, String artwork_url) {
@@ -807,29 +857,29 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             return url;
         }
 
-        private void handlePlaylistMessage(final String mac, String[] messageParts) {
-            String action = messageParts[2];
+        private void handlePlaylistMessage(final String mac, SqueezeBoxMessageTokenizer tokens, String message) {
+            String action = tokens.nextToken();
             String mode;
-            if (action.equals("newsong")) {
+            if ("newsong".equals(action)) {
                 mode = "play";
                 // Set the track duration to 0
-                updatePlayer(new PlayerUpdateEvent() {
+                updatePlayer(mac, "duration", 0, new PlayerUpdateEvent() {
                     @Override
                     public void updateListener(SqueezeBoxPlayerEventListener listener) {
                         listener.durationEvent(mac, 0);
                     }
                 });
-            } else if (action.equals("pause")) {
-                mode = messageParts[3].equals("0") ? "play" : "pause";
-            } else if (action.equals("stop")) {
+            } else if ("pause".equals(action)) {
+                mode = "0".equals(tokens.nextToken()) ? "play" : "pause";
+            } else if ("stop".equals(action)) {
                 mode = "stop";
             } else {
                 // Added so that actions (such as delete, index, jump, open) are not treated as "play"
-                logger.trace("Unhandled playlist message type '{}'", Arrays.toString(messageParts));
+                logger.trace("Unhandled playlist message type '{}'", message);
                 return;
             }
             final String value = mode;
-            updatePlayer(new PlayerUpdateEvent() {
+            updatePlayer(mac, "mode", value, new PlayerUpdateEvent() {
 
                 @Override
                 public void updateListener(SqueezeBoxPlayerEventListener listener) {
@@ -839,19 +889,19 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             });
         }
 
-        private void handlePrefsetMessage(final String mac, String[] messageParts) {
-            if (messageParts.length < 5) {
+        private void handlePrefsetMessage(final String mac, SqueezeBoxMessageTokenizer tokens) {
+            String namespace = tokens.nextToken();
+            String function = tokens.nextToken();
+            String value = tokens.nextToken();
+            if (value == null) {
                 return;
             }
 
             // server prefsets
-            if (messageParts[2].equals("server")) {
-                String function = messageParts[3];
-                String value = messageParts[4];
-
+            if (namespace.equals("server")) {
                 if (function.equals("power")) {
                     final boolean power = value.equals("1");
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, "power", power, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.powerChangeEvent(mac, power);
@@ -859,7 +909,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 } else if (function.equals("volume")) {
                     final int volume = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, "volume", volume, new PlayerUpdateEvent() {
 
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
@@ -991,6 +1041,106 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Update Listeners and the child Squeeze Player Thing of the given player
+     *
+     * @param mac
+     * @param event
+     */
+    private void updatePlayer(String mac, PlayerUpdateEvent event) {
+        // update listeners like disco services
+        for (SqueezeBoxPlayerEventListener listener : squeezeBoxPlayerListeners) {
+            event.updateListener(listener);
+        }
+        // update our child for this player
+        SqueezeBoxPlayerEventListener handler = getPlayerHandler(mac);
+        if (handler != null && !squeezeBoxPlayerListeners.contains(handler)) {
+            event.updateListener(handler);
+        }
+    }
+
+    /**
+     * Update Listeners and the child Squeeze Player Thing of the given player, if the value has changed since it was
+     * last received from the server
+     *
+     * @param mac
+     * @param key
+     * @param value
+     * @param event
+     */
+    private void updatePlayer(String mac, String key, Object value, PlayerUpdateEvent event) {
+        if (isPlayerValueChanged(mac, key, value)) {
+            updatePlayer(mac, event);
+        }
+    }
+
+    /**
+     * Stores the value of a player and checks if it has changed
+     *
+     * @param mac
+     * @param key
+     * @param value
+     * @return true if the value differs from the last stored value
+     */
+    private boolean isPlayerValueChanged(String mac, String key, Object value) {
+        Map<String, Object> values = playerValues.computeIfAbsent(mac, k -> new ConcurrentHashMap<>());
+        Object oldValue = values.put(key, value);
+        if (value.equals(oldValue)) {
+            logger.trace("{}: value of {} unchanged, skipping update", mac, key);
+            return false;
+        }
+        return true;
+    }
+
+    private void invalidatePlayerValue(String mac, String key) {
+        Map<String, Object> values = playerValues.get(mac);
+        if (values != null) {
+            values.remove(key);
+        }
+    }
+
+    /**
+     * Returns the child Squeeze Player Thing handler of the given player
+     *
+     * @param mac
+     * @return handler or null if there is no thing for the player
+     */
+    private SqueezeBoxPlayerEventListener getPlayerHandler(String mac) {
+        SqueezeBoxPlayerEventListener handler = playerHandlers.get(mac);
+        if (handler == null) {
+            // player things initialized before this handler
+            for (Thing thing : getThing().getThings()) {
+                ThingHandler thingHandler = thing.getHandler();
+                if (thingHandler instanceof SqueezeBoxPlayerHandler
+                        && mac.equals(thing.getConfiguration().as(SqueezeBoxPlayerConfig.class).mac)) {
+                    handler = (SqueezeBoxPlayerEventListener) thingHandler;
+                    playerHandlers.put(mac, handler);
+                    break;
+                }
+            }
+        }
+        return handler;
+    }
+
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof SqueezeBoxPlayerHandler) {
+            String mac = childThing.getConfiguration().as(SqueezeBoxPlayerConfig.class).mac;
+            if (mac != null) {
+                playerHandlers.put(mac, (SqueezeBoxPlayerEventListener) childHandler);
+                // make sure the new handler receives the complete state
+                playerValues.remove(mac);
+            }
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof SqueezeBoxPlayerHandler) {
+            playerHandlers.values().removeIf(handler -> handler == childHandler);
+        }
+    }
+
     /**
      * Adds a listener for player events
      *
@@ -1021,6 +1171,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
      */
     public void removePlayerCache(String mac) {
         players.remove(mac);
+        playerValues.remove(mac);
     }
 
     /**
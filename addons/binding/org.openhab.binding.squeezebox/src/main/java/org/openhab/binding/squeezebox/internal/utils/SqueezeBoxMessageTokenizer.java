@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.squeezebox.internal.utils;
+
+/**
+ * Walks over the whitespace separated tokens of a message received from the LMS CLI. Tokens are only copied out of
+ * the message when they are requested, so tokens which are not used cost no allocations.
+ *
+ * @author agent - Initial contribution
+ */
+public class SqueezeBoxMessageTokenizer {
+    private final String message;
+    private int start;
+    private int end = -1;
+
+    public SqueezeBoxMessageTokenizer(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Advances to the next token.
+     *
+     * @return false if there are no more tokens
+     */
+    public boolean next() {
+        if (end >= message.length()) {
+            return false;
+        }
+        start = end + 1;
+        end = start;
+        while (end < message.length() && !Character.isWhitespace(message.charAt(end))) {
+            end++;
+        }
+        return true;
+    }
+
+    /**
+     * Advances to the next token and returns it.
+     *
+     * @return the next token or null if there are no more tokens
+     */
+    public String nextToken() {
+        return next() ? token() : null;
+    }
+
+    /**
+     * Returns the current (still URL encoded) token.
+     */
+    public String token() {
+        return message.substring(start, end);
+    }
+
+    /**
+     * Checks if the current token starts with the given (URL encoded) prefix.
+     */
+    public boolean startsWith(String prefix) {
+        return end - start >= prefix.length() && message.startsWith(prefix, start);
+    }
+
+    /**
+     * Returns the part of the current token following the prefix.
+     */
+    public String value(String prefix) {
+        return message.substring(start + prefix.length(), end);
+    }
+
+    /**
+     * Checks if the part of the current token following the prefix equals the expected value.
+     */
+    public boolean valueEquals(String prefix, String expected) {
+        int valueStart = start + prefix.length();
+        return end - valueStart == expected.length() && message.startsWith(expected, valueStart);
+    }
+}
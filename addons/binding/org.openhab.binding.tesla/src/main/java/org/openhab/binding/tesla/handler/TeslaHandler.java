@@ -14,6 +14,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
 import java.security.GeneralSecurityException;
@@ -21,8 +22,8 @@ import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
@@ -70,15 +71,15 @@ import org.openhab.binding.tesla.internal.protocol.TokenRequestRefreshToken;
 import org.openhab.binding.tesla.internal.protocol.TokenResponse;
 import org.openhab.binding.tesla.internal.protocol.Vehicle;
 import org.openhab.binding.tesla.internal.protocol.VehicleState;
-import org.openhab.binding.tesla.internal.throttler.QueueChannelThrottler;
-import org.openhab.binding.tesla.internal.throttler.Rate;
+import org.openhab.io.transport.throttler.QueueChannelThrottler;
+import org.openhab.io.transport.throttler.Rate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
 
 /**
  * The {@link TeslaHandler} is responsible for handling commands, which are sent
@@ -96,6 +97,7 @@ public class TeslaHandler extends BaseThingHandler {
     private static final int FAST_STATUS_REFRESH_INTERVAL = 15000;
     private static final int SLOW_STATUS_REFRESH_INTERVAL = 60000;
     private static final int CONNECT_RETRY_INTERVAL = 15000;
+    private static final int TOO_MANY_REQUESTS_DELAY = 60000;
     private static final int API_MAXIMUM_ERRORS_IN_INTERVAL = 2;
     private static final int API_ERROR_INTERVAL_SECONDS = 15;
     private static final int EVENT_MAXIMUM_ERRORS_IN_INTERVAL = 10;
@@ -137,6 +139,8 @@ public class TeslaHandler extends BaseThingHandler {
     protected long eventIntervalTimestamp;
     protected int eventIntervalErrors;
     protected ReentrantLock lock;
+    // last state sent per channel, guarded by the lock
+    protected final Map<String, State> channelStates = new HashMap<>();
 
     private StorageService storageService;
     protected Gson gson = new Gson();
@@ -174,6 +178,7 @@ public class TeslaHandler extends BaseThingHandler {
             Rate secondRate = new Rate(200, 10, TimeUnit.MINUTES);
             stateThrottler = new QueueChannelThrottler(firstRate, scheduler, channels);
             stateThrottler.addRate(secondRate);
+            stateThrottler.addPriorityChannel(COMMAND_THROTTLE);
 
             if (fastStateJob == null || fastStateJob.isCancelled()) {
                 fastStateJob = scheduler.scheduleWithFixedDelay(fastStateRunnable, 0, FAST_STATUS_REFRESH_INTERVAL,
@@ -225,6 +230,12 @@ public class TeslaHandler extends BaseThingHandler {
         TeslaChannelSelector selector = TeslaChannelSelector.getValueSelectorFromChannelID(channelID);
 
         if (command instanceof RefreshType) {
+            lock.lock();
+            try {
+                channelStates.clear();
+            } finally {
+                lock.unlock();
+            }
             if (isAwake()) {
                 // Request the state of all known variables. This is sub-optimal, but the requests get scheduled and
                 // throttled so we are safe not to break the Tesla SLA
@@ -526,6 +537,12 @@ public class TeslaHandler extends BaseThingHandler {
                     authenticate();
                 }
 
+                if (response != null && response.getStatus() == 429 && stateThrottler != null) {
+                    long retryAfter = getRetryAfter(response);
+                    logger.debug("Too many requests, pausing the requests to the vehicle for {} ms", retryAfter);
+                    stateThrottler.pause(retryAfter);
+                }
+
                 apiIntervalErrors++;
                 if (apiIntervalErrors >= API_MAXIMUM_ERRORS_IN_INTERVAL) {
                     logger.warn("Reached the maximum number of errors ({}) for the current interval ({} seconds)",
@@ -546,9 +563,20 @@ public class TeslaHandler extends BaseThingHandler {
         return null;
     }
 
+    private long getRetryAfter(Response response) {
+        String retryAfter = response.getHeaderString("Retry-After");
+        if (retryAfter != null) {
+            try {
+                return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+            } catch (NumberFormatException e) {
+                logger.trace("Unable to parse the Retry-After header '{}'", retryAfter);
+            }
+        }
+        return TOO_MANY_REQUESTS_DELAY;
+    }
+
     public void parseAndUpdate(String request, String payLoad, String result) {
-        JsonParser parser = new JsonParser();
-        JsonObject jsonObject = null;
+        Map<String, String> fields = null;
 
         try {
             if (request != null && result != null && !"null".equals(result)) {
@@ -582,43 +610,39 @@ public class TeslaHandler extends BaseThingHandler {
                     }
                 }
 
-                // secondly, reformat the response string to a JSON compliant
-                // object for some specific non-JSON compatible requests
+                // secondly, read the fields of the response string, or wrap it
+                // for some specific non-JSON compatible requests
                 switch (request) {
                     case MOBILE_ENABLED_STATE: {
-                        jsonObject = new JsonObject();
-                        jsonObject.addProperty(MOBILE_ENABLED_STATE, result);
+                        fields = new HashMap<>();
+                        fields.put(MOBILE_ENABLED_STATE, result);
                         break;
                     }
                     default: {
-                        jsonObject = parser.parse(result).getAsJsonObject();
+                        fields = readFields(result);
                         break;
                     }
                 }
             }
 
             // process the result
-            if (jsonObject != null && result != null && !"null".equals(result)) {
+            if (fields != null && result != null && !"null".equals(result)) {
                 // deal with responses for "set" commands, which get confirmed
                 // positively, or negatively, in which case a reason for failure
                 // is provided
-                if (jsonObject.get("reason") != null && jsonObject.get("reason").getAsString() != null) {
-                    boolean requestResult = jsonObject.get("result").getAsBoolean();
+                if (fields.get("reason") != null) {
+                    boolean requestResult = Boolean.parseBoolean(fields.get("result"));
                     logger.debug("The request ({}) execution was {}, and reported '{}'", new Object[] { request,
-                            requestResult ? "successful" : "not successful", jsonObject.get("reason").getAsString() });
+                            requestResult ? "successful" : "not successful", fields.get("reason") });
                 } else {
-                    Set<Map.Entry<String, JsonElement>> entrySet = jsonObject.entrySet();
-
                     long resultTimeStamp = 0;
-                    for (Map.Entry<String, JsonElement> entry : entrySet) {
-                        if ("timestamp".equals(entry.getKey())) {
-                            resultTimeStamp = Long.valueOf(entry.getValue().getAsString());
-                            if (logger.isTraceEnabled()) {
-                                Date date = new Date(resultTimeStamp);
-                                SimpleDateFormat dateFormatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
-                                logger.trace("The request result timestamp is {}", dateFormatter.format(date));
-                            }
-                            break;
+                    String timestamp = fields.get("timestamp");
+                    if (timestamp != null) {
+                        resultTimeStamp = Long.valueOf(timestamp);
+                        if (logger.isTraceEnabled()) {
+                            Date date = new Date(resultTimeStamp);
+                            SimpleDateFormat dateFormatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
+                            logger.trace("The request result timestamp is {}", dateFormatter.format(date));
                         }
                     }
 
@@ -631,27 +655,30 @@ public class TeslaHandler extends BaseThingHandler {
                         }
 
                         if (proceed) {
-                            for (Map.Entry<String, JsonElement> entry : entrySet) {
+                            Map<String, String> properties = editProperties();
+                            boolean propertiesChanged = false;
+                            for (Map.Entry<String, String> entry : fields.entrySet()) {
                                 try {
                                     TeslaChannelSelector selector = TeslaChannelSelector
                                             .getValueSelectorFromRESTID(entry.getKey());
                                     if (!selector.isProperty()) {
-                                        if (!entry.getValue().isJsonNull()) {
-                                            updateState(selector.getChannelID(), teslaChannelSelectorProxy.getState(
-                                                    entry.getValue().getAsString(), selector, editProperties()));
+                                        if (entry.getValue() != null) {
+                                            updateChannelState(selector.getChannelID(), teslaChannelSelectorProxy
+                                                    .getState(entry.getValue(), selector, properties));
                                             if (logger.isTraceEnabled()) {
                                                 logger.trace(
                                                         "The variable/value pair '{}':'{}' is successfully processed",
                                                         entry.getKey(), entry.getValue());
                                             }
                                         } else {
-                                            updateState(selector.getChannelID(), UnDefType.UNDEF);
+                                            updateChannelState(selector.getChannelID(), UnDefType.UNDEF);
                                         }
                                     } else {
-                                        if (!entry.getValue().isJsonNull()) {
-                                            Map<String, String> properties = editProperties();
-                                            properties.put(selector.getChannelID(), entry.getValue().getAsString());
-                                            updateProperties(properties);
+                                        if (entry.getValue() != null) {
+                                            if (!entry.getValue()
+                                                    .equals(properties.put(selector.getChannelID(), entry.getValue()))) {
+                                                propertiesChanged = true;
+                                            }
                                             if (logger.isTraceEnabled()) {
                                                 logger.trace(
                                                         "The variable/value pair '{}':'{}' is successfully used to set property '{}'",
@@ -662,11 +689,11 @@ public class TeslaHandler extends BaseThingHandler {
                                 } catch (IllegalArgumentException e) {
                                     logger.trace("The variable/value pair '{}':'{}' is not (yet) supported",
                                             entry.getKey(), entry.getValue());
-                                } catch (ClassCastException | IllegalStateException e) {
-                                    logger.trace("An exception occurred while converting the JSON data : '{}'",
-                                            e.getMessage(), e);
                                 }
                             }
+                            if (propertiesChanged) {
+                                updateProperties(properties);
+                            }
                         } else {
                             logger.warn("The result for request '{}' is discarded due to an out of sync timestamp",
                                     request);
@@ -681,6 +708,51 @@ public class TeslaHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Reads the top level fields of a JSON object without building a tree of the response. Fields with a null
+     * value are mapped to null, nested objects and arrays are not supported and skipped.
+     *
+     * @param json the JSON object
+     * @return the values of the fields as strings, in the order of the response
+     */
+    protected Map<String, String> readFields(String json) throws IOException {
+        Map<String, String> fields = new LinkedHashMap<>();
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                switch (reader.peek()) {
+                    case NULL:
+                        reader.nextNull();
+                        fields.put(name, null);
+                        break;
+                    case BOOLEAN:
+                        fields.put(name, String.valueOf(reader.nextBoolean()));
+                        break;
+                    case BEGIN_OBJECT:
+                    case BEGIN_ARRAY:
+                        logger.trace("The variable '{}' is not a primitive value and is skipped", name);
+                        reader.skipValue();
+                        break;
+                    default:
+                        fields.put(name, reader.nextString());
+                        break;
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Updates the state of a channel, unless it did not change since the last update.
+     */
+    protected void updateChannelState(String channelID, State state) {
+        if (state != null && state.equals(channelStates.put(channelID, state))) {
+            return;
+        }
+        updateState(channelID, state);
+    }
+
     protected boolean isAwake() {
         return vehicle != null && !"asleep".equals(vehicle.state) && vehicle.vehicle_id != null;
     }
@@ -1145,23 +1217,36 @@ public class TeslaHandler extends BaseThingHandler {
                                                 logger.debug("Event Stream : Event stamp is {}",
                                                         dateFormatter.format(new Date(lastTimeStamp)));
                                             }
-                                            for (int i = 0; i < EventKeys.values().length; i++) {
-                                                TeslaChannelSelector selector = TeslaChannelSelector
-                                                        .getValueSelectorFromRESTID((EventKeys.values()[i]).toString());
-                                                if (!selector.isProperty()) {
-                                                    State newState = teslaChannelSelectorProxy.getState(vals[i],
-                                                            selector, editProperties());
-                                                    if (newState != null && !"".equals(vals[i])) {
-                                                        updateState(selector.getChannelID(), newState);
+                                            Map<String, String> properties = editProperties();
+                                            boolean propertiesChanged = false;
+                                            EventKeys[] eventKeys = EventKeys.values();
+                                            lock.lock();
+                                            try {
+                                                for (int i = 0; i < eventKeys.length; i++) {
+                                                    TeslaChannelSelector selector = TeslaChannelSelector
+                                                            .getValueSelectorFromRESTID(eventKeys[i].toString());
+                                                    if (!selector.isProperty()) {
+                                                        State newState = teslaChannelSelectorProxy.getState(vals[i],
+                                                                selector, properties);
+                                                        if (newState != null && !"".equals(vals[i])) {
+                                                            updateChannelState(selector.getChannelID(), newState);
+                                                        } else {
+                                                            updateChannelState(selector.getChannelID(),
+                                                                    UnDefType.UNDEF);
+                                                        }
                                                     } else {
-                                                        updateState(selector.getChannelID(), UnDefType.UNDEF);
+                                                        String value = (selector.getState(vals[i])).toString();
+                                                        if (!value.equals(
+                                                                properties.put(selector.getChannelID(), value))) {
+                                                            propertiesChanged = true;
+                                                        }
                                                     }
-                                                } else {
-                                                    Map<String, String> properties = editProperties();
-                                                    properties.put(selector.getChannelID(),
-                                                            (selector.getState(vals[i])).toString());
-                                                    updateProperties(properties);
                                                 }
+                                            } finally {
+                                                lock.unlock();
+                                            }
+                                            if (propertiesChanged) {
+                                                updateProperties(properties);
                                             }
                                         } else {
                                             if (logger.isDebugEnabled()) {
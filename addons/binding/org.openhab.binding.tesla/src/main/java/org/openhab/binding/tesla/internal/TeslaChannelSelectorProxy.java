@@ -12,6 +12,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.smarthome.core.library.types.DateTimeType;
@@ -1110,6 +1111,16 @@ public class TeslaChannelSelectorProxy {
         },
         WHEEL_TYPE("wheel_type", "wheeltype", StringType.class, true);
 
+        private static final Map<String, TeslaChannelSelector> REST_ID_INDEX = new HashMap<>();
+
+        static {
+            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
+                if (c.restID != null) {
+                    REST_ID_INDEX.putIfAbsent(c.restID, c);
+                }
+            }
+        }
+
         private final String restID;
         private final String channelID;
         private Class<? extends Type> typeClass;
@@ -1173,10 +1184,9 @@ public class TeslaChannelSelectorProxy {
 
         public static TeslaChannelSelector getValueSelectorFromRESTID(String valueSelectorText)
                 throws IllegalArgumentException {
-            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
-                if (c.restID != null && c.restID.equals(valueSelectorText)) {
-                    return c;
-                }
+            TeslaChannelSelector c = REST_ID_INDEX.get(valueSelectorText);
+            if (c != null) {
+                return c;
             }
 
             throw new IllegalArgumentException("Not valid value selector");
@@ -12,6 +12,7 @@ import static org.junit.Assert.assertEquals;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.Test;
 
@@ -47,4 +48,17 @@ public class CryptUtilTest {
         }
     }
 
+    /**
+     * Test round trip of encrypt with length into a buffer and decrypt in place that should return the same value.
+     */
+    @Test
+    public void testCryptInPlace() {
+        byte[] buffer = new byte[CryptUtil.LENGTH_HEADER_SIZE + TEST_STRING.length() + 10];
+        int length = CryptUtil.encryptWithLength(TEST_STRING, buffer);
+
+        assertEquals("Length should include header", CryptUtil.LENGTH_HEADER_SIZE + TEST_STRING.length(), length);
+        CryptUtil.decryptInPlace(buffer, CryptUtil.LENGTH_HEADER_SIZE, TEST_STRING.length());
+        assertEquals("Crypting should result in same string", TEST_STRING,
+                new String(buffer, CryptUtil.LENGTH_HEADER_SIZE, TEST_STRING.length(), StandardCharsets.ISO_8859_1));
+    }
 }
@@ -80,6 +80,9 @@ public class SmartHomeHandler extends BaseThingHandler {
             refreshJob.cancel(true);
             refreshJob = null;
         }
+        if (connection != null) {
+            connection.close();
+        }
     }
 
     @Override
@@ -8,13 +8,14 @@
  */
 package org.openhab.binding.tplinksmarthome.internal;
 
+import java.io.DataInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.Socket;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,8 +32,15 @@ public class Connection {
 
     public static final int SMART_PLUG_PORT = 9999;
 
+    private static final int SOCKET_TIMEOUT_MILLIS = 10000;
+    private static final int INITIAL_BUFFER_SIZE = 2048;
+    private static final int MAX_RESPONSE_SIZE = 1 << 20;
+
     private final String ipAddress;
 
+    private @Nullable Socket socket;
+    private byte[] receiveBuffer = new byte[INITIAL_BUFFER_SIZE];
+
     /**
      * Initializes a connection to the given ip address.
      *
@@ -43,34 +51,90 @@ public class Connection {
     }
 
     /**
-     * Sends the command, which is a json string, encrypted to the device and decrypts the json result and returns it
+     * Sends the command, which is a json string, encrypted to the device and decrypts the json result and returns it.
+     * The socket to the device is kept open and reused for subsequent commands. If the device closed the connection
+     * in the meantime the command is retried once on a new connection.
      *
      * @param command json command to send to the device
      * @return decrypted returned json result from the device
      * @throws IOException exception in case device not reachable
      */
-    public String sendCommand(String command) throws IOException {
+    public synchronized String sendCommand(String command) throws IOException {
         logger.trace("Executing command: {}", command);
-        try (Socket socket = createSocket(); final OutputStream outputStream = socket.getOutputStream()) {
-            outputStream.write(CryptUtil.encryptWithLength(command));
-            String response = readReturnValue(socket);
+        String response;
+        try {
+            response = sendCommand(getSocket(), command);
+        } catch (IOException e) {
+            logger.trace("Command on open connection failed, retry on new connection: {}", e.getMessage());
+            close();
+            try {
+                response = sendCommand(getSocket(), command);
+            } catch (IOException e2) {
+                close();
+                throw e2;
+            }
+        }
+        logger.trace("Command response: {}", response);
+        return response;
+    }
 
-            logger.trace("Command response: {}", response);
-            return response;
+    /**
+     * Closes the connection to the device if open. A next command will open a new connection.
+     */
+    public synchronized void close() {
+        Socket localSocket = socket;
+
+        socket = null;
+        if (localSocket != null) {
+            try {
+                localSocket.close();
+            } catch (IOException e) {
+                logger.trace("Closing connection to {} failed: {}", ipAddress, e.getMessage());
+            }
         }
     }
 
+    private String sendCommand(Socket socket, String command) throws IOException {
+        byte[] request = new byte[CryptUtil.LENGTH_HEADER_SIZE + command.length()];
+
+        CryptUtil.encryptWithLength(command, request);
+        socket.getOutputStream().write(request);
+        return readReturnValue(socket);
+    }
+
     /**
-     * Reads and decrypts result returned from the device.
+     * Reads and decrypts result returned from the device. The data is read into a reused buffer and decrypted in place.
      *
      * @param socket socket to read result from
      * @return decrypted result
      * @throws IOException exception in case device not reachable
      */
     private String readReturnValue(Socket socket) throws IOException {
-        try (InputStream is = socket.getInputStream()) {
-            return CryptUtil.decryptWithLength(is);
+        // The stream is not closed as that would close the socket.
+        DataInputStream is = new DataInputStream(socket.getInputStream());
+        int length = is.readInt();
+
+        if (length < 0 || length > MAX_RESPONSE_SIZE) {
+            throw new IOException("Invalid response length " + length + " received from " + ipAddress);
+        }
+        if (receiveBuffer.length < length) {
+            receiveBuffer = new byte[length];
+        }
+        is.readFully(receiveBuffer, 0, length);
+        CryptUtil.decryptInPlace(receiveBuffer, 0, length);
+        return new String(receiveBuffer, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private Socket getSocket() throws IOException {
+        Socket localSocket = socket;
+
+        if (localSocket == null || localSocket.isClosed()) {
+            localSocket = createSocket();
+            localSocket.setSoTimeout(SOCKET_TIMEOUT_MILLIS);
+            localSocket.setKeepAlive(true);
+            socket = localSocket;
         }
+        return localSocket;
     }
 
     /**
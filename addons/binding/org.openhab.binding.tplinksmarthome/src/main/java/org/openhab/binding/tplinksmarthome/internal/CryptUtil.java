@@ -8,11 +8,10 @@
  */
 package org.openhab.binding.tplinksmarthome.internal;
 
-import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
@@ -24,6 +23,11 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 @NonNullByDefault
 public final class CryptUtil {
 
+    /**
+     * Number of bytes of the length header that precedes the data sent over tcp.
+     */
+    public static final int LENGTH_HEADER_SIZE = 4;
+
     private static final int KEY = 171;
 
     private CryptUtil() {
@@ -40,9 +44,16 @@ public final class CryptUtil {
      * @throws IOException exception in case device not reachable
      */
     public static String decrypt(byte[] data, int length) throws IOException {
-        try (ByteArrayInputStream is = new ByteArrayInputStream(data)) {
-            return decrypt(is, length);
+        char[] chars = new char[Math.min(length, data.length)];
+        int key = KEY;
+
+        for (int i = 0; i < chars.length; i++) {
+            int in = data[i] & 0xFF;
+
+            chars[i] = (char) (in ^ key);
+            key = in;
         }
+        return new String(chars);
     }
 
     /**
@@ -55,28 +66,30 @@ public final class CryptUtil {
      */
     public static String decryptWithLength(InputStream inputStream) throws IOException {
         try (DataInputStream is = new DataInputStream(inputStream)) {
-            return decrypt(is, is.readInt());
+            byte[] buffer = new byte[is.readInt()];
+
+            is.readFully(buffer);
+            decryptInPlace(buffer, 0, buffer.length);
+            return new String(buffer, StandardCharsets.ISO_8859_1);
         }
     }
 
     /**
-     * Decrypt the byte data in the input stream with the length as given.
+     * Decrypts the given range of the byte array in place. After this call the range contains the plain bytes.
      *
-     * @param inputStream input stream
-     * @param length the number of bytes to read
-     * @return decrypted String of the inputstream
-     * @throws IOException exception in case device not reachable
+     * @param data byte array containing the encrypted data
+     * @param offset start position of the encrypted data in the array
+     * @param length number of bytes to decrypt
      */
-    private static String decrypt(InputStream inputStream, int length) throws IOException {
-        StringBuilder sb = new StringBuilder();
-        int in;
+    public static void decryptInPlace(byte[] data, int offset, int length) {
         int key = KEY;
-        while (sb.length() < length && (in = inputStream.read()) != -1) {
-            int nextKey = in;
-            sb.append((char) (in ^ key));
-            key = nextKey;
+
+        for (int i = offset; i < offset + length; i++) {
+            int in = data[i] & 0xFF;
+
+            data[i] = (byte) (in ^ key);
+            key = in;
         }
-        return sb.toString();
     }
 
     /**
@@ -87,10 +100,29 @@ public final class CryptUtil {
      * @return byte array with length and encrypted string
      */
     public static byte[] encryptWithLength(String string) {
-        ByteBuffer bb = ByteBuffer.allocate(4 + string.length());
-        bb.putInt(string.length());
-        bb.put(encrypt(string));
-        return bb.array();
+        byte[] buffer = new byte[LENGTH_HEADER_SIZE + string.length()];
+
+        encryptWithLength(string, buffer);
+        return buffer;
+    }
+
+    /**
+     * Encrypts the string with the length header into the given buffer. The buffer must be at least 4 bytes larger
+     * than the length of the string.
+     *
+     * @param string String to encrypt
+     * @param buffer buffer to write the length and encrypted string into
+     * @return number of bytes written into the buffer
+     */
+    public static int encryptWithLength(String string, byte[] buffer) {
+        int length = string.length();
+
+        buffer[0] = (byte) (length >>> 24);
+        buffer[1] = (byte) (length >>> 16);
+        buffer[2] = (byte) (length >>> 8);
+        buffer[3] = (byte) length;
+        encrypt(string, buffer, LENGTH_HEADER_SIZE);
+        return LENGTH_HEADER_SIZE + length;
     }
 
     /**
@@ -101,12 +133,25 @@ public final class CryptUtil {
      */
     public static byte[] encrypt(String string) {
         byte[] buffer = new byte[string.length()];
+
+        encrypt(string, buffer, 0);
+        return buffer;
+    }
+
+    /**
+     * Encrypts the string into the given buffer starting at the given offset.
+     *
+     * @param string String to encrypt
+     * @param buffer buffer to write the encrypted string into
+     * @param offset position in the buffer to start writing
+     */
+    private static void encrypt(String string, byte[] buffer, int offset) {
         byte key = (byte) KEY;
+
         for (int i = 0; i < string.length(); i++) {
-            buffer[i] = (byte) (string.charAt(i) ^ key);
-            key = buffer[i];
+            buffer[offset + i] = (byte) (string.charAt(i) ^ key);
+            key = buffer[offset + i];
         }
-        return buffer;
     }
 
 }
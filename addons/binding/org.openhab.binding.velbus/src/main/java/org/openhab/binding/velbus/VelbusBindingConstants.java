@@ -111,6 +111,10 @@ public class VelbusBindingConstants {
     public static final byte COMMAND_BLIND_UP = 0x05;
     public static final byte COMMAND_BLIND_DOWN = 0x06;
     public static final byte COMMAND_SET_DIMVALUE = 0x07;
+    public static final byte COMMAND_BUS_OFF = 0x09;
+    public static final byte COMMAND_BUS_ACTIVE = 0x0A;
+    public static final byte COMMAND_RX_BUFFER_FULL = 0x0B;
+    public static final byte COMMAND_RX_BUFFER_READY = 0x0C;
     public static final byte COMMAND_RESTORE_LAST_DIMVALUE = 0x11;
     public static final byte COMMAND_BLIND_POS = 0x1C;
     public static final byte COMMAND_SUBTYPE = (byte) 0xB0;
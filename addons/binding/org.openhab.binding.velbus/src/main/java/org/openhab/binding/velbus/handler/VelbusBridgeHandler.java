@@ -8,14 +8,16 @@
  */
 package org.openhab.binding.velbus.handler;
 
-import static org.openhab.binding.velbus.VelbusBindingConstants.PORT;
+import static org.openhab.binding.velbus.VelbusBindingConstants.*;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.TooManyListenersException;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
@@ -25,6 +27,7 @@ import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.velbus.internal.VelbusPacketInputStream;
 import org.openhab.binding.velbus.internal.VelbusPacketListener;
+import org.openhab.binding.velbus.internal.packets.VelbusPacket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,11 +46,22 @@ public class VelbusBridgeHandler extends BaseBridgeHandler implements SerialPort
     private Logger logger = LoggerFactory.getLogger(VelbusBridgeHandler.class);
 
     private static final int BAUD = 9600;
+
+    // When sending you need a delay of 60ms between each packet (to prevent flooding the VMB1USB).
+    private static final long PACKET_DELAY_MILLIS = 60;
+    private static final long BUS_BLOCKED_TIMEOUT_MILLIS = 5000;
+
     private NRSerialPort serialPort;
     private OutputStream outputStream;
     private VelbusPacketInputStream inputStream;
     private long lastPacketTimeMillis;
 
+    private final PriorityBlockingQueue<QueuedPacket> transmitQueue = new PriorityBlockingQueue<>();
+    private final AtomicLong packetSequence = new AtomicLong();
+    private final Object busLock = new Object();
+    private boolean busBlocked;
+    private Thread transmitThread;
+
     private VelbusPacketListener defaultPacketListener;
     private Map<Byte, VelbusPacketListener> packetListeners = new HashMap<Byte, VelbusPacketListener>();
 
@@ -73,6 +87,7 @@ public class VelbusBridgeHandler extends BaseBridgeHandler implements SerialPort
 
                 outputStream = serialPort.getOutputStream();
                 inputStream = new VelbusPacketInputStream(serialPort.getInputStream());
+                startTransmitThread();
 
                 try {
                     serialPort.addEventListener(this);
@@ -93,29 +108,100 @@ public class VelbusBridgeHandler extends BaseBridgeHandler implements SerialPort
         }
     }
 
-    public synchronized void sendPacket(byte[] packet) {
-        long currentTimeMillis = System.currentTimeMillis();
-        long timeSinceLastPacket = currentTimeMillis - lastPacketTimeMillis;
+    /**
+     * Queues a packet for transmission. High priority packets (like switching commands) are sent before low priority
+     * packets (like status and name requests); packets of the same priority are sent in order.
+     *
+     * @param packet the packet to send
+     */
+    public void sendPacket(byte[] packet) {
+        transmitQueue.add(new QueuedPacket(packet, packetSequence.getAndIncrement()));
+    }
 
-        if (timeSinceLastPacket < 60) {
-            // When sending you need a delay of 60ms between each packet (to prevent flooding the VMB1USB).
-            long timeToDelay = 60 - timeSinceLastPacket;
+    private synchronized void startTransmitThread() {
+        stopTransmitThread();
 
-            scheduler.schedule(() -> {
-                sendPacket(packet);
-            }, timeToDelay, TimeUnit.MILLISECONDS);
+        setBusBlocked(false);
+        transmitThread = new Thread(this::transmitPackets, "velbus-transmitter-" + getThing().getUID().getId());
+        transmitThread.setDaemon(true);
+        transmitThread.start();
+    }
 
-            return;
+    private synchronized void stopTransmitThread() {
+        if (transmitThread != null) {
+            transmitThread.interrupt();
+            transmitThread = null;
         }
+    }
 
+    private void transmitPackets() {
         try {
-            outputStream.write(packet);
-            outputStream.flush();
-        } catch (IOException e) {
-            logger.error("Serial port write error", e);
+            while (!Thread.currentThread().isInterrupted()) {
+                waitForBus();
+
+                long timeSinceLastPacket = System.currentTimeMillis() - lastPacketTimeMillis;
+                if (timeSinceLastPacket < PACKET_DELAY_MILLIS) {
+                    Thread.sleep(PACKET_DELAY_MILLIS - timeSinceLastPacket);
+                }
+
+                byte[] packet = transmitQueue.take().getBytes();
+
+                try {
+                    outputStream.write(packet);
+                    outputStream.flush();
+                } catch (IOException e) {
+                    logger.error("Serial port write error", e);
+                }
+
+                lastPacketTimeMillis = System.currentTimeMillis();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void waitForBus() throws InterruptedException {
+        synchronized (busLock) {
+            long deadline = System.currentTimeMillis() + BUS_BLOCKED_TIMEOUT_MILLIS;
+
+            while (busBlocked) {
+                long timeout = deadline - System.currentTimeMillis();
+                if (timeout <= 0) {
+                    logger.debug("Bus still blocked after {} ms, resuming transmission", BUS_BLOCKED_TIMEOUT_MILLIS);
+                    busBlocked = false;
+                    break;
+                }
+
+                busLock.wait(timeout);
+            }
         }
+    }
 
-        lastPacketTimeMillis = System.currentTimeMillis();
+    private void setBusBlocked(boolean blocked) {
+        synchronized (busLock) {
+            busBlocked = blocked;
+            busLock.notifyAll();
+        }
+    }
+
+    private void updateBusState(byte[] packet) {
+        if (packet[2] != 0x00 || packet.length < 7) {
+            return;
+        }
+
+        switch (packet[4]) {
+            case COMMAND_BUS_OFF:
+            case COMMAND_RX_BUFFER_FULL:
+                logger.debug("Bus blocked (command {}), pausing transmission", packet[4]);
+                setBusBlocked(true);
+                break;
+            case COMMAND_BUS_ACTIVE:
+            case COMMAND_RX_BUFFER_READY:
+                setBusBlocked(false);
+                break;
+            default:
+                break;
+        }
     }
 
     public void setDefaultPacketListener(VelbusPacketListener velbusPacketListener) {
@@ -136,6 +222,9 @@ public class VelbusBridgeHandler extends BaseBridgeHandler implements SerialPort
 
     @Override
     public void dispose() {
+        stopTransmitThread();
+        transmitQueue.clear();
+
         if (serialPort != null) {
             serialPort.disconnect();
             serialPort = null;
@@ -150,6 +239,8 @@ public class VelbusBridgeHandler extends BaseBridgeHandler implements SerialPort
             try {
                 byte[] packet;
                 while ((packet = inputStream.readPacket()) != null) {
+                    updateBusState(packet);
+
                     byte address = packet[2];
 
                     VelbusPacketListener packetListener = packetListeners.get(address);
@@ -164,4 +255,29 @@ public class VelbusBridgeHandler extends BaseBridgeHandler implements SerialPort
             }
         }
     }
+
+    private static class QueuedPacket implements Comparable<QueuedPacket> {
+        private final byte[] bytes;
+        private final boolean highPriority;
+        private final long sequence;
+
+        QueuedPacket(byte[] bytes, long sequence) {
+            this.bytes = bytes;
+            this.highPriority = bytes.length > 1 && bytes[1] == VelbusPacket.PRIO_HI;
+            this.sequence = sequence;
+        }
+
+        byte[] getBytes() {
+            return bytes;
+        }
+
+        @Override
+        public int compareTo(QueuedPacket other) {
+            if (highPriority != other.highPriority) {
+                return highPriority ? -1 : 1;
+            }
+
+            return Long.compare(sequence, other.sequence);
+        }
+    }
 }
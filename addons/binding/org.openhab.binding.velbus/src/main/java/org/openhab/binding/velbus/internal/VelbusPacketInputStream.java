@@ -10,7 +10,6 @@ package org.openhab.binding.velbus.internal;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
 
 import org.openhab.binding.velbus.internal.packets.VelbusPacket;
 import org.slf4j.Logger;
@@ -20,100 +19,137 @@ import org.slf4j.LoggerFactory;
  * The {@link VelbusPacketInputStream} is a wrapper around an InputStream that
  * aggregates bytes from the input stream to meaningfull packets in the Velbus system.
  *
+ * The received bytes are collected in a ring buffer. Packets are framed from the
+ * buffer once they are complete and their checksum is valid; on invalid bytes the
+ * framing resynchronizes on the next start byte.
+ *
  * @author Cedric Boon - Initial contribution
  */
 public class VelbusPacketInputStream {
+    private static final int BUFFER_SIZE = 256;
+    private static final int BUFFER_MASK = BUFFER_SIZE - 1;
+
+    private static final int MAX_DATA_LENGTH = 8;
+    private static final int PACKET_OVERHEAD = 6;
+
     private Logger logger = LoggerFactory.getLogger(VelbusPacketInputStream.class);
 
     public InputStream inputStream;
 
-    private Byte currentSTX = null;
-    private Byte currentPriority = null;
-    private Byte currentAddress = null;
-    private Byte currentDataLength = null;
-    private ArrayList<Byte> currentData = new ArrayList<Byte>();
-    private Byte currentChecksum = null;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int head;
+    private int count;
 
     public VelbusPacketInputStream(InputStream inputStream) {
         this.inputStream = inputStream;
     }
 
     public byte[] readPacket() throws IOException {
-        int currentDataByte;
-
-        while ((currentDataByte = inputStream.read()) > -1) {
-            if (currentSTX == null) {
-                if (((byte) currentDataByte) == VelbusPacket.STX) {
-                    currentSTX = (byte) currentDataByte;
-                } else {
-                    resetCurrentState();
-                    logger.debug("Packet with invalid start byte: {}", currentDataByte);
-                }
-            } else if (currentPriority == null) {
-                if (((byte) currentDataByte) == VelbusPacket.PRIO_HI
-                        || ((byte) currentDataByte) == VelbusPacket.PRIO_LOW) {
-                    currentPriority = (byte) currentDataByte;
-                } else {
-                    resetCurrentState();
-                    logger.debug("Packet with invalid priority received: {}", currentDataByte);
-                }
-            } else if (currentAddress == null) {
-                currentAddress = (byte) currentDataByte;
-            } else if (currentDataLength == null && currentDataByte <= 8) {
-                currentDataLength = (byte) currentDataByte;
-            } else if (currentDataLength == null) {
-                currentDataLength = 1;
-                currentData.add((byte) currentDataByte);
-            } else if (currentData.size() < currentDataLength) {
-                currentData.add((byte) currentDataByte);
-            } else if (currentChecksum == null) {
-                currentChecksum = (byte) currentDataByte;
-                byte[] packet = getCurrentPacket();
-                byte expectedChecksum = VelbusPacket.computeCRCByte(packet);
-
-                if (currentChecksum != expectedChecksum) {
-                    resetCurrentState();
-                    logger.debug("Packet with invalid checksum received: {} instead of {}", currentChecksum,
-                            expectedChecksum);
-                }
-            } else if (((byte) currentDataByte) == VelbusPacket.ETX) {
-                byte[] packet = getCurrentPacket();
-
-                resetCurrentState();
-
-                return packet;
-            } else {
-                resetCurrentState();
-                logger.debug("Packet with invalid ETX received: {}", currentDataByte);
+        byte[] packet;
+
+        while ((packet = decodePacket()) == null) {
+            if (!fillBuffer()) {
+                return null;
+            }
+        }
+
+        return packet;
+    }
+
+    private boolean fillBuffer() throws IOException {
+        int tail = (head + count) & BUFFER_MASK;
+        int length = Math.min(BUFFER_SIZE - count, BUFFER_SIZE - tail);
+        int read = inputStream.read(buffer, tail, length);
+
+        if (read <= 0) {
+            return false;
+        }
+
+        count += read;
+        return true;
+    }
+
+    private byte[] decodePacket() {
+        while (count > 0) {
+            if (peek(0) != VelbusPacket.STX) {
+                logger.debug("Packet with invalid start byte: {}", peek(0));
+                skip(1);
+                continue;
+            }
+
+            if (count < 2) {
+                return null;
             }
+
+            byte priority = peek(1);
+            if (priority != VelbusPacket.PRIO_HI && priority != VelbusPacket.PRIO_LOW) {
+                logger.debug("Packet with invalid priority received: {}", priority);
+                skip(1);
+                continue;
+            }
+
+            if (count < 4) {
+                return null;
+            }
+
+            int dataLength = peek(3) & 0xFF;
+            if (dataLength > MAX_DATA_LENGTH) {
+                logger.debug("Packet with invalid data length received: {}", dataLength);
+                skip(1);
+                continue;
+            }
+
+            int packetLength = PACKET_OVERHEAD + dataLength;
+            if (count < packetLength) {
+                return null;
+            }
+
+            byte checksum = peek(packetLength - 2);
+            byte expectedChecksum = computeChecksum(packetLength);
+            if (checksum != expectedChecksum) {
+                logger.debug("Packet with invalid checksum received: {} instead of {}", checksum, expectedChecksum);
+                skip(1);
+                continue;
+            }
+
+            if (peek(packetLength - 1) != VelbusPacket.ETX) {
+                logger.debug("Packet with invalid ETX received: {}", peek(packetLength - 1));
+                skip(1);
+                continue;
+            }
+
+            byte[] packet = new byte[packetLength];
+            for (int i = 0; i < packetLength; i++) {
+                packet[i] = peek(i);
+            }
+            skip(packetLength);
+
+            return packet;
         }
 
         return null;
     }
 
-    protected byte[] getCurrentPacket() {
-        byte[] packet = new byte[6 + currentDataLength];
-        packet[0] = currentSTX;
-        packet[1] = currentPriority;
-        packet[2] = currentAddress;
-        packet[3] = currentDataLength;
+    /**
+     * Computes the checksum over the packet bytes at the start of the buffer like
+     * {@link VelbusPacket#computeCRCByte(byte[])}.
+     */
+    private byte computeChecksum(int packetLength) {
+        int crc = 0;
 
-        for (int i = 0; i < currentDataLength; i++) {
-            packet[4 + i] = currentData.get(i);
+        for (int i = 0; i < packetLength - 2; i++) {
+            crc = (crc + (peek(i) & 0xFF)) & 0xFF;
         }
 
-        packet[4 + currentDataLength] = currentChecksum;
-        packet[5 + currentDataLength] = VelbusPacket.ETX;
+        return (byte) (0x100 - crc);
+    }
 
-        return packet;
+    private byte peek(int offset) {
+        return buffer[(head + offset) & BUFFER_MASK];
     }
 
-    protected void resetCurrentState() {
-        currentSTX = null;
-        currentPriority = null;
-        currentAddress = null;
-        currentDataLength = null;
-        currentData = new ArrayList<Byte>();
-        currentChecksum = null;
+    private void skip(int length) {
+        head = (head + length) & BUFFER_MASK;
+        count -= length;
     }
 }
@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.yamahareceiver.internal.protocol.xml;
+
+import org.junit.Test;
+import org.openhab.binding.yamahareceiver.ResponseLoader;
+import org.openhab.binding.yamahareceiver.internal.protocol.ReceivedMessageParseException;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.openhab.binding.yamahareceiver.TestModels.HTR_4069;
+
+/**
+ * Unit test for {@link XMLUtils}.
+ *
+ * @author agent - Initial contribution
+ */
+public class XMLUtilsTest {
+
+    private final ResponseLoader rl = new ResponseLoader();
+
+    @Test
+    public void readPathsReturnsFirstOccurrence() throws Exception {
+        // given
+        String response = rl.load("Main_Zone_Basic_Status.xml", HTR_4069);
+
+        // when
+        Map<String, String> values = XMLUtils.readPaths(response, "Main_Zone/Basic_Status",
+                "Power_Control/Power", "Volume/Lvl/Val", "Volume/Mute", "Volume/Zone_B/Lvl/Val", "Input/Input_Sel");
+
+        // then
+        assertEquals("Standby", values.get("Power_Control/Power"));
+        assertEquals("-460", values.get("Volume/Lvl/Val"));
+        assertEquals("Off", values.get("Volume/Mute"));
+        assertEquals("-345", values.get("Volume/Zone_B/Lvl/Val"));
+        assertEquals("TUNER", values.get("Input/Input_Sel"));
+    }
+
+    @Test
+    public void readPathsSkipsMissingPaths() throws Exception {
+        // when
+        Map<String, String> values = XMLUtils.readPaths(
+                "<YAMAHA_AV><Main_Zone><Basic_Status><Power_Control><Power>On</Power></Power_Control></Basic_Status></Main_Zone></YAMAHA_AV>",
+                "Main_Zone/Basic_Status", "Power_Control/Power", "Surr/Pgm_Sel/Pgm");
+
+        // then
+        assertEquals("On", values.get("Power_Control/Power"));
+        assertFalse(values.containsKey("Surr/Pgm_Sel/Pgm"));
+    }
+
+    @Test(expected = ReceivedMessageParseException.class)
+    public void readPathsFailsOnMalformedMessage() throws Exception {
+        XMLUtils.readPaths("<YAMAHA_AV><Main_Zone></YAMAHA_AV>", "Main_Zone/Basic_Status", "Power_Control/Power");
+    }
+}
@@ -14,8 +14,10 @@ import org.openhab.binding.yamahareceiver.internal.state.ZoneControlState;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.openhab.binding.yamahareceiver.TestModels.*;
 import static org.openhab.binding.yamahareceiver.YamahaReceiverBindingConstants.Zone.Main_Zone;
 
@@ -108,6 +110,23 @@ public class ZoneControlXMLTest extends AbstractZoneControlXMLTest {
         verify(con).send(eq("<Main_Zone><Vol><Lvl><Val>-20</Val><Exp>1</Exp><Unit>dB</Unit></Lvl></Vol></Main_Zone>"));
     }
 
+    @Test
+    public void given_RX_S601D_when_volumeRelativeBeforeRefresh_then_startsFromLastVolumeSent() throws Exception {
+        given(RX_S601D);
+        when(zoneConfig.getVolumePercentage(anyFloat())).thenAnswer(p -> (p.<Float>getArgument(0) + 10) * 5);
+        when(zoneConfig.getVolumeDb(anyFloat())).thenAnswer(p -> p.<Float>getArgument(0) / 5 - 10);
+        ZoneControlState staleState = new ZoneControlState();
+        staleState.volumeDB = -5;
+
+        // when
+        subject.setVolumeDB(-2);
+        subject.setVolumeRelative(staleState, 10);
+        subject.dispose();
+
+        // then
+        verify(con).send(eq("<Main_Zone><Volume><Lvl><Val>0</Val><Exp>1</Exp><Unit>dB</Unit></Lvl></Volume></Main_Zone>"));
+    }
+
     @Test
     public void given_RX_S601D_when_input_then_sendsProperCommand() throws Exception {
         when_input_then_sendsProperCommand(RX_S601D);
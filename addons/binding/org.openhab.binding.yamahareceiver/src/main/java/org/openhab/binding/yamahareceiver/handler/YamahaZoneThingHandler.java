@@ -148,6 +148,10 @@ public class YamahaZoneThingHandler extends BaseThingHandler implements
 
     @Override
     public void dispose() {
+        if (zoneControl != null) {
+            zoneControl.dispose();
+            zoneControl = null;
+        }
         if (serviceAvailableInputs != null) {
             serviceAvailableInputs.unregister();
             channelsTypeProviderAvailableInputs = null;
@@ -191,6 +195,9 @@ public class YamahaZoneThingHandler extends BaseThingHandler implements
             updateStatus(ThingStatus.ONLINE);
         } else {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.BRIDGE_OFFLINE);
+            if (zoneControl != null) {
+                zoneControl.dispose();
+            }
             zoneControl = null;
             zoneAvailableInputs = null;
         }
@@ -512,6 +519,16 @@ public class YamahaZoneThingHandler extends BaseThingHandler implements
         }
     }
 
+    @Override
+    public void zoneStateUpdateFailed(Exception e) {
+        if (e instanceof IOException) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
+        } else {
+            // Some AVRs send unexpected responses. We log parser exceptions therefore.
+            logger.debug("Parse error!", e);
+        }
+    }
+
     /**
      * Called by {@link #zoneStateChanged(ZoneControlState)} if the input has changed.
      * Will request updates from {@see InputWithNavigationControl} and {@see InputWithPlayControl}.
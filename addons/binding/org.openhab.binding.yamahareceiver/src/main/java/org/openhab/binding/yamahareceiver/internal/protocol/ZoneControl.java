@@ -68,4 +68,9 @@ public interface ZoneControl extends IStateUpdatable {
      * @throws ReceivedMessageParseException
      */
     void setScene(String scene) throws IOException, ReceivedMessageParseException;
+
+    /**
+     * Cancels the pending refresh of the zone state. No further refreshes are scheduled afterwards.
+     */
+    void dispose();
 }
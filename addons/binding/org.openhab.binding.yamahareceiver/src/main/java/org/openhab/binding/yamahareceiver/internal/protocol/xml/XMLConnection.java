@@ -16,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import java.io.BufferedReader;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
@@ -85,10 +86,12 @@ public class XMLConnection extends AbstractConnection {
 
             return responseConsumer.apply(connection);
 
-        } finally {
+        } catch (IOException e) {
+            // Only drop the socket when something went wrong, otherwise it is kept alive for the next request
             if (connection != null) {
                 connection.disconnect();
             }
+            throw e;
         }
     }
 
@@ -100,7 +103,10 @@ public class XMLConnection extends AbstractConnection {
      */
     @Override
     public void send(String message) throws IOException {
-        postMessage(XML_PUT, message, XML_END, c -> null);
+        postMessage(XML_PUT, message, XML_END, c -> {
+            discardResponse(c);
+            return null;
+        });
     }
 
     /**
@@ -132,6 +138,18 @@ public class XMLConnection extends AbstractConnection {
         }
     }
 
+    /**
+     * Reads the response body to the end, so that the underlying socket can be reused for the next request.
+     */
+    private void discardResponse(HttpURLConnection connection) throws IOException {
+        try (InputStream in = connection.getInputStream()) {
+            byte[] buffer = new byte[512];
+            while (in.read(buffer) != -1) {
+                // skip
+            }
+        }
+    }
+
     public String getResponse(String path) throws IOException {
 
         URL url = createBaseUrl(path);
@@ -151,10 +169,11 @@ public class XMLConnection extends AbstractConnection {
             }
 
             return consumeResponse(connection);
-        } finally {
+        } catch (IOException e) {
             if (connection != null) {
                 connection.disconnect();
             }
+            throw e;
         }
     }
 
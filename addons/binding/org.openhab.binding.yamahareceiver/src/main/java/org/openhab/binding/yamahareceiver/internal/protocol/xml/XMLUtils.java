@@ -21,8 +21,16 @@ import org.xml.sax.SAXException;
 
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -39,6 +47,14 @@ public class XMLUtils {
     // We need a lot of xml parsing. Create a document builder beforehand.
     static final DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
 
+    // For the frequent status polls only a handful of values is needed, so these are pulled out of the stream.
+    private static final XMLInputFactory xif = XMLInputFactory.newInstance();
+
+    static {
+        xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xif.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
     static Node getNode(Node parent, String[] nodePath, int offset) {
         if (parent == null) {
             return null;
@@ -177,6 +193,104 @@ public class XMLUtils {
         }
     }
 
+    /**
+     * Reads the inner text of the given element paths without building a document. The paths are relative to the
+     * element at rootPath, which itself is relative to the document element (the same as
+     * {@link #getNode(Node, String)} applied to the first child of the document). Only the first occurrence of each
+     * path is returned, paths that are not present in the message are missing in the result.
+     *
+     * @param message XML formatted message.
+     * @param rootPath path of the element the other paths are relative to, e.g. Main_Zone/Basic_Status
+     * @param paths element paths to read, e.g. Volume/Lvl/Val
+     * @return map of path to inner text
+     * @throws ReceivedMessageParseException if the message is not well formed XML
+     */
+    public static Map<String, String> readPaths(String message, String rootPath, String... paths)
+            throws ReceivedMessageParseException {
+
+        Map<String, String> wanted = new HashMap<>();
+        for (String path : paths) {
+            if (!path.isEmpty()) {
+                wanted.put(rootPath + "/" + path, path);
+            }
+        }
+        Map<String, String> values = new HashMap<>();
+
+        XMLStreamReader reader = null;
+        try {
+            reader = xif.createXMLStreamReader(new StringReader(message));
+
+            // element path below the document element
+            Deque<Integer> pathLengths = new ArrayDeque<>();
+            StringBuilder currentPath = new StringBuilder();
+            StringBuilder text = null;
+            String textPath = null;
+            int textDepth = 0;
+            int depth = 0;
+
+            while (reader.hasNext() && values.size() < wanted.size()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        depth++;
+                        if (text != null) {
+                            textDepth++;
+                        }
+                        if (depth == 1) {
+                            break;
+                        }
+                        pathLengths.push(currentPath.length());
+                        if (currentPath.length() > 0) {
+                            currentPath.append('/');
+                        }
+                        currentPath.append(reader.getLocalName());
+
+                        if (text == null) {
+                            String path = wanted.get(currentPath.toString());
+                            if (path != null && !values.containsKey(path)) {
+                                text = new StringBuilder();
+                                textPath = path;
+                                textDepth = 0;
+                            }
+                        }
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        depth--;
+                        if (text != null) {
+                            if (textDepth == 0) {
+                                values.put(textPath, text.toString());
+                                text = null;
+                            } else {
+                                textDepth--;
+                            }
+                        }
+                        if (!pathLengths.isEmpty()) {
+                            currentPath.setLength(pathLengths.pop());
+                        }
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                        if (text != null) {
+                            text.append(reader.getText());
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new ReceivedMessageParseException(e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    LOG.trace("Could not close the XML reader", e);
+                }
+            }
+        }
+        return values;
+    }
+
     /**
      * Wraps the XML message with the zone tags. Example with zone=Main_Zone:
      * <Main_Zone>message</Main_Zone>.
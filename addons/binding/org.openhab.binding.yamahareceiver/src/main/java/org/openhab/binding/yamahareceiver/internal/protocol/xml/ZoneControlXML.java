@@ -9,6 +9,7 @@
 package org.openhab.binding.yamahareceiver.internal.protocol.xml;
 
 import org.apache.commons.lang.StringUtils;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.openhab.binding.yamahareceiver.YamahaReceiverBindingConstants.Zone;
 import org.openhab.binding.yamahareceiver.internal.config.YamahaZoneConfig;
 import org.openhab.binding.yamahareceiver.internal.protocol.AbstractConnection;
@@ -24,6 +25,11 @@ import org.w3c.dom.Node;
 
 import java.io.IOException;
 import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import static org.openhab.binding.yamahareceiver.YamahaReceiverBindingConstants.CHANNEL_DIALOGUE_LEVEL;
@@ -32,7 +38,6 @@ import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLConsta
 import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLConstants.Commands.ZONE_BASIC_STATUS_PATH;
 import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLConstants.*;
 import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLProtocolService.getZoneResponse;
-import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLUtils.getNodeContentOrDefault;
 import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLUtils.getNodeContentOrEmpty;
 
 /**
@@ -70,6 +75,15 @@ public class ZoneControlXML implements ZoneControl {
     protected CommandTemplate dialogueLevel = new CommandTemplate("<Sound_Video><Dialogue_Adjust><Dialogue_Lvl>%d</Dialogue_Lvl></Dialogue_Adjust></Sound_Video>", "Sound_Video/Dialogue_Adjust/Dialogue_Lvl");
     protected boolean dialogueLevelSupported = false;
 
+    private static final long UPDATE_AFTER_COMMAND_DELAY_MS = 150;
+
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("thingHandler");
+    private final Object updateLock = new Object();
+    private ScheduledFuture<?> updateAfterCommandJob;
+    private boolean disposed;
+    // the last volume sent, until a refresh has read the zone state again
+    private final AtomicReference<Float> sentVolumeDB = new AtomicReference<>();
+
     public ZoneControlXML(AbstractConnection con,
                           Zone zone,
                           YamahaZoneConfig zoneSettings,
@@ -144,6 +158,43 @@ public class ZoneControlXML implements ZoneControl {
         comReference.get().send(XMLUtils.wrZone(zone, message));
     }
 
+    /**
+     * Refreshes the zone state shortly after a command was sent. Commands arriving in bursts (e.g. volume slider moves)
+     * would otherwise each poll the full zone status. Every command restarts the delay, so a burst is followed by a
+     * single refresh reflecting the state after the last command.
+     */
+    protected void updateAfterCommand() {
+        synchronized (updateLock) {
+            if (disposed) {
+                return;
+            }
+            if (updateAfterCommandJob != null) {
+                updateAfterCommandJob.cancel(false);
+            }
+            updateAfterCommandJob = scheduler.schedule(() -> {
+                try {
+                    update();
+                } catch (IOException | ReceivedMessageParseException e) {
+                    logger.debug("Zone {} - could not refresh the state after a command", getZone(), e);
+                    if (observer != null) {
+                        observer.zoneStateUpdateFailed(e);
+                    }
+                }
+            }, UPDATE_AFTER_COMMAND_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        synchronized (updateLock) {
+            disposed = true;
+            if (updateAfterCommandJob != null) {
+                updateAfterCommandJob.cancel(false);
+                updateAfterCommandJob = null;
+            }
+        }
+    }
+
     /**
      * Return the zone
      */
@@ -155,14 +206,14 @@ public class ZoneControlXML implements ZoneControl {
     public void setPower(boolean on) throws IOException, ReceivedMessageParseException {
         String cmd = power.apply(on ? ON : POWER_STANDBY);
         sendCommand(cmd);
-        update();
+        updateAfterCommand();
     }
 
     @Override
     public void setMute(boolean on) throws IOException, ReceivedMessageParseException {
         String cmd = this.mute.apply(on ? ON : OFF);
         sendCommand(cmd);
-        update();
+        updateAfterCommand();
     }
 
     /**
@@ -185,7 +236,8 @@ public class ZoneControlXML implements ZoneControl {
         // Effectively we're only allowing dB values with .0 at the end.
         int vol = (int) volume * 10;
         sendCommand(this.volume.apply(vol));
-        update();
+        sentVolumeDB.set(vol * .1f);
+        updateAfterCommand();
     }
 
     /**
@@ -214,7 +266,9 @@ public class ZoneControlXML implements ZoneControl {
      */
     @Override
     public void setVolumeRelative(ZoneControlState state, float percent) throws IOException, ReceivedMessageParseException {
-        setVolume(zoneConfig.getVolumePercentage(state.volumeDB) + percent);
+        // The refresh after a volume command is delayed, so the state may not contain the last volume sent yet
+        Float volumeDB = sentVolumeDB.get();
+        setVolume(zoneConfig.getVolumePercentage(volumeDB != null ? volumeDB : state.volumeDB) + percent);
     }
 
     @Override
@@ -222,7 +276,7 @@ public class ZoneControlXML implements ZoneControl {
         name = inputConverterSupplier.get().toCommandName(name);
         String cmd = inputSel.apply(name);
         sendCommand(cmd);
-        update();
+        updateAfterCommand();
     }
 
     @Override
@@ -232,7 +286,7 @@ public class ZoneControlXML implements ZoneControl {
                 : surroundSelProgram.apply(name);
 
         sendCommand(cmd);
-        update();
+        updateAfterCommand();
     }
 
     @Override
@@ -241,7 +295,7 @@ public class ZoneControlXML implements ZoneControl {
             return;
         }
         sendCommand(dialogueLevel.apply(level));
-        update();
+        updateAfterCommand();
     }
 
     @Override
@@ -250,7 +304,7 @@ public class ZoneControlXML implements ZoneControl {
             return;
         }
         sendCommand(sceneSel.apply(scene));
-        update();
+        updateAfterCommand();
     }
 
     @Override
@@ -259,45 +313,52 @@ public class ZoneControlXML implements ZoneControl {
             return;
         }
 
-        Node statusNode = getZoneResponse(comReference.get(), zone, ZONE_BASIC_STATUS_CMD, ZONE_BASIC_STATUS_PATH);
+        Float volumeDBBeforeUpdate = sentVolumeDB.get();
+        String response = comReference.get().sendReceive(XMLUtils.wrZone(zone, ZONE_BASIC_STATUS_CMD));
+        Map<String, String> status = XMLUtils.readPaths(response, zone + "/" + ZONE_BASIC_STATUS_PATH,
+                power.getPath(), mute.getPath(), volume.getPath(), inputSel.getPath(), inputSelNamePath,
+                surroundSelStraight.getPath(), surroundSelProgram.getPath(), dialogueLevel.getPath());
 
         String value;
 
         ZoneControlState state = new ZoneControlState();
 
-        value = getNodeContentOrEmpty(statusNode, power.getPath());
+        value = status.getOrDefault(power.getPath(), "");
         state.power = ON.equalsIgnoreCase(value);
 
-        value = getNodeContentOrEmpty(statusNode, mute.getPath());
+        value = status.getOrDefault(mute.getPath(), "");
         state.mute = ON.equalsIgnoreCase(value);
 
         // The value comes in dB x 10, on AVR it says -30.5dB, the values comes as -305
-        value = getNodeContentOrDefault(statusNode, volume.getPath(), String.valueOf(zoneConfig.getVolumeDbMin()));
+        value = status.getOrDefault(volume.getPath(), String.valueOf(zoneConfig.getVolumeDbMin()));
         state.volumeDB = Float.parseFloat(value) * .1f; // in dB
 
-        value = getNodeContentOrEmpty(statusNode, inputSel.getPath());
+        value = status.getOrDefault(inputSel.getPath(), "");
         state.inputID = inputConverterSupplier.get().fromStateName(value);
         if (StringUtils.isBlank(state.inputID)) {
             throw new ReceivedMessageParseException("Expected inputID. Failed to read Input/Input_Sel");
         }
 
         // Some receivers may use Src_Name instead?
-        value = getNodeContentOrEmpty(statusNode, inputSelNamePath);
+        value = status.getOrDefault(inputSelNamePath, "");
         state.inputName = value;
 
-        value = getNodeContentOrEmpty(statusNode, surroundSelStraight.getPath());
+        value = status.getOrDefault(surroundSelStraight.getPath(), "");
         boolean straightOn = ON.equalsIgnoreCase(value);
 
-        value = getNodeContentOrEmpty(statusNode, surroundSelProgram.getPath());
+        value = status.getOrDefault(surroundSelProgram.getPath(), "");
         // Surround is either in straight mode or sound program
         state.surroundProgram = straightOn ? SURROUND_PROGRAM_STRAIGHT : value;
 
-        value = getNodeContentOrDefault(statusNode, dialogueLevel.getPath(), "0");
+        value = status.getOrDefault(dialogueLevel.getPath(), "0");
         state.dialogueLevel = Integer.parseInt(value);
 
         logger.debug("Zone {} state - power: {}, mute: {}, volumeDB: {}, input: {}, surroundProgram: {}",
                 getZone(), state.power, state.mute, state.volumeDB, state.inputID, state.surroundProgram);
 
+        // The state contains the volume sent before, unless another volume was sent in the meantime
+        sentVolumeDB.compareAndSet(volumeDBBeforeUpdate, null);
+
         observer.zoneStateChanged(state);
     }
 }
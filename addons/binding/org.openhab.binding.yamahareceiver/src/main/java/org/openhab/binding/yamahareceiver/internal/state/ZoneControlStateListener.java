@@ -15,4 +15,12 @@ package org.openhab.binding.yamahareceiver.internal.state;
  */
 public interface ZoneControlStateListener {
     void zoneStateChanged(ZoneControlState msg);
+
+    /**
+     * Called when the zone state could not be refreshed in the background, e.g. after a command was sent.
+     *
+     * @param e The {@link java.io.IOException} or
+     *            {@link org.openhab.binding.yamahareceiver.internal.protocol.ReceivedMessageParseException}
+     */
+    void zoneStateUpdateFailed(Exception e);
 }
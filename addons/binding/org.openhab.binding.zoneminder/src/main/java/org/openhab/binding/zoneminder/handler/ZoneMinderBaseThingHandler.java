@@ -12,6 +12,8 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.security.GeneralSecurityException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -36,6 +38,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import name.eskildsen.zoneminder.IZoneMinderConnectionInfo;
+import name.eskildsen.zoneminder.IZoneMinderMonitorData;
 import name.eskildsen.zoneminder.IZoneMinderSession;
 import name.eskildsen.zoneminder.ZoneMinderFactory;
 import name.eskildsen.zoneminder.exception.ZoneMinderUrlNotFoundException;
@@ -71,6 +74,9 @@ public abstract class ZoneMinderBaseThingHandler extends BaseThingHandler implem
 
     private DataRefreshPriorityEnum _refreshPriority = DataRefreshPriorityEnum.SCHEDULED;
 
+    /** Last state sent to each channel, used to skip updates that don't change anything */
+    private final Map<ChannelUID, State> lastChannelStates = new ConcurrentHashMap<>();
+
     protected boolean isOnline() {
 
         if (zoneMinderSession == null) {
@@ -160,12 +166,27 @@ public abstract class ZoneMinderBaseThingHandler extends BaseThingHandler implem
         return ch.getUID();
     }
 
-    protected abstract void onFetchData();
+    /**
+     * Fetch data for the thing from the server.
+     *
+     * @param refreshPriority Priority of the refresh that requested the data
+     * @param monitorData Data for this monitor that already was fetched by the bridge for all monitors at once, or
+     *            null if it must be fetched by the thing
+     */
+    protected abstract void onFetchData(DataRefreshPriorityEnum refreshPriority, IZoneMinderMonitorData monitorData);
 
     /**
      * Method to Refresh Thing Handler.
      */
-    public final synchronized void refreshThing(IZoneMinderSession session, DataRefreshPriorityEnum refreshPriority) {
+    public final void refreshThing(IZoneMinderSession session, DataRefreshPriorityEnum refreshPriority) {
+        refreshThing(session, refreshPriority, null);
+    }
+
+    /**
+     * Method to Refresh Thing Handler with monitor data the bridge already fetched for all monitors.
+     */
+    public final synchronized void refreshThing(IZoneMinderSession session, DataRefreshPriorityEnum refreshPriority,
+            IZoneMinderMonitorData monitorData) {
 
         if ((refreshPriority != getRefreshPriority()) && (!isConnected())) {
             return;
@@ -183,7 +204,7 @@ public abstract class ZoneMinderBaseThingHandler extends BaseThingHandler implem
                 logger.debug("{}: refreshThing(): Bridge '{}' Found for Thing '{}'!", getLogIdentifier(),
                         getThing().getUID(), this.getThing().getUID());
 
-                onFetchData();
+                onFetchData(refreshPriority, monitorData);
             }
         }
 
@@ -247,7 +268,7 @@ public abstract class ZoneMinderBaseThingHandler extends BaseThingHandler implem
 
         switch (channel.getId()) {
             case ZoneMinderConstants.CHANNEL_ONLINE:
-                updateState(channel, getChannelBoolAsOnOffState(isOnline()));
+                updateChannelState(channel, getChannelBoolAsOnOffState(isOnline()));
                 break;
             default:
                 logger.error(
@@ -256,6 +277,34 @@ public abstract class ZoneMinderBaseThingHandler extends BaseThingHandler implem
         }
     }
 
+    /**
+     * Updates the state of the channel, if it differs from the state last sent to that channel.
+     *
+     * @param channel channel to update
+     * @param state new state of the channel
+     */
+    protected void updateChannelState(ChannelUID channel, State state) {
+        State previous = lastChannelStates.put(channel, state);
+        if (!state.equals(previous)) {
+            updateState(channel, state);
+        }
+    }
+
+    /**
+     * Forgets the state last sent to the channel, so the next update is sent in any case.
+     *
+     * @param channel channel to forget the state of
+     */
+    protected void invalidateChannelState(ChannelUID channel) {
+        lastChannelStates.remove(channel);
+    }
+
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        invalidateChannelState(channelUID);
+        super.channelLinked(channelUID);
+    }
+
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
     }
@@ -279,6 +328,7 @@ public abstract class ZoneMinderBaseThingHandler extends BaseThingHandler implem
 
             this.setThingRefreshed(false);
         }
+        lastChannelStates.clear();
 
         lockSession.lock();
         try {
@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.security.GeneralSecurityException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
@@ -182,34 +183,32 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
     private Runnable refreshPriorityDataRunnable = () -> {
         try {
             // Make sure priority updates is done
+            List<ZoneMinderBaseThingHandler> priorityHandlers = new ArrayList<>();
             for (Thing thing : getThing().getThings()) {
-                try {
-                    if (thing.getThingTypeUID().equals(ZoneMinderConstants.THING_TYPE_THING_ZONEMINDER_MONITOR)) {
-                        Thing thingMonitor = thing;
-
-                        ZoneMinderBaseThingHandler thingHandler = (ZoneMinderBaseThingHandler) thing.getHandler();
-                        if (thingHandler != null) {
-
-                            if (thingHandler.getRefreshPriority() == DataRefreshPriorityEnum.HIGH_PRIORITY) {
-                                logger.debug("[MONITOR-{}]: RefreshPriority is High Priority",
-                                        thingHandler.getZoneMinderId());
-                                thingHandler.refreshThing(zoneMinderSession, DataRefreshPriorityEnum.HIGH_PRIORITY);
-                            }
-                        } else {
-                            logger.debug(
-                                    "[MONITOR]: refreshThing not called for monitor, since thingHandler is 'null'");
-                        }
+                if (thing.getThingTypeUID().equals(ZoneMinderConstants.THING_TYPE_THING_ZONEMINDER_MONITOR)) {
+                    ZoneMinderBaseThingHandler thingHandler = (ZoneMinderBaseThingHandler) thing.getHandler();
+                    if (thingHandler == null) {
+                        logger.debug("[MONITOR]: refreshThing not called for monitor, since thingHandler is 'null'");
+                    } else if (thingHandler.getRefreshPriority() == DataRefreshPriorityEnum.HIGH_PRIORITY) {
+                        logger.debug("[MONITOR-{}]: RefreshPriority is High Priority", thingHandler.getZoneMinderId());
+                        priorityHandlers.add(thingHandler);
                     }
-                } catch (NullPointerException ex) {
-                    // This isn't critical (unless it comes over and over). There seems to be a bug so that a
-                    // null
-                    // pointer exception is coming every now and then.
-                    // HAve to find the reason for that. Until thenm, don't Spamm
-                    logger.error("[MONITOR]: Method 'refreshThing()' for Bridge failed for thing='{}' - Exception: ",
-                            thing.getUID(), ex);
+                }
+            }
+
+            // Nothing is alarmed, no need to poll the server
+            if (priorityHandlers.isEmpty()) {
+                return;
+            }
+
+            Map<String, IZoneMinderMonitorData> monitorData = fetchMonitorData(zoneMinderSession);
+            for (ZoneMinderBaseThingHandler thingHandler : priorityHandlers) {
+                try {
+                    thingHandler.refreshThing(zoneMinderSession, DataRefreshPriorityEnum.HIGH_PRIORITY,
+                            monitorData.get(thingHandler.getZoneMinderId()));
                 } catch (Exception ex) {
                     logger.error("[MONITOR]: Method 'refreshThing()' for Bridge failed for thing='{}' - Exception: ",
-                            thing.getUID(), ex);
+                            thingHandler.getThing().getUID(), ex);
                 }
             }
         } catch (Exception exception) {
@@ -475,16 +474,17 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
         }
 
         /*
-         * Request Things attached to Bridge to refresh
+         * Request Things attached to Bridge to refresh, with the data of all monitors fetched in one request
          */
+        Map<String, IZoneMinderMonitorData> monitorData = fetchMonitorData(session);
         for (Thing thing : things) {
             try {
 
                 if (thing.getThingTypeUID().equals(ZoneMinderConstants.THING_TYPE_THING_ZONEMINDER_MONITOR)) {
-                    Thing thingMonitor = thing;
                     ZoneMinderBaseThingHandler thingHandler = (ZoneMinderBaseThingHandler) thing.getHandler();
 
-                    thingHandler.refreshThing(session, DataRefreshPriorityEnum.SCHEDULED);
+                    thingHandler.refreshThing(session, DataRefreshPriorityEnum.SCHEDULED,
+                            monitorData.get(thingHandler.getZoneMinderId()));
                 }
 
             } catch (NullPointerException ex) {
@@ -503,6 +503,41 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
 
     }
 
+    /**
+     * Fetches the data of all monitors with a single request.
+     *
+     * @param session session to use
+     * @return monitor data by ZoneMinder monitor id. Empty if the data could not be fetched, the things then fetch
+     *         their data themselves.
+     */
+    private Map<String, IZoneMinderMonitorData> fetchMonitorData(IZoneMinderSession session) {
+        Map<String, IZoneMinderMonitorData> result = new HashMap<>();
+
+        if ((session == null) || !isConnected()) {
+            return result;
+        }
+        try {
+            IZoneMinderServer serverProxy = ZoneMinderFactory.getServerProxy(session);
+            ArrayList<IZoneMinderMonitorData> monitors = serverProxy.getMonitors();
+            if ((monitors == null) || (serverProxy.getHttpResponseCode() != 200)) {
+                logger.debug("{}: HTTP Response Monitors: Code='{}', Message'{}'", getLogIdentifier(),
+                        serverProxy.getHttpResponseCode(), serverProxy.getHttpResponseMessage());
+                return result;
+            }
+
+            // The entries of the list are decoded from the list response, so their own response code is not set
+            for (IZoneMinderMonitorData data : monitors) {
+                if (data != null && data.getId() != null) {
+                    result.put(data.getId(), data);
+                }
+            }
+        } catch (Exception ex) {
+            logger.debug("{}: Fetching data of all monitors failed, Exception='{}'", getLogIdentifier(),
+                    ex.getMessage());
+        }
+        return result;
+    }
+
     /**
      * Returns connection status.
      */
@@ -179,6 +179,7 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
 
             // Allow refresh of channels
             if (command == RefreshType.REFRESH) {
+                invalidateChannelState(channelUID);
                 updateChannel(channelUID);
                 return;
             }
@@ -608,7 +609,7 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
 
                 logger.debug("{}: Setting channel '{}' to '{}'", getLogIdentifier(), channel.toString(),
                         state.toString());
-                updateState(channel.getId(), state);
+                updateChannelState(channel, state);
             }
         } catch (Exception ex) {
             logger.error("{}: Error when 'updateChannel' was called (channelId='{}'state='{}', exception'{}')",
@@ -619,7 +620,7 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
     @Override
     public void updateStatus(ThingStatus status) {
         super.updateStatus(status);
-        updateState(ZoneMinderConstants.CHANNEL_ONLINE,
+        updateChannelState(new ChannelUID(getThing().getUID(), ZoneMinderConstants.CHANNEL_ONLINE),
                 ((status == ThingStatus.ONLINE) ? OnOffType.ON : OnOffType.OFF));
 
     }
@@ -722,7 +723,7 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
     }
 
     @Override
-    protected void onFetchData() {
+    protected void onFetchData(DataRefreshPriorityEnum refreshPriority, IZoneMinderMonitorData monitorData) {
 
         IZoneMinderSession session = null;
 
@@ -730,89 +731,52 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
         try {
             IZoneMinderMonitor monitorProxy = ZoneMinderFactory.getMonitorProxy(session, getZoneMinderId());
 
-            IZoneMinderMonitorData data = null;
-            IZoneMinderDaemonStatus captureDaemon = null;
-            IZoneMinderDaemonStatus analysisDaemon = null;
-            IZoneMinderDaemonStatus frameDaemon = null;
-
-            data = monitorProxy.getMonitorData();
-            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
-                    monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
-                    monitorProxy.getHttpResponseMessage());
-
-            captureDaemon = monitorProxy.getCaptureDaemonStatus();
-            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
-                    monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
-                    monitorProxy.getHttpResponseMessage());
-
-            analysisDaemon = monitorProxy.getAnalysisDaemonStatus();
-            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
-                    monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
-                    monitorProxy.getHttpResponseMessage());
-
-            frameDaemon = monitorProxy.getFrameDaemonStatus();
-            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
-                    monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
-                    monitorProxy.getHttpResponseMessage());
-
-            if ((data.getHttpResponseCode() != 200) || (captureDaemon.getHttpResponseCode() != 200)
-                    || (analysisDaemon.getHttpResponseCode() != 200) || (frameDaemon.getHttpResponseCode() != 200)) {
-
-                if (data.getHttpResponseCode() != 200) {
-                    logger.warn("{}: HTTP Response MonitorData: Code='{}', Message'{}'", getLogIdentifier(),
-                            data.getHttpResponseCode(), data.getHttpResponseMessage());
-
-                    channelMonitorStatus = ZoneMinderMonitorStatusEnum.UNKNOWN;
-                    channelFunction = ZoneMinderMonitorFunctionEnum.NONE;
-                    channelEnabled = false;
-                    channelEventCause = "";
-                }
-                if (captureDaemon.getHttpResponseCode() != 200) {
-                    channelDaemonCapture = false;
-                    logger.warn("{}: HTTP Response CaptureDaemon: Code='{}', Message'{}'", getLogIdentifier(),
-                            captureDaemon.getHttpResponseCode(), captureDaemon.getHttpResponseMessage());
-
-                }
-                if (analysisDaemon.getHttpResponseCode() != 200) {
-                    channelDaemonAnalysis = false;
+            IZoneMinderMonitorData data = monitorData;
+            boolean dataValid = true;
+
+            // Only fetch monitor data if the bridge didn't already fetch it for all monitors. The entries of the
+            // monitor list carry no HTTP response code of their own, so only individually fetched data is checked.
+            if (data == null) {
+                data = monitorProxy.getMonitorData();
+                logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                        monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
+                        monitorProxy.getHttpResponseMessage());
+                dataValid = (data.getHttpResponseCode() == 200);
+            }
 
-                    logger.warn("{}: HTTP Response AnalysisDaemon: Code='{}', Message='{}'", getLogIdentifier(),
-                            analysisDaemon.getHttpResponseCode(), analysisDaemon.getHttpResponseMessage());
-                }
-                if (frameDaemon.getHttpResponseCode() != 200) {
-                    channelDaemonFrame = false;
-                    logger.warn("{}: HTTP Response MonitorData: Code='{}', Message'{}'", getLogIdentifier(),
-                            frameDaemon.getHttpResponseCode(), frameDaemon.getHttpResponseMessage());
-                }
+            if (!dataValid) {
+                logger.warn("{}: HTTP Response MonitorData: Code='{}', Message'{}'", getLogIdentifier(),
+                        data.getHttpResponseCode(), data.getHttpResponseMessage());
 
-            } else {
-                if (isConnected()) {
-                    channelMonitorStatus = monitorProxy.getMonitorDetailedStatus();
-                    logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
-                            monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
-                            monitorProxy.getHttpResponseMessage());
-
-                    channelFunction = data.getFunction();
-                    channelEnabled = data.getEnabled();
-                    IZoneMinderEventData event = monitorProxy.getLastEvent();
-                    if (event != null) {
-                        channelEventCause = event.getCause();
-                    } else {
-                        channelEventCause = "";
-                    }
-
-                    channelDaemonCapture = captureDaemon.getStatus();
-                    channelDaemonAnalysis = analysisDaemon.getStatus();
-                    channelDaemonFrame = frameDaemon.getStatus();
+                channelMonitorStatus = ZoneMinderMonitorStatusEnum.UNKNOWN;
+                channelFunction = ZoneMinderMonitorFunctionEnum.NONE;
+                channelEnabled = false;
+                channelEventCause = "";
+            } else if (isConnected()) {
+                channelFunction = data.getFunction();
+                channelEnabled = data.getEnabled();
+
+                channelMonitorStatus = monitorProxy.getMonitorDetailedStatus();
+                logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                        monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
+                        monitorProxy.getHttpResponseMessage());
+
+                IZoneMinderEventData event = monitorProxy.getLastEvent();
+                if (event != null) {
+                    channelEventCause = event.getCause();
                 } else {
-                    channelMonitorStatus = ZoneMinderMonitorStatusEnum.UNKNOWN;
-                    channelFunction = ZoneMinderMonitorFunctionEnum.NONE;
-                    channelEnabled = false;
                     channelEventCause = "";
-                    channelDaemonCapture = false;
-                    channelDaemonAnalysis = false;
-                    channelDaemonFrame = false;
                 }
+            } else {
+                channelMonitorStatus = ZoneMinderMonitorStatusEnum.UNKNOWN;
+                channelFunction = ZoneMinderMonitorFunctionEnum.NONE;
+                channelEnabled = false;
+                channelEventCause = "";
+            }
+
+            // The daemon states hardly ever change, don't fetch them on high priority refreshes while alarmed
+            if (refreshPriority == DataRefreshPriorityEnum.SCHEDULED) {
+                fetchDaemonStates(monitorProxy);
             }
         } finally {
             releaseSession();
@@ -827,6 +791,48 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
 
     }
 
+    private void fetchDaemonStates(IZoneMinderMonitor monitorProxy) {
+        if (!isConnected()) {
+            channelDaemonCapture = false;
+            channelDaemonAnalysis = false;
+            channelDaemonFrame = false;
+            return;
+        }
+
+        IZoneMinderDaemonStatus captureDaemon = monitorProxy.getCaptureDaemonStatus();
+        logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(), monitorProxy.getHttpResponseMessage());
+        if (captureDaemon.getHttpResponseCode() != 200) {
+            channelDaemonCapture = false;
+            logger.warn("{}: HTTP Response CaptureDaemon: Code='{}', Message'{}'", getLogIdentifier(),
+                    captureDaemon.getHttpResponseCode(), captureDaemon.getHttpResponseMessage());
+        } else {
+            channelDaemonCapture = captureDaemon.getStatus();
+        }
+
+        IZoneMinderDaemonStatus analysisDaemon = monitorProxy.getAnalysisDaemonStatus();
+        logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(), monitorProxy.getHttpResponseMessage());
+        if (analysisDaemon.getHttpResponseCode() != 200) {
+            channelDaemonAnalysis = false;
+            logger.warn("{}: HTTP Response AnalysisDaemon: Code='{}', Message='{}'", getLogIdentifier(),
+                    analysisDaemon.getHttpResponseCode(), analysisDaemon.getHttpResponseMessage());
+        } else {
+            channelDaemonAnalysis = analysisDaemon.getStatus();
+        }
+
+        IZoneMinderDaemonStatus frameDaemon = monitorProxy.getFrameDaemonStatus();
+        logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(), monitorProxy.getHttpResponseMessage());
+        if (frameDaemon.getHttpResponseCode() != 200) {
+            channelDaemonFrame = false;
+            logger.warn("{}: HTTP Response FrameDaemon: Code='{}', Message'{}'", getLogIdentifier(),
+                    frameDaemon.getHttpResponseCode(), frameDaemon.getHttpResponseMessage());
+        } else {
+            channelDaemonFrame = frameDaemon.getStatus();
+        }
+    }
+
     protected State getDetailedStatus() {
         State state = UnDefType.UNDEF;
 
@@ -10,7 +10,11 @@ package org.openhab.binding.zway.handler;
 
 import static org.openhab.binding.zway.ZWayBindingConstants.*;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -76,7 +80,18 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
     private ZWayBridgeConfiguration mConfig;
     private IZWayApi mZWayApi;
 
+    /**
+     * Maximum age of the cached device list for channel refreshes, so the refreshes of all devices in one polling
+     * cycle share one download of the device list.
+     */
+    private static final long DEVICE_LIST_MAX_AGE_MILLIS = 5000;
+
+    private final Object deviceListLock = new Object();
     private DeviceList deviceList;
+    private long deviceListTimestamp;
+    private Map<String, Integer> deviceUpdateTimes = new HashMap<>();
+
+    private final Set<ZWayDeviceHandler> deviceHandlers = new CopyOnWriteArraySet<>();
 
     /**
      * Initializer authenticate the Z-Way API instance with bridge configuration.
@@ -101,7 +116,7 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
                     // Thing status set to online in login callback
                     logger.info("Z-Way bridge successfully authenticated");
                     // Gets the latest deviceList from zWay during bridge initialization
-                    deviceList = mZWayApi.getDevices();
+                    loadDeviceList(0);
 
                     // Initialize bridge polling
                     if (pollingJob == null || pollingJob.isCancelled()) {
@@ -276,6 +291,7 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
             logger.debug("Starting polling for bridge: {}", getThing().getLabel());
             if (getThing().getStatus().equals(ThingStatus.ONLINE)) {
                 updateControllerData();
+                getDeviceList(DEVICE_LIST_MAX_AGE_MILLIS);
             } else {
                 logger.debug("Polling not possible, bridge isn't ONLINE");
             }
@@ -352,27 +368,93 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
     /*******************************
      ******* DeviceList handling*****
      ********************************
-     * Updates the deviceList every time a
-     * ChildHandler is initialized or disposed
+     * The deviceList is cached for the channel refreshes and
+     * changed devices are passed to the device handlers
      */
 
     @Override
     public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
-        updateDeviceList();
+        if (childHandler instanceof ZWayDeviceHandler) {
+            deviceHandlers.add((ZWayDeviceHandler) childHandler);
+        }
     }
 
     @Override
     public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
-        updateDeviceList();
+        deviceHandlers.remove(childHandler);
     }
 
-    private void updateDeviceList() {
-        if (mZWayApi != null) {
-            logger.debug("ChildHandler changed. Updating device List");
-            deviceList = mZWayApi.getDevices();
-        } else {
+    /**
+     * Returns the device list of the Z-Way server. The device list will be loaded only if not loaded before or if the
+     * cached device list is older than the given age.
+     *
+     * @param maxAgeMillis maximum age of the cached device list
+     * @return the device list or null if not loaded
+     */
+    private DeviceList getDeviceList(long maxAgeMillis) {
+        synchronized (deviceListLock) {
+            if (isDeviceListCached(maxAgeMillis)) {
+                return deviceList;
+            }
+        }
+
+        return loadDeviceList(maxAgeMillis);
+    }
+
+    private boolean isDeviceListCached(long maxAgeMillis) {
+        return deviceList != null && System.currentTimeMillis() - deviceListTimestamp <= maxAgeMillis;
+    }
+
+    /**
+     * Loads the device list from the Z-Way server and passes the devices with a changed update time to the device
+     * handlers. If another thread loaded the device list while this one waited for the lock, the cached device list
+     * is returned instead of loading it again.
+     *
+     * @param maxAgeMillis maximum age of the cached device list, 0 to always load
+     * @return the device list or null if not loaded
+     */
+    private DeviceList loadDeviceList(long maxAgeMillis) {
+        if (mZWayApi == null) {
             logger.debug("Bridge Handler not online. No update of device list performed.");
+            return null;
         }
+
+        Map<String, Device> changedDevices = new HashMap<>();
+        DeviceList loadedDeviceList;
+
+        synchronized (deviceListLock) {
+            if (maxAgeMillis > 0 && isDeviceListCached(maxAgeMillis)) {
+                return deviceList;
+            }
+
+            loadedDeviceList = mZWayApi.getDevices();
+            if (loadedDeviceList == null) {
+                return deviceList;
+            }
+
+            Map<String, Integer> updateTimes = new HashMap<>();
+            for (Device device : loadedDeviceList.getDevices()) {
+                updateTimes.put(device.getDeviceId(), device.getUpdateTime());
+
+                if (!Objects.equals(deviceUpdateTimes.get(device.getDeviceId()), device.getUpdateTime())) {
+                    changedDevices.put(device.getDeviceId(), device);
+                }
+            }
+
+            deviceList = loadedDeviceList;
+            deviceListTimestamp = System.currentTimeMillis();
+            deviceUpdateTimes = updateTimes;
+        }
+
+        if (!changedDevices.isEmpty()) {
+            logger.debug("Device list loaded, {} changed devices", changedDevices.size());
+
+            for (ZWayDeviceHandler handler : deviceHandlers) {
+                handler.updateDevices(changedDevices);
+            }
+        }
+
+        return loadedDeviceList;
     }
 
     private ZWayBridgeConfiguration loadAndCheckConfiguration() {
@@ -428,8 +510,18 @@ public class ZWayBridgeHandler extends BaseBridgeHandler implements IZWayApiCall
         return mZWayApi;
     }
 
+    /**
+     * @return cached device list, loaded only if not loaded before
+     */
     public DeviceList getDeviceList() {
-        return deviceList;
+        return getDeviceList(Long.MAX_VALUE);
+    }
+
+    /**
+     * @return cached device list, reloaded if older than a few seconds
+     */
+    public DeviceList getCurrentDeviceList() {
+        return getDeviceList(DEVICE_LIST_MAX_AGE_MILLIS);
     }
 
     /********************************
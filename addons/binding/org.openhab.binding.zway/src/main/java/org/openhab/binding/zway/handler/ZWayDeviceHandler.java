@@ -277,8 +277,8 @@ public abstract class ZWayDeviceHandler extends BaseThingHandler {
         // Check device id associated with channel
         String deviceId = channel.getProperties().get("deviceId");
         if (deviceId != null) {
-            // Load and check device from Z-Way server
-            DeviceList deviceList = zwayBridgeHandler.getZWayApi().getDevices();
+            // Load and check device from the device list cached by the bridge
+            DeviceList deviceList = zwayBridgeHandler.getCurrentDeviceList();
             if (deviceList != null) {
                 // 1.) Load only the current value from Z-Way server
                 Device device = deviceList.getDeviceById(deviceId);
@@ -287,19 +287,7 @@ public abstract class ZWayDeviceHandler extends BaseThingHandler {
                     return;
                 }
 
-                try {
-                    updateState(channel.getUID(), ZWayDeviceStateConverter.toState(device, channel));
-                } catch (IllegalArgumentException iae) {
-                    logger.debug(
-                            "IllegalArgumentException ({}) during refresh channel for device: {} (level: {}) with channel: {}",
-                            iae.getMessage(), device.getMetrics().getTitle(), device.getMetrics().getLevel(),
-                            channel.getChannelTypeUID());
-
-                    updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.NONE,
-                            "Channel refresh for device: " + device.getMetrics().getTitle() + " (level: "
-                                    + device.getMetrics().getLevel() + ") with channel: " + channel.getChannelTypeUID()
-                                    + " failed!");
-                }
+                updateChannelState(channel, device);
                 // 2.) Trigger update function, soon as the value has been updated, openHAB will be notified
                 try {
                     device.update();
@@ -326,6 +314,43 @@ public abstract class ZWayDeviceHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Updates the linked channels of the changed devices. Called by the bridge when the device list was loaded.
+     *
+     * @param changedDevices changed devices by device id
+     */
+    protected void updateDevices(Map<String, Device> changedDevices) {
+        if (!getThing().getStatus().equals(ThingStatus.ONLINE)) {
+            return;
+        }
+
+        for (Channel channel : getThing().getChannels()) {
+            String deviceId = channel.getProperties().get("deviceId");
+            Device device = deviceId != null ? changedDevices.get(deviceId) : null;
+
+            if (device != null && isLinked(channel.getUID().getId())) {
+                logger.debug("Update channel {} of changed device {}", channel.getLabel(), deviceId);
+                updateChannelState(channel, device);
+            }
+        }
+    }
+
+    private void updateChannelState(Channel channel, Device device) {
+        try {
+            updateState(channel.getUID(), ZWayDeviceStateConverter.toState(device, channel));
+        } catch (IllegalArgumentException iae) {
+            logger.debug(
+                    "IllegalArgumentException ({}) during refresh channel for device: {} (level: {}) with channel: {}",
+                    iae.getMessage(), device.getMetrics().getTitle(), device.getMetrics().getLevel(),
+                    channel.getChannelTypeUID());
+
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.NONE,
+                    "Channel refresh for device: " + device.getMetrics().getTitle() + " (level: "
+                            + device.getMetrics().getLevel() + ") with channel: " + channel.getChannelTypeUID()
+                            + " failed!");
+        }
+    }
+
     @Override
     public void channelLinked(ChannelUID channelUID) {
         logger.debug("Z-Way device channel linked: {}", channelUID);
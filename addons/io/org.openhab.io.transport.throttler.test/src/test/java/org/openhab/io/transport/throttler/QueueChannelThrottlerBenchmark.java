@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.throttler;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the scheduling overhead of the {@link QueueChannelThrottler}, i.e. the time to reserve a call time with
+ * the rates of a cloud API, from one and from several threads. It is not part of the default test run, run it with
+ * <code>mvn test -Dtest=QueueChannelThrottlerBenchmark</code>.
+ *
+ * @author agent - Initial contribution
+ */
+public class QueueChannelThrottlerBenchmark {
+
+    private final Logger logger = LoggerFactory.getLogger(QueueChannelThrottlerBenchmark.class);
+
+    private static final String DATA = "data";
+    private static final int WARMUP_CALLS = 100000;
+    private static final int MEASURED_CALLS = 1000000;
+    private static final int THREADS = 4;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void singleThreadCallTime() {
+        QueueChannelThrottler throttler = createThrottler();
+        reserve(throttler, WARMUP_CALLS);
+
+        long start = System.nanoTime();
+        reserve(throttler, MEASURED_CALLS);
+        long nanos = System.nanoTime() - start;
+
+        logger.info("Reserved {} call times in {} ms, {} ns per call", MEASURED_CALLS,
+                TimeUnit.NANOSECONDS.toMillis(nanos), nanos / MEASURED_CALLS);
+    }
+
+    @Test
+    public void contendedCallTime() throws InterruptedException {
+        QueueChannelThrottler throttler = createThrottler();
+        reserve(throttler, WARMUP_CALLS);
+
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Thread thread = new Thread(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                reserve(throttler, MEASURED_CALLS / THREADS);
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        ready.await();
+
+        long startTime = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long nanos = System.nanoTime() - startTime;
+
+        logger.info("Reserved {} call times from {} threads in {} ms, {} ns per call", MEASURED_CALLS, THREADS,
+                TimeUnit.NANOSECONDS.toMillis(nanos), nanos / MEASURED_CALLS);
+    }
+
+    private QueueChannelThrottler createThrottler() {
+        Map<Object, Rate> channels = new HashMap<>();
+        channels.put(DATA, new Rate(1, 1, TimeUnit.SECONDS));
+        QueueChannelThrottler throttler = new QueueChannelThrottler(new Rate(20, 1, TimeUnit.MINUTES), scheduler,
+                channels);
+        throttler.addRate(new Rate(200, 10, TimeUnit.MINUTES));
+        return throttler;
+    }
+
+    private static void reserve(QueueChannelThrottler throttler, int calls) {
+        for (int i = 0; i < calls; i++) {
+            assertTrue(throttler.getThrottleDelay(DATA) >= 0);
+        }
+    }
+}
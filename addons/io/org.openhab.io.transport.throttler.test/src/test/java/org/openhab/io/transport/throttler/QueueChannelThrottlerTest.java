@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.throttler;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link QueueChannelThrottler} with a {@link TestClock}.
+ *
+ * @author agent - Initial contribution
+ */
+public class QueueChannelThrottlerTest {
+
+    private static final String DATA = "data";
+    private static final String COMMAND = "command";
+
+    private final TestClock clock = new TestClock();
+    private final List<String> executed = new ArrayList<>();
+    private final List<Long> executionTimes = new ArrayList<>();
+    private QueueChannelThrottler throttler;
+
+    @Before
+    public void setUp() {
+        Map<Object, Rate> channels = new HashMap<>();
+        channels.put(DATA, new Rate(1, 1, TimeUnit.SECONDS));
+        channels.put(COMMAND, new Rate(20, 1, TimeUnit.MINUTES));
+
+        throttler = new QueueChannelThrottler(new Rate(1, 1, TimeUnit.SECONDS), clock, channels, clock, 10);
+        throttler.addPriorityChannel(COMMAND);
+    }
+
+    @Test
+    public void callsAreSpacedByTheRate() {
+        submit(DATA, "poll1");
+        submit(DATA, "poll2");
+        submit(DATA, "poll3");
+
+        clock.advance(10000);
+
+        assertEquals(Arrays.asList("poll1", "poll2", "poll3"), executed);
+        assertEquals(Arrays.asList(0L, 1001L, 2002L), executionTimes);
+    }
+
+    @Test
+    public void commandsRunBeforeQueuedPolls() {
+        submit(DATA, "poll1");
+        submit(DATA, "poll2");
+        submit(DATA, "poll3");
+        submit(COMMAND, "command");
+
+        clock.advance(10000);
+
+        assertEquals(Arrays.asList("command", "poll1", "poll2", "poll3"), executed);
+    }
+
+    @Test
+    public void commandSubmittedWhileWaitingRunsNext() {
+        submit(DATA, "poll1");
+        submit(DATA, "poll2");
+        submit(DATA, "poll3");
+        clock.advance(0);
+
+        submit(COMMAND, "command");
+        clock.advance(10000);
+
+        assertEquals(Arrays.asList("poll1", "command", "poll2", "poll3"), executed);
+    }
+
+    @Test
+    public void pauseAfterTooManyRequestsPostponesNewCalls() {
+        submit(DATA, "poll1");
+        clock.advance(0);
+
+        // HTTP 429 with "Retry-After: 5"
+        throttler.pause(TimeUnit.SECONDS.toMillis(5));
+        submit(DATA, "poll2");
+
+        clock.advance(4999);
+        assertEquals(Arrays.asList("poll1"), executed);
+
+        clock.advance(1);
+        assertEquals(Arrays.asList("poll1", "poll2"), executed);
+        assertEquals(Long.valueOf(5000), executionTimes.get(1));
+    }
+
+    @Test
+    public void pauseAfterTooManyRequestsPostponesQueuedCalls() {
+        submit(DATA, "poll1");
+        submit(DATA, "poll2");
+        clock.advance(0);
+
+        throttler.pause(TimeUnit.SECONDS.toMillis(5));
+
+        clock.advance(4999);
+        assertEquals(Arrays.asList("poll1"), executed);
+
+        clock.advance(1);
+        assertEquals(Arrays.asList("poll1", "poll2"), executed);
+    }
+
+    @Test
+    public void concurrentSubmitsGetDistinctCallTimes() throws InterruptedException {
+        QueueChannelThrottler fastThrottler = new QueueChannelThrottler(new Rate(1, 10, TimeUnit.MILLISECONDS), clock,
+                new HashMap<>(), clock, 1000);
+        int threadCount = 8;
+        int callsPerThread = 50;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int j = 0; j < callsPerThread; j++) {
+                    fastThrottler.submit(() -> executionTimes.add(clock.getCurrentTimeInMillis()));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        clock.advance(threadCount * callsPerThread * 11);
+
+        assertEquals(threadCount * callsPerThread, executionTimes.size());
+        for (int i = 0; i < executionTimes.size(); i++) {
+            assertEquals(Long.valueOf(i * 11), executionTimes.get(i));
+        }
+    }
+
+    private void submit(String channel, String name) {
+        assertNotNull(throttler.submit(channel, () -> {
+            executed.add(name);
+            executionTimes.add(clock.getCurrentTimeInMillis());
+        }));
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.throttler;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests the call histories of a {@link Rate}.
+ *
+ * @author agent - Initial contribution
+ */
+public class RateTest {
+
+    private final Rate rate = new Rate(2, 1, TimeUnit.SECONDS);
+
+    @Test
+    public void callsWithinTheQuotaAreNotDelayed() {
+        long[] history = rate.addCall(new long[0], 0);
+
+        assertEquals(100, rate.callTime(history, 100));
+    }
+
+    @Test
+    public void callAfterTheQuotaWaitsForTheWindow() {
+        long[] history = rate.addCall(rate.addCall(new long[0], 0), 100);
+
+        assertEquals(1001, rate.callTime(history, 200));
+        assertEquals(1500, rate.callTime(history, 1500));
+    }
+
+    @Test
+    public void historyKeepsTheLatestCalls() {
+        long[] history = new long[0];
+        for (long time : new long[] { 0, 1001, 2002 }) {
+            history = rate.addCall(history, time);
+        }
+
+        assertArrayEquals(new long[] { 1001, 2002 }, history);
+        assertEquals(2002, rate.callTime(history, 2002));
+    }
+
+    @Test
+    public void callsAddedOutOfOrderAreSorted() {
+        long[] history = rate.addCall(rate.addCall(new long[0], 5000), 1000);
+
+        assertArrayEquals(new long[] { 1000, 5000 }, history);
+        assertEquals(2001, rate.callTime(history, 0));
+    }
+
+    @Test
+    public void callBeforeAllLatestCallsIsDropped() {
+        long[] history = rate.addCall(rate.addCall(new long[0], 3000), 5000);
+
+        assertSame(history, rate.addCall(history, 1000));
+    }
+
+    @Test
+    public void addCallDoesNotModifyTheHistory() {
+        long[] history = rate.addCall(rate.addCall(new long[0], 0), 100);
+
+        rate.addCall(history, 50);
+
+        assertArrayEquals(new long[] { 0, 100 }, history);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rateWithoutCallsIsRejected() {
+        new Rate(0, 1, TimeUnit.SECONDS);
+    }
+}
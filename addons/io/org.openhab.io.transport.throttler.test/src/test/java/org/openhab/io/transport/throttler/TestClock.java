@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.throttler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link TestClock} is a manually advanced clock together with a scheduler that runs the scheduled tasks when
+ * the clock passes their time, so throttling can be tested without waiting.
+ *
+ * @author agent - Initial contribution
+ */
+class TestClock extends AbstractExecutorService implements TimeProvider, ScheduledExecutorService {
+
+    private final PriorityQueue<ScheduledTask<?>> scheduledTasks = new PriorityQueue<>();
+    private long now;
+    private long sequence;
+    private boolean shutdown;
+
+    @Override
+    public long getCurrentTimeInMillis() {
+        return now;
+    }
+
+    /**
+     * Advances the clock, running all tasks scheduled up to the new time in the order of their time.
+     *
+     * @param millis the time to advance the clock by
+     */
+    public void advance(long millis) {
+        long target = now + millis;
+        ScheduledTask<?> task;
+        while ((task = nextTask(target)) != null) {
+            now = task.time;
+            task.run();
+        }
+        now = target;
+    }
+
+    private synchronized ScheduledTask<?> nextTask(long target) {
+        ScheduledTask<?> task = scheduledTasks.peek();
+        return task != null && task.time <= target ? scheduledTasks.poll() : null;
+    }
+
+    private synchronized <V> ScheduledTask<V> add(ScheduledTask<V> task) {
+        // tasks scheduled for the same time run in the order they were scheduled
+        task.order = sequence++;
+        scheduledTasks.add(task);
+        return task;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return add(new ScheduledTask<>(command, null, now + unit.toMillis(delay), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        return add(new ScheduledTask<>(callable, now + unit.toMillis(delay)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("The period must be positive");
+        }
+        return add(new ScheduledTask<>(command, null, now + unit.toMillis(initialDelay), unit.toMillis(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
+            TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("The delay must be positive");
+        }
+        return add(new ScheduledTask<>(command, null, now + unit.toMillis(initialDelay), -unit.toMillis(delay)));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        schedule(command, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        synchronized (this) {
+            List<Runnable> tasks = new ArrayList<>(scheduledTasks);
+            scheduledTasks.clear();
+            return tasks;
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && scheduledTasks.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+        return isTerminated();
+    }
+
+    private class ScheduledTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+        private long time;
+        private long order;
+        // positive for a fixed rate, negative for a fixed delay, 0 for a task that runs once
+        private final long period;
+
+        ScheduledTask(Runnable runnable, V result, long time, long period) {
+            super(runnable, result);
+            this.time = time;
+            this.period = period;
+        }
+
+        ScheduledTask(Callable<V> callable, long time) {
+            super(callable);
+            this.time = time;
+            this.period = 0;
+        }
+
+        @Override
+        public void run() {
+            if (period == 0) {
+                super.run();
+            } else if (runAndReset()) {
+                time = period > 0 ? time + period : now - period;
+                add(this);
+            }
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(time - now, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            ScheduledTask<?> task = (ScheduledTask<?>) other;
+            int result = Long.compare(time, task.time);
+            return result != 0 ? result : Long.compare(order, task.order);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.throttler;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests the scheduling of the {@link TestClock}.
+ *
+ * @author agent - Initial contribution
+ */
+public class TestClockTest {
+
+    private final TestClock clock = new TestClock();
+    private final List<Long> executionTimes = new ArrayList<>();
+
+    @Test
+    public void fixedRateTaskRunsEveryPeriod() {
+        clock.scheduleAtFixedRate(this::record, 100, 1000, TimeUnit.MILLISECONDS);
+
+        clock.advance(3100);
+
+        assertEquals(Arrays.asList(100L, 1100L, 2100L, 3100L), executionTimes);
+    }
+
+    @Test
+    public void fixedDelayTaskWaitsAfterEachRun() {
+        clock.scheduleWithFixedDelay(() -> {
+            record();
+            clock.advance(10);
+        }, 0, 1000, TimeUnit.MILLISECONDS);
+
+        clock.advance(2100);
+
+        assertEquals(Arrays.asList(0L, 1010L, 2020L), executionTimes);
+    }
+
+    @Test
+    public void cancelledPeriodicTaskStops() {
+        ScheduledFuture<?> future = clock.scheduleAtFixedRate(this::record, 0, 1000, TimeUnit.MILLISECONDS);
+        clock.advance(1000);
+
+        future.cancel(false);
+        clock.advance(5000);
+
+        assertEquals(Arrays.asList(0L, 1000L), executionTimes);
+    }
+
+    private void record() {
+        executionTimes.add(clock.getCurrentTimeInMillis());
+    }
+}
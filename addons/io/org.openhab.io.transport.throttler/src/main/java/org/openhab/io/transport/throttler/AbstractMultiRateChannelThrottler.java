@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.throttler;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The {@link AbstractMultiRateChannelThrottler} is abstract class implementing
+ * a throttler with multiple global execution rates, or rate limiters
+ *
+ * The calls made so far are kept in an immutable {@link CallSchedule}, which is replaced with compare and set, so
+ * submitting threads never block each other while the call times are computed.
+ *
+ * @author Karel Goderis - Initial contribution
+ */
+abstract class AbstractMultiRateChannelThrottler implements ChannelThrottler {
+
+    protected final TimeProvider timeProvider;
+    protected final ScheduledExecutorService scheduler;
+    protected final Map<Object, Rate> channels = new HashMap<>();
+    private final AtomicReference<CallSchedule> schedule;
+
+    protected AbstractMultiRateChannelThrottler(Rate rate, ScheduledExecutorService scheduler,
+            Map<Object, Rate> channels, TimeProvider timeProvider) {
+        this.scheduler = scheduler;
+        this.channels.putAll(channels);
+        this.timeProvider = timeProvider;
+        this.schedule = new AtomicReference<>(new CallSchedule(rate));
+    }
+
+    public void addRate(Rate rate) {
+        schedule.updateAndGet(current -> current.withRate(rate));
+    }
+
+    /**
+     * Postpones all calls that are not yet scheduled, e.g. when the server responds with HTTP 429 Too Many Requests
+     *
+     * @param delay the time to wait, in milliseconds
+     */
+    public void pause(long delay) {
+        long pausedUntil = timeProvider.getCurrentTimeInMillis() + delay;
+        schedule.updateAndGet(current -> current.withPause(pausedUntil));
+    }
+
+    protected long getPausedUntil() {
+        return schedule.get().pausedUntil;
+    }
+
+    /**
+     * Reserves the earliest time at which a call is allowed by all global rates and the rate of the channel
+     *
+     * @param channelKey the channel of the call, or null if the call belongs to no channel
+     * @return the time of the call
+     */
+    protected long callTime(Object channelKey) {
+        Rate channel = channelKey != null ? channels.get(channelKey) : null;
+        long now = timeProvider.getCurrentTimeInMillis();
+        CallSchedule current;
+        CallSchedule next;
+        do {
+            current = schedule.get();
+            next = current.withCall(channel, now);
+        } while (!schedule.compareAndSet(current, next));
+        return next.lastCallTime;
+    }
+
+    protected long getThrottleDelay(Object channelKey) {
+        long delay = callTime(channelKey) - timeProvider.getCurrentTimeInMillis();
+        return delay < 0 ? 0 : delay;
+    }
+
+    /**
+     * The {@link CallSchedule} holds the call histories of all rates. It is never modified, every call creates a new
+     * schedule.
+     */
+    private static final class CallSchedule {
+
+        private static final long[] NO_CALLS = new long[0];
+
+        private final Rate[] rates;
+        private final long[][] rateCalls;
+        private final Map<Rate, long[]> channelCalls;
+        // no calls are scheduled before this time, e.g. after the server asked to slow down
+        private final long pausedUntil;
+        private final long lastCallTime;
+
+        CallSchedule(Rate rate) {
+            this(new Rate[] { rate }, new long[][] { NO_CALLS }, new IdentityHashMap<>(), 0, 0);
+        }
+
+        private CallSchedule(Rate[] rates, long[][] rateCalls, Map<Rate, long[]> channelCalls, long pausedUntil,
+                long lastCallTime) {
+            this.rates = rates;
+            this.rateCalls = rateCalls;
+            this.channelCalls = channelCalls;
+            this.pausedUntil = pausedUntil;
+            this.lastCallTime = lastCallTime;
+        }
+
+        CallSchedule withRate(Rate rate) {
+            Rate[] newRates = Arrays.copyOf(rates, rates.length + 1);
+            newRates[rates.length] = rate;
+            long[][] newRateCalls = Arrays.copyOf(rateCalls, rateCalls.length + 1);
+            newRateCalls[rateCalls.length] = NO_CALLS;
+            return new CallSchedule(newRates, newRateCalls, channelCalls, pausedUntil, lastCallTime);
+        }
+
+        CallSchedule withPause(long until) {
+            return until > pausedUntil ? new CallSchedule(rates, rateCalls, channelCalls, until, lastCallTime) : this;
+        }
+
+        CallSchedule withCall(Rate channel, long now) {
+            long start = Math.max(now, pausedUntil);
+            long callTime = start;
+            for (int i = 0; i < rates.length; i++) {
+                callTime = Math.max(callTime, rates[i].callTime(rateCalls[i], start));
+            }
+
+            Map<Rate, long[]> newChannelCalls = channelCalls;
+            if (channel != null) {
+                long[] calls = channelCalls.getOrDefault(channel, NO_CALLS);
+                callTime = Math.max(callTime, channel.callTime(calls, start));
+                newChannelCalls = new IdentityHashMap<>(channelCalls);
+                newChannelCalls.put(channel, channel.addCall(calls, callTime));
+            }
+
+            long[][] newRateCalls = new long[rates.length][];
+            for (int i = 0; i < rates.length; i++) {
+                newRateCalls[i] = rates[i].addCall(rateCalls[i], callTime);
+            }
+
+            return new CallSchedule(rates, newRateCalls, newChannelCalls, pausedUntil, callTime);
+        }
+    }
+}
@@ -6,11 +6,13 @@
  * which accompanies this distribution, and is available at
  * http://www.eclipse.org/legal/epl-v10.html
  */
-package org.openhab.binding.tesla.internal.throttler;
+package org.openhab.io.transport.throttler;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
@@ -33,12 +35,26 @@ public final class QueueChannelThrottler extends AbstractMultiRateChannelThrottl
 
     private static final int MAX_QUEUE_LENGTH = 150;
     private BlockingQueue<FutureTask<?>> tasks;
+    // tasks of priority channels, executed before the other tasks
+    private BlockingQueue<FutureTask<?>> priorityTasks;
+    private final Set<Object> priorityChannels = ConcurrentHashMap.newKeySet();
     private final Rate overallRate;
 
-    private final Runnable processQueueTask = () -> {
-        FutureTask<?> task = tasks.poll();
-        if (task != null && !task.isCancelled()) {
-            task.run();
+    private final Runnable processQueueTask = new Runnable() {
+        @Override
+        public void run() {
+            long delay = getPausedUntil() - timeProvider.getCurrentTimeInMillis();
+            if (delay > 0) {
+                scheduler.schedule(this, delay, TimeUnit.MILLISECONDS);
+                return;
+            }
+            FutureTask<?> task = priorityTasks.poll();
+            if (task == null) {
+                task = tasks.poll();
+            }
+            if (task != null && !task.isCancelled()) {
+                task.run();
+            }
         }
     };
 
@@ -64,6 +80,17 @@ public final class QueueChannelThrottler extends AbstractMultiRateChannelThrottl
         super(someRate, scheduler, channels, timeProvider);
         overallRate = someRate;
         tasks = new LinkedBlockingQueue<>(queueLength);
+        priorityTasks = new LinkedBlockingQueue<>(queueLength);
+    }
+
+    /**
+     * Marks a channel as priority channel. Its tasks are executed before the queued tasks of the other channels,
+     * e.g. to execute commands before polls.
+     *
+     * @param channelKey the channel
+     */
+    public void addPriorityChannel(Object channelKey) {
+        priorityChannels.add(channelKey);
     }
 
     @Override
@@ -76,11 +103,11 @@ public final class QueueChannelThrottler extends AbstractMultiRateChannelThrottl
     public Future<?> submit(Object channelKey, Runnable task) {
         FutureTask runTask = new FutureTask(task, null);
         try {
-            if (tasks.offer(runTask, overallRate.timeInMillis(), TimeUnit.MILLISECONDS)) {
-                long throttledTime = channelKey == null ? callTime(null) : callTime(channels.get(channelKey));
-                long now = timeProvider.getCurrentTimeInMillis();
-                scheduler.schedule(processQueueTask, throttledTime < now ? 0 : throttledTime - now,
-                        TimeUnit.MILLISECONDS);
+            BlockingQueue<FutureTask<?>> queue = channelKey != null && priorityChannels.contains(channelKey)
+                    ? priorityTasks
+                    : tasks;
+            if (queue.offer(runTask, overallRate.timeInMillis(), TimeUnit.MILLISECONDS)) {
+                scheduler.schedule(processQueueTask, getThrottleDelay(channelKey), TimeUnit.MILLISECONDS);
                 return runTask;
             } else {
                 logger.warn("The QueueThrottler can not take the task '{}' at this point in time", runTask.toString());
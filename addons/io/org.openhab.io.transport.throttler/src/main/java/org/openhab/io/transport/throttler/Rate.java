@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.throttler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link Rate} defines a rate limiter that accepts a number of calls to be
+ * executed in a given time length. If the quota of calls is used, then calls
+ * are scheduled for the next block of time. The window slides, so at most
+ * numberCalls calls are made in any time length, allowing a burst of up to
+ * numberCalls calls.
+ *
+ * A rate only holds the limits. The times of the calls are kept by the throttler, in call histories that are never
+ * modified, so the throttler can update all its rates at once without locking. Channels that share a {@link Rate}
+ * instance share its quota, e.g. all channels of one account.
+ *
+ * @author Karel Goderis - Initial contribution
+ */
+public final class Rate {
+
+    private final int numberCalls;
+    private final int timeLength;
+    private final TimeUnit timeUnit;
+
+    public Rate(int numberCalls, int timeLength, TimeUnit timeUnit) {
+        if (numberCalls < 1) {
+            throw new IllegalArgumentException("The number of calls must be at least 1");
+        }
+        this.numberCalls = numberCalls;
+        this.timeLength = timeLength;
+        this.timeUnit = timeUnit;
+    }
+
+    public int getNumberCalls() {
+        return numberCalls;
+    }
+
+    public long timeInMillis() {
+        return timeUnit.toMillis(timeLength);
+    }
+
+    /**
+     * Returns the earliest time, not before now, at which another call is allowed.
+     *
+     * @param callHistory the times of the latest calls in ascending order, as returned by
+     *            {@link #addCall(long[], long)}
+     * @param now the current time
+     */
+    long callTime(long[] callHistory, long now) {
+        if (callHistory.length < numberCalls) {
+            return now;
+        }
+        // the earliest of the latest numberCalls calls has to leave the time window first
+        return Math.max(now, callHistory[0] + timeInMillis() + 1);
+    }
+
+    /**
+     * Returns a new call history with the given call added. The history holds the latest numberCalls calls in
+     * ascending order. Calls may be added out of order, e.g. when a channel with a slower rate has scheduled a call
+     * after calls that are scheduled later on.
+     *
+     * @param callHistory the times of the latest calls in ascending order, which is not modified
+     * @param callTime the time of the call to add
+     */
+    long[] addCall(long[] callHistory, long callTime) {
+        int size = callHistory.length;
+        int position = size;
+        while (position > 0 && callHistory[position - 1] > callTime) {
+            position--;
+        }
+
+        long[] result;
+        if (size < numberCalls) {
+            result = new long[size + 1];
+            System.arraycopy(callHistory, 0, result, 0, position);
+            System.arraycopy(callHistory, position, result, position + 1, size - position);
+            result[position] = callTime;
+        } else if (position == 0) {
+            // the call is earlier than all latest calls, so it does not limit later calls
+            return callHistory;
+        } else {
+            // the earliest call drops out of the history
+            result = new long[size];
+            System.arraycopy(callHistory, 1, result, 0, position - 1);
+            System.arraycopy(callHistory, position, result, position, size - position);
+            result[position - 1] = callTime;
+        }
+        return result;
+    }
+}
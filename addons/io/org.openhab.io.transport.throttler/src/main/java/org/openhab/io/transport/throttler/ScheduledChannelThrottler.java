@@ -6,7 +6,7 @@
  * which accompanies this distribution, and is available at
  * http://www.eclipse.org/legal/epl-v10.html
  */
-package org.openhab.binding.tesla.internal.throttler;
+package org.openhab.io.transport.throttler;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -22,7 +22,7 @@ import java.util.concurrent.TimeUnit;
  *
  * @author Karel Goderis - Initial contribution
  */
-public final class ScheduledChannelThrottler extends AbstractChannelThrottler {
+public final class ScheduledChannelThrottler extends AbstractMultiRateChannelThrottler {
 
     public ScheduledChannelThrottler(Rate totalRate) {
         this(totalRate, Executors.newSingleThreadScheduledExecutor(), new HashMap<>(), TimeProvider.SYSTEM_PROVIDER);
@@ -43,15 +43,13 @@ public final class ScheduledChannelThrottler extends AbstractChannelThrottler {
     }
 
     public void submitSync(Runnable task) throws InterruptedException {
-        long delay = callTime(null) - timeProvider.getCurrentTimeInMillis();
-        Thread.sleep(getThrottleDelay(delay));
+        Thread.sleep(getThrottleDelay(null));
         task.run();
     }
 
     @Override
     public Future<?> submit(Runnable task) {
-        long delay = callTime(null) - timeProvider.getCurrentTimeInMillis();
-        return scheduler.schedule(task, delay < 0 ? 0 : delay, TimeUnit.MILLISECONDS);
+        return scheduler.schedule(task, getThrottleDelay(null), TimeUnit.MILLISECONDS);
     }
 
     @Override